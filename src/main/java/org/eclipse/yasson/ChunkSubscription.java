@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Demand control of serialization, which produces JSON document as a sequence of byte chunks.
+ * Serialization is suspended, when all requested chunks have been produced, until more chunks are requested.
+ * <p>
+ * Methods may be called from any thread, also from within the chunk consumer.
+ * </p>
+ */
+public interface ChunkSubscription {
+
+    /**
+     * Adds demand for chunks.
+     *
+     * @param count count of additional chunks, which may be produced
+     * @throws IllegalArgumentException if count is not positive
+     */
+    void request(long count);
+
+    /**
+     * Stops serialization, no more chunks are produced. Completion is cancelled, unless serialization has already completed.
+     */
+    void cancel();
+
+    /**
+     * Completed after the last chunk is consumed, exceptionally if serialization fails, or cancelled.
+     *
+     * @return completion of serialization
+     */
+    CompletableFuture<Void> getCompletion();
+}
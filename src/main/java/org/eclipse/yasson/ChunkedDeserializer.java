@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Push style deserializer, which is fed by chunks of JSON document as they arrive, for example from non-blocking I/O.
+ * No method blocks waiting for input.
+ * <p>
+ * Errors don't propagate to the caller of {@link #feed(ByteBuffer)} or {@link #complete()},
+ * result is completed exceptionally with {@link javax.json.bind.JsonbException} instead and further input is ignored.
+ * </p>
+ * <p>
+ * Not thread safe, chunks have to be fed sequentially.
+ * </p>
+ *
+ * @param <T> type of the result
+ */
+public interface ChunkedDeserializer<T> {
+
+    /**
+     * Consumes remaining bytes of the chunk. Buffer is not retained, it can be reused after the call.
+     *
+     * @param chunk next chunk of JSON document
+     */
+    void feed(ByteBuffer chunk);
+
+    /**
+     * Signals the end of input. Result is completed then, unless it is already completed exceptionally.
+     */
+    void complete();
+
+    /**
+     * Result of the deserialization, completed when the document is deserialized.
+     *
+     * @return future result
+     */
+    CompletableFuture<T> getResult();
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+
+package org.eclipse.yasson;
+
+/**
+ * Strategy used to read and write property values and to create instances during (de)serialization.
+ * Configured with {@link YassonProperties#PROPERTY_ACCESSOR_STRATEGY}.
+ */
+public enum PropertyAccessorStrategy {
+
+    /**
+     * Properties are accessed with {@link java.lang.reflect.Field} and {@link java.lang.reflect.Method} reflection.
+     * This is the default.
+     */
+    REFLECTION,
+
+    /**
+     * Properties are accessed with {@link java.lang.invoke.MethodHandle method handles}.
+     */
+    METHOD_HANDLE,
+
+    /**
+     * Getters, setters and no argument constructors are bound to functions generated
+     * with {@link java.lang.invoke.LambdaMetafactory}, which invoke them directly.
+     * Falls back to reflection for fields and for members, which are not accessible from Yasson
+     * by module or class loader rules.
+     */
+    LAMBDA
+}
@@ -13,7 +13,17 @@ import javax.json.JsonStructure;
 import javax.json.bind.JsonbException;
 import javax.json.stream.JsonGenerator;
 import javax.json.stream.JsonParser;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adds methods to Jsonb that are operating directly with {@link JsonGenerator} or {@link JsonParser} types.
@@ -25,6 +35,10 @@ import java.lang.reflect.Type;
  * <p>
  * This interface accepts instantiated generators and parsers with different input / output sources.
  * </p>
+ * <p>
+ * Byte oriented methods read and write JSON encoded with {@link javax.json.bind.JsonbConfig#ENCODING},
+ * UTF-8 by default, without intermediate {@link String} copies of the document.
+ * </p>
  */
 public interface YassonJsonb extends javax.json.bind.Jsonb {
 
@@ -190,4 +204,766 @@ public interface YassonJsonb extends javax.json.bind.Jsonb {
      * @since JSON Binding 1.0
      */
     JsonStructure toJsonStructure (Object object, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from a byte array and return the resulting content tree.
+     * Bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param bytes
+     *      The byte array to read JSON data from, not copied.
+     * @param type
+     *      Type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> T fromJson(byte[] bytes, Class<T> type) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from a byte array and return the resulting content tree.
+     * Bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param bytes
+     *      The byte array to read JSON data from, not copied.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> T fromJson(byte[] bytes, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data between position and limit of a {@link ByteBuffer} and return the resulting content tree.
+     * Bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * Heap and direct buffers are supported, position of the buffer is not changed.
+     *
+     * @param buffer
+     *      The buffer to read JSON data from, must not be modified during deserialization.
+     * @param type
+     *      Type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> T fromJson(ByteBuffer buffer, Class<T> type) throws JsonbException;
+
+    /**
+     * Reads in a JSON data between position and limit of a {@link ByteBuffer} and return the resulting content tree.
+     * Bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * Heap and direct buffers are supported, position of the buffer is not changed.
+     *
+     * @param buffer
+     *      The buffer to read JSON data from, must not be modified during deserialization.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from a file and return the resulting content tree.
+     * File is read through memory mapped windows, so files larger than 2 GB are supported.
+     * Bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param path
+     *      The file to read JSON data from.
+     * @param type
+     *      Type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, or if the file cannot be read.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> T fromJson(Path path, Class<T> type) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from a file and return the resulting content tree.
+     * File is read through memory mapped windows, so files larger than 2 GB are supported.
+     * Bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param path
+     *      The file to read JSON data from.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, or if the file cannot be read.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> T fromJson(Path path, Type runtimeType) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a byte array.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     *
+     * @return The JSON document encoded into bytes.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    byte[] toJsonBytes(Object object) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a byte array.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     *
+     * @return The JSON document encoded into bytes.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    byte[] toJsonBytes(Object object, Type runtimeType) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a {@link ByteBuffer}, starting at its position.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * On completion position of the buffer is advanced by the number of bytes written.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param buffer
+     *      The heap or direct buffer to write JSON data to.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization, or if the document doesn't fit into remaining space of the buffer.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJson(Object object, ByteBuffer buffer) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a {@link ByteBuffer}, starting at its position.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * On completion position of the buffer is advanced by the number of bytes written.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param buffer
+     *      The heap or direct buffer to write JSON data to.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization, or if the document doesn't fit into remaining space of the buffer.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJson(Object object, Type runtimeType, ByteBuffer buffer) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a blocking {@link WritableByteChannel}.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param channel
+     *      The channel to write JSON data to. The channel is not closed
+     *      on a completion for further interaction.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJson(Object object, WritableByteChannel channel) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a blocking {@link WritableByteChannel}.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param channel
+     *      The channel to write JSON data to. The channel is not closed
+     *      on a completion for further interaction.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJson(Object object, Type runtimeType, WritableByteChannel channel) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a file, which is created or truncated.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default,
+     * and written directly to the file channel.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param path
+     *      The file to write JSON data to.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization, or if the file cannot be written.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJson(Object object, Path path) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a file, which is created or truncated.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default,
+     * and written directly to the file channel.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param path
+     *      The file to write JSON data to.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization, or if the file cannot be written.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJson(Object object, Type runtimeType, Path path) throws JsonbException;
+
+    /**
+     * Reads elements of a top level JSON array lazily, one element at a time.
+     * Only the element currently deserialized is held in memory, so arrays larger than available heap can be read.
+     * {@link Stream#iterator()} can be used to pull the elements without stream pipeline.
+     * <p>
+     * Input is closed when all elements are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing element is pulled.
+     * </p>
+     *
+     * @param stream
+     *      The stream to read JSON array from, bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * @param elementType
+     *      Type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return sequential ordered stream of deserialized elements
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, or if JSON document is not an array.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonStream(InputStream stream, Class<T> elementType) throws JsonbException;
+
+    /**
+     * Reads elements of a top level JSON array lazily, one element at a time.
+     * Only the element currently deserialized is held in memory, so arrays larger than available heap can be read.
+     * {@link Stream#iterator()} can be used to pull the elements without stream pipeline.
+     * <p>
+     * Input is closed when all elements are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing element is pulled.
+     * </p>
+     *
+     * @param stream
+     *      The stream to read JSON array from, bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * @param elementType
+     *      Runtime type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return sequential ordered stream of deserialized elements
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, or if JSON document is not an array.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonStream(InputStream stream, Type elementType) throws JsonbException;
+
+    /**
+     * Reads elements of a top level JSON array in a file lazily, one element at a time.
+     * File is read through memory mapped windows, so only the element currently deserialized is held in memory
+     * and files larger than 2 GB are supported.
+     * {@link Stream#iterator()} can be used to pull the elements without stream pipeline.
+     * <p>
+     * File is closed when all elements are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing element is pulled.
+     * </p>
+     *
+     * @param path
+     *      The file to read JSON array from.
+     * @param elementType
+     *      Type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return sequential ordered stream of deserialized elements
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, if JSON document is not an array,
+     *     or if the file cannot be read.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonStream(Path path, Class<T> elementType) throws JsonbException;
+
+    /**
+     * Reads elements of a top level JSON array in a file lazily, one element at a time.
+     * File is read through memory mapped windows, so only the element currently deserialized is held in memory
+     * and files larger than 2 GB are supported.
+     * {@link Stream#iterator()} can be used to pull the elements without stream pipeline.
+     * <p>
+     * File is closed when all elements are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing element is pulled.
+     * </p>
+     *
+     * @param path
+     *      The file to read JSON array from.
+     * @param elementType
+     *      Runtime type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return sequential ordered stream of deserialized elements
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, if JSON document is not an array,
+     *     or if the file cannot be read.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonStream(Path path, Type elementType) throws JsonbException;
+
+    /**
+     * Reads elements of a top level JSON array lazily, one element at a time.
+     * Only the element currently deserialized is held in memory, so arrays larger than available heap can be read.
+     * {@link Stream#iterator()} can be used to pull the elements without stream pipeline.
+     * <p>
+     * Input is closed when all elements are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing element is pulled.
+     * </p>
+     *
+     * @param reader
+     *      The character stream to read JSON array from.
+     * @param elementType
+     *      Type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return sequential ordered stream of deserialized elements
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, or if JSON document is not an array.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonStream(Reader reader, Class<T> elementType) throws JsonbException;
+
+    /**
+     * Reads elements of a top level JSON array lazily, one element at a time.
+     * Only the element currently deserialized is held in memory, so arrays larger than available heap can be read.
+     * {@link Stream#iterator()} can be used to pull the elements without stream pipeline.
+     * <p>
+     * Input is closed when all elements are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing element is pulled.
+     * </p>
+     *
+     * @param reader
+     *      The character stream to read JSON array from.
+     * @param elementType
+     *      Runtime type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return sequential ordered stream of deserialized elements
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, or if JSON document is not an array.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonStream(Reader reader, Type elementType) throws JsonbException;
+
+    /**
+     * Reads newline delimited JSON (JSON Lines) lazily, one line at a time.
+     * Each line holds one JSON value, blank lines are skipped.
+     * All values are read by one parser and deserialized by one deserialization context,
+     * so only the value currently deserialized is held in memory.
+     * <p>
+     * Input is closed when all values are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing value is pulled.
+     * </p>
+     *
+     * @param stream
+     *      The stream to read JSON lines from, bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * @param type
+     *      Type of the values.
+     * @param <T>
+     *      Type of the values.
+     *
+     * @return sequential ordered stream of deserialized values
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonLines(InputStream stream, Class<T> type) throws JsonbException;
+
+    /**
+     * Reads newline delimited JSON (JSON Lines) lazily, one line at a time.
+     * Each line holds one JSON value, blank lines are skipped.
+     * All values are read by one parser and deserialized by one deserialization context,
+     * so only the value currently deserialized is held in memory.
+     * <p>
+     * Input is closed when all values are read, or when returned stream is closed.
+     * Deserialization errors are thrown when the failing value is pulled.
+     * </p>
+     *
+     * @param stream
+     *      The stream to read JSON lines from, bytes are decoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * @param runtimeType
+     *      Runtime type of the values.
+     * @param <T>
+     *      Type of the values.
+     *
+     * @return sequential ordered stream of deserialized values
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> Stream<T> fromJsonLines(InputStream stream, Type runtimeType) throws JsonbException;
+
+    /**
+     * Writes objects as newline delimited JSON (JSON Lines), each object on a separate line terminated by a new line.
+     * All objects are written by one generator within one serialization context.
+     * {@link javax.json.bind.JsonbConfig#FORMATTING} is ignored, as formatted values would span multiple lines.
+     * Stream is closed when all objects are written.
+     *
+     * @param objects
+     *      The objects to be serialized, iterated once.
+     * @param stream
+     *      The stream to write to, bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJsonLines(Iterable<?> objects, OutputStream stream) throws JsonbException;
+
+    /**
+     * Writes objects as newline delimited JSON (JSON Lines), each object on a separate line terminated by a new line.
+     * All objects are written by one generator within one serialization context.
+     * {@link javax.json.bind.JsonbConfig#FORMATTING} is ignored, as formatted values would span multiple lines.
+     * Stream is closed when all objects are written.
+     *
+     * @param objects
+     *      The objects to be serialized, iterated once.
+     * @param runtimeType
+     *      Runtime type of the objects.
+     * @param stream
+     *      The stream to write to, bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJsonLines(Iterable<?> objects, Type runtimeType, OutputStream stream) throws JsonbException;
+
+    /**
+     * Writes objects of a stream as newline delimited JSON (JSON Lines), each object on a separate line terminated by a new line.
+     * Objects are pulled from the stream one at a time and written by one generator within one serialization context.
+     * {@link javax.json.bind.JsonbConfig#FORMATTING} is ignored, as formatted values would span multiple lines.
+     * Output stream is closed when all objects are written.
+     *
+     * @param objects
+     *      The objects to be serialized, consumed by this method.
+     * @param stream
+     *      The stream to write to, bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJsonLines(Stream<?> objects, OutputStream stream) throws JsonbException;
+
+    /**
+     * Writes objects of a stream as newline delimited JSON (JSON Lines), each object on a separate line terminated by a new line.
+     * Objects are pulled from the stream one at a time and written by one generator within one serialization context.
+     * {@link javax.json.bind.JsonbConfig#FORMATTING} is ignored, as formatted values would span multiple lines.
+     * Output stream is closed when all objects are written.
+     *
+     * @param objects
+     *      The objects to be serialized, consumed by this method.
+     * @param runtimeType
+     *      Runtime type of the objects.
+     * @param stream
+     *      The stream to write to, bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    void toJsonLines(Stream<?> objects, Type runtimeType, OutputStream stream) throws JsonbException;
+
+    /**
+     * Creates a push style deserializer of a JSON document, which is fed by chunks as they arrive.
+     * Document is deserialized when input ends, so no thread is blocked waiting for input.
+     *
+     * @param type
+     *      Type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return deserializer to feed
+     *
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> ChunkedDeserializer<T> fromJsonChunks(Class<T> type);
+
+    /**
+     * Creates a push style deserializer of a JSON document, which is fed by chunks as they arrive.
+     * Document is deserialized when input ends, so no thread is blocked waiting for input.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return deserializer to feed
+     *
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> ChunkedDeserializer<T> fromJsonChunks(Type runtimeType);
+
+    /**
+     * Creates a push style deserializer of a top level JSON array, which is fed by chunks as they arrive.
+     * With UTF-8 {@link javax.json.bind.JsonbConfig#ENCODING} each element is passed to the consumer
+     * as soon as its last byte is fed and only the element being received is buffered.
+     * Result is the count of elements, completed when input ends.
+     *
+     * @param elementType
+     *      Type of the array elements.
+     * @param elementConsumer
+     *      Consumer of deserialized elements, called on the thread feeding the chunks.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return deserializer to feed
+     *
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> ChunkedDeserializer<Long> fromJsonArrayChunks(Class<T> elementType, Consumer<? super T> elementConsumer);
+
+    /**
+     * Creates a push style deserializer of a top level JSON array, which is fed by chunks as they arrive.
+     * With UTF-8 {@link javax.json.bind.JsonbConfig#ENCODING} each element is passed to the consumer
+     * as soon as its last byte is fed and only the element being received is buffered.
+     * Result is the count of elements, completed when input ends.
+     *
+     * @param elementType
+     *      Runtime type of the array elements.
+     * @param elementConsumer
+     *      Consumer of deserialized elements, called on the thread feeding the chunks.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return deserializer to feed
+     *
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> ChunkedDeserializer<Long> fromJsonArrayChunks(Type elementType, Consumer<? super T> elementConsumer);
+
+    /**
+     * Reads in a top level JSON array from the byte array and deserializes its elements in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool}. Element boundaries are found by a scan of structural bytes,
+     * then ranges of elements are deserialized concurrently and joined in order.
+     * Input is scanned only with UTF-8 {@link javax.json.bind.JsonbConfig#ENCODING},
+     * other encodings are deserialized sequentially.
+     *
+     * @param bytes
+     *      The byte array to read from.
+     * @param elementType
+     *      Type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return mutable list of elements in order of the array
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> List<T> parallelFromJson(byte[] bytes, Class<T> elementType) throws JsonbException;
+
+    /**
+     * Reads in a top level JSON array from the byte array and deserializes its elements in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool}. Element boundaries are found by a scan of structural bytes,
+     * then ranges of elements are deserialized concurrently and joined in order.
+     * Input is scanned only with UTF-8 {@link javax.json.bind.JsonbConfig#ENCODING},
+     * other encodings are deserialized sequentially.
+     *
+     * @param bytes
+     *      The byte array to read from.
+     * @param elementType
+     *      Runtime type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return mutable list of elements in order of the array
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> List<T> parallelFromJson(byte[] bytes, Type elementType) throws JsonbException;
+
+    /**
+     * Reads in a top level JSON array from the buffer and deserializes its elements in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool}. Element boundaries are found by a scan of structural bytes,
+     * then ranges of elements are deserialized concurrently and joined in order.
+     * Input is scanned only with UTF-8 {@link javax.json.bind.JsonbConfig#ENCODING},
+     * other encodings are deserialized sequentially.
+     *
+     * @param buffer
+     *      Buffer to read from its position to its limit, may be a mapped file buffer.
+     * @param elementType
+     *      Type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return mutable list of elements in order of the array
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> List<T> parallelFromJson(ByteBuffer buffer, Class<T> elementType) throws JsonbException;
+
+    /**
+     * Reads in a top level JSON array from the buffer and deserializes its elements in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool}. Element boundaries are found by a scan of structural bytes,
+     * then ranges of elements are deserialized concurrently and joined in order.
+     * Input is scanned only with UTF-8 {@link javax.json.bind.JsonbConfig#ENCODING},
+     * other encodings are deserialized sequentially.
+     *
+     * @param buffer
+     *      Buffer to read from its position to its limit, may be a mapped file buffer.
+     * @param elementType
+     *      Runtime type of the array elements.
+     * @param <T>
+     *      Type of the array elements.
+     *
+     * @return mutable list of elements in order of the array
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    <T> List<T> parallelFromJson(ByteBuffer buffer, Type elementType) throws JsonbException;
+
+    /**
+     * Serializes the object content tree into a sequence of byte chunks, produced only as they are requested
+     * through returned subscription. Serialization runs on the executor and is suspended while there is no demand,
+     * so a slow consumer neither blocks the calling thread nor makes the whole document buffered.
+     * <p>
+     * Chunks are passed to the consumer on the executor thread. Chunk buffers are pooled and have fixed size,
+     * except for the last one, consumer must not retain the buffer after it returns.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * </p>
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param executor
+     *      Executor to run serialization on.
+     * @param chunkConsumer
+     *      Consumer of produced chunks.
+     *
+     * @return subscription to request chunks and observe completion
+     *
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    ChunkSubscription toJsonChunks(Object object, Executor executor, Consumer<ByteBuffer> chunkConsumer);
+
+    /**
+     * Serializes the object content tree into a sequence of byte chunks, produced only as they are requested
+     * through returned subscription. Serialization runs on the executor and is suspended while there is no demand,
+     * so a slow consumer neither blocks the calling thread nor makes the whole document buffered.
+     * <p>
+     * Chunks are passed to the consumer on the executor thread. Chunk buffers are pooled and have fixed size,
+     * except for the last one, consumer must not retain the buffer after it returns.
+     * Bytes are encoded with charset of {@link javax.json.bind.JsonbConfig#ENCODING}, UTF-8 by default.
+     * </p>
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     * @param executor
+     *      Executor to run serialization on.
+     * @param chunkConsumer
+     *      Consumer of produced chunks.
+     *
+     * @return subscription to request chunks and observe completion
+     *
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     */
+    ChunkSubscription toJsonChunks(Object object, Type runtimeType, Executor executor, Consumer<ByteBuffer> chunkConsumer);
 }
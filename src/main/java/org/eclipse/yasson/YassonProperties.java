@@ -43,4 +43,26 @@ public class YassonProperties {
      * will be respective parameter.
      */
     public static final String NULL_ROOT_SERIALIZER = "yasson.null-root-serializer";
+
+    /**
+     * Strategy used to access properties and to create instances of deserialized classes.
+     * Must be instance of {@link PropertyAccessorStrategy} or its name.
+     * Default value is {@link PropertyAccessorStrategy#REFLECTION}.
+     */
+    public static final String PROPERTY_ACCESSOR_STRATEGY = "yasson.property-accessor-strategy";
+
+    /**
+     * Minimal count of elements of a collection or an object array, for which ranges of elements are serialized in parallel
+     * on the common {@link java.util.concurrent.ForkJoinPool} and then written in order.
+     * Must be an {@link Integer}, parallel serialization is disabled by default.
+     * It is used only for non formatted output generated by Yasson UTF-8 generator.
+     */
+    public static final String PARALLEL_SERIALIZATION_THRESHOLD = "yasson.parallel-serialization-threshold";
+
+    /**
+     * Declares serialized object trees acyclic, so instances processed by adapters and user serializers are not tracked
+     * to detect recursive references. Only their nesting depth is limited to the given value instead.
+     * Must be a positive {@link Integer}, objects are tracked by default.
+     */
+    public static final String ACYCLIC_MAX_DEPTH = "yasson.acyclic-max-depth";
 }
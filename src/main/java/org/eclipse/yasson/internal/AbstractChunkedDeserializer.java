@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.eclipse.yasson.ChunkedDeserializer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Common implementation of {@link ChunkedDeserializer}. Fed chunks are appended to a buffer,
+ * bytes which are not needed anymore are discarded by subclasses.
+ *
+ * @param <R> type of the result
+ */
+public abstract class AbstractChunkedDeserializer<R> implements ChunkedDeserializer<R> {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Unmarshaller used for the whole input.
+     */
+    protected final Unmarshaller unmarshaller;
+
+    private final Function<ByteBuffer, JsonbRiParser> parserFactory;
+
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+
+    /**
+     * Buffered input, bytes from 0 to {@link #size} are valid.
+     */
+    protected byte[] buffer = new byte[INITIAL_CAPACITY];
+
+    /**
+     * Count of buffered bytes.
+     */
+    protected int size;
+
+    /**
+     * Count of discarded bytes, offset of the buffer in the whole input.
+     */
+    protected long offset;
+
+    /**
+     * Creates an instance.
+     *
+     * @param unmarshaller unmarshaller used for the whole input
+     * @param parserFactory creates parser of buffered bytes
+     */
+    protected AbstractChunkedDeserializer(Unmarshaller unmarshaller, Function<ByteBuffer, JsonbRiParser> parserFactory) {
+        this.unmarshaller = unmarshaller;
+        this.parserFactory = parserFactory;
+    }
+
+    @Override
+    public final void feed(ByteBuffer chunk) {
+        if (result.isDone()) {
+            return;
+        }
+        final int length = chunk.remaining();
+        if (buffer.length - size < length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+        chunk.get(buffer, size, length);
+        size += length;
+        try {
+            consume();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public final void complete() {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            result.complete(finish());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<R> getResult() {
+        return result;
+    }
+
+    /**
+     * Processes buffered bytes after a chunk is appended. Does nothing by default, whole input is processed on completion.
+     */
+    protected void consume() {
+    }
+
+    /**
+     * Processes the rest of buffered bytes at the end of input.
+     *
+     * @return result of deserialization
+     */
+    protected abstract R finish();
+
+    /**
+     * Creates a parser of buffered bytes. Bytes are parsed in place, they must not be discarded while parsing.
+     *
+     * @param start start of JSON document in the buffer
+     * @param end end of JSON document in the buffer
+     * @return parser
+     */
+    protected JsonbRiParser createParser(int start, int end) {
+        return parserFactory.apply(ByteBuffer.wrap(buffer, start, end - start));
+    }
+
+    /**
+     * Discards bytes from the start of the buffer.
+     *
+     * @param count count of bytes to discard
+     */
+    protected void discard(int count) {
+        System.arraycopy(buffer, count, buffer, 0, size - count);
+        size -= count;
+        offset += count;
+    }
+}
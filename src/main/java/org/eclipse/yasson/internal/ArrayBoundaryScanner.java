@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
+
+/**
+ * Finds boundaries of elements of a top level JSON array in UTF-8 by tracking its structural bytes.
+ * <p>
+ * Bytes are passed one by one, so the input may arrive in any number of chunks. Elements are not validated,
+ * they are only delimited by commas and the closing bracket at the depth of the root array.
+ * </p>
+ */
+final class ArrayBoundaryScanner {
+
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /**
+     * Receives bounds of found elements.
+     */
+    interface ElementHandler {
+
+        /**
+         * Called for each element of the array.
+         *
+         * @param start position of the first byte after the opening bracket or preceding comma
+         * @param end position of the following comma or closing bracket
+         */
+        void element(int start, int end);
+    }
+
+    private final ElementHandler handler;
+
+    private int depth;
+
+    private boolean inString;
+
+    private boolean escaped;
+
+    private int byteOrderMarkLength;
+
+    private boolean rootStarted;
+
+    private boolean rootEnded;
+
+    /**
+     * Start of the element being scanned.
+     */
+    private int elementStart;
+
+    /**
+     * Non whitespace byte has been scanned since {@link #elementStart}.
+     */
+    private boolean elementSeen;
+
+    private long count;
+
+    /**
+     * Creates an instance.
+     *
+     * @param handler receives bounds of elements
+     */
+    ArrayBoundaryScanner(ElementHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Scans next byte of the input.
+     *
+     * @param b byte to scan
+     * @param position position of the byte used for bounds of elements
+     * @param inputPosition position of the byte from start of the input
+     */
+    void scan(byte b, int position, long inputPosition) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+            }
+            return;
+        }
+        if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+            return;
+        }
+        if (rootEnded) {
+            throw unexpected(b, inputPosition);
+        }
+        if (!rootStarted) {
+            startRoot(b, position, inputPosition);
+            return;
+        }
+        switch (b) {
+            case '"':
+                inString = true;
+                elementSeen = true;
+                break;
+            case '{':
+            case '[':
+                depth++;
+                elementSeen = true;
+                break;
+            case '}':
+            case ']':
+                if (depth == 1) {
+                    if (b == '}') {
+                        throw unexpected(b, inputPosition);
+                    }
+                    //empty array has no element, trailing comma leaves an empty one
+                    if (elementSeen || count > 0) {
+                        element(position);
+                    }
+                    rootEnded = true;
+                }
+                depth--;
+                break;
+            case ',':
+                if (depth == 1) {
+                    element(position);
+                    elementStart = position + 1;
+                }
+                break;
+            default:
+                elementSeen = true;
+                break;
+        }
+    }
+
+    private void startRoot(byte b, int position, long inputPosition) {
+        if (byteOrderMarkLength < BYTE_ORDER_MARK.length && inputPosition == byteOrderMarkLength
+                && b == BYTE_ORDER_MARK[byteOrderMarkLength]) {
+            byteOrderMarkLength++;
+            return;
+        }
+        if (byteOrderMarkLength > 0 && byteOrderMarkLength < BYTE_ORDER_MARK.length) {
+            throw unexpected(b, inputPosition);
+        }
+        if (b != '[') {
+            final JsonParser.Event rootEvent = rootEvent(b);
+            if (rootEvent == null) {
+                throw unexpected(b, inputPosition);
+            }
+            throw new JsonbException(Messages.getMessage(MessageKeys.STREAM_ROOT_NOT_ARRAY, rootEvent));
+        }
+        rootStarted = true;
+        depth = 1;
+        elementStart = position + 1;
+    }
+
+    /**
+     * Event of a root value starting with the byte, so root is reported the same way as by {@link ElementIterator}.
+     */
+    private static JsonParser.Event rootEvent(byte b) {
+        switch (b) {
+            case '{':
+                return JsonParser.Event.START_OBJECT;
+            case '"':
+                return JsonParser.Event.VALUE_STRING;
+            case 't':
+                return JsonParser.Event.VALUE_TRUE;
+            case 'f':
+                return JsonParser.Event.VALUE_FALSE;
+            case 'n':
+                return JsonParser.Event.VALUE_NULL;
+            case '-':
+                return JsonParser.Event.VALUE_NUMBER;
+            default:
+                return b >= '0' && b <= '9' ? JsonParser.Event.VALUE_NUMBER : null;
+        }
+    }
+
+    private void element(int end) {
+        count++;
+        elementSeen = false;
+        handler.element(elementStart, end);
+    }
+
+    /**
+     * Checks that whole array has been scanned.
+     *
+     * @throws JsonbException if input does not start with an array or the array is not closed
+     */
+    void finish() {
+        if (!rootStarted) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.STREAM_ROOT_NOT_ARRAY, (Object) null));
+        }
+        if (!rootEnded) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.CHUNK_INCOMPLETE_DOCUMENT));
+        }
+    }
+
+    /**
+     * Moves positions of scanned bytes, when bytes before them are discarded.
+     *
+     * @param discarded count of discarded bytes
+     */
+    void shift(int discarded) {
+        elementStart -= discarded;
+    }
+
+    /**
+     * Whether root array has been started and not yet ended, so bytes of its elements are expected.
+     *
+     * @return true if inside of the root array
+     */
+    boolean isInsideRoot() {
+        return rootStarted && !rootEnded;
+    }
+
+    /**
+     * Start of the element being scanned.
+     *
+     * @return start of the element being scanned
+     */
+    int getElementStart() {
+        return elementStart;
+    }
+
+    private static JsonbException unexpected(byte b, long inputPosition) {
+        return new JsonbException(Messages.getMessage(MessageKeys.CHUNK_UNEXPECTED_CHAR,
+                String.valueOf((char) (b & 0xFF)), String.valueOf(inputPosition)));
+    }
+}
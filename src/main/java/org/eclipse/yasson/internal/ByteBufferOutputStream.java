@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes bytes directly into a {@link ByteBuffer}, advancing its position.
+ * <p>
+ * When remaining space is exceeded, write fails with an {@link IOException} and all following
+ * writes are ignored, so that closing the generator doesn't hide the original failure.
+ * </p>
+ */
+class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer buffer;
+
+    private boolean overflow;
+
+    /**
+     * Creates an instance.
+     *
+     * @param buffer buffer to write to
+     */
+    ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (overflow) {
+            return;
+        }
+        if (!buffer.hasRemaining()) {
+            overflow();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int off, int len) throws IOException {
+        if (overflow) {
+            return;
+        }
+        if (buffer.remaining() < len) {
+            overflow();
+        }
+        buffer.put(bytes, off, len);
+    }
+
+    private void overflow() throws IOException {
+        overflow = true;
+        throw new IOException(Messages.getMessage(MessageKeys.BUFFER_OVERFLOW, buffer.capacity()));
+    }
+}
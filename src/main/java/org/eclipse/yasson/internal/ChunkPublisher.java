@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.eclipse.yasson.ChunkSubscription;
+import org.eclipse.yasson.internal.stream.BufferPool;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Passes serialized bytes to a consumer in chunks of pooled buffer size, as they are requested.
+ * <p>
+ * Serialization writes to an {@link OutputStream}, which waits for demand when a chunk is full,
+ * so serialization is suspended and at most one chunk is held in memory.
+ * Chunk buffer is reused, consumer must not retain passed buffer after it returns.
+ * </p>
+ */
+public class ChunkPublisher implements ChunkSubscription {
+
+    private final BufferPool bufferPool;
+
+    private final Consumer<ByteBuffer> chunkConsumer;
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * Count of requested chunks, which have not been produced yet. Guarded by this.
+     */
+    private long demand;
+
+    private boolean cancelled;
+
+    /**
+     * Exception thrown by the chunk consumer, serialization is aborted without waiting for demand. Guarded by this.
+     */
+    private Throwable consumerFailure;
+
+    /**
+     * Creates an instance.
+     *
+     * @param bufferPool pool of chunk buffers
+     * @param chunkConsumer consumer of chunks
+     */
+    public ChunkPublisher(BufferPool bufferPool, Consumer<ByteBuffer> chunkConsumer) {
+        this.bufferPool = bufferPool;
+        this.chunkConsumer = chunkConsumer;
+    }
+
+    /**
+     * Runs serialization on current thread, which is blocked while there is no demand.
+     * Completion is always completed, exceptionally on any throwable of serialization or chunk consumer.
+     *
+     * @param serialization writes serialized bytes to the stream and closes it
+     */
+    public void publish(Consumer<OutputStream> serialization) {
+        final ChunkOutputStream stream = new ChunkOutputStream();
+        Throwable serializationFailure = null;
+        try {
+            serialization.accept(stream);
+        } catch (Throwable e) {
+            serializationFailure = e;
+        } finally {
+            stream.release();
+        }
+        final Throwable consumerFailure = getConsumerFailure();
+        if (consumerFailure != null) {
+            completion.completeExceptionally(consumerFailure);
+        } else if (serializationFailure == null) {
+            completion.complete(null);
+        } else if (isCancelled()) {
+            completion.cancel(false);
+        } else {
+            completion.completeExceptionally(serializationFailure);
+        }
+    }
+
+    @Override
+    public synchronized void request(long count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException(String.valueOf(count));
+        }
+        demand += count;
+        if (demand < 0) {
+            demand = Long.MAX_VALUE;
+        }
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void cancel() {
+        cancelled = true;
+        notifyAll();
+    }
+
+    @Override
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    private synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    private synchronized Throwable getConsumerFailure() {
+        return consumerFailure;
+    }
+
+    private synchronized void failConsumer(Throwable failure) {
+        consumerFailure = failure;
+    }
+
+    private synchronized void awaitDemand() {
+        try {
+            while (demand == 0 && !cancelled && consumerFailure == null) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        }
+        if (consumerFailure != null) {
+            throw new IllegalStateException(consumerFailure);
+        }
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        demand--;
+    }
+
+    private final class ChunkOutputStream extends OutputStream {
+
+        private byte[] buffer = bufferPool.take();
+
+        private int position;
+
+        @Override
+        public void write(int b) {
+            buffer[position++] = (byte) b;
+            if (position == buffer.length) {
+                emit();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                final int count = Math.min(length, buffer.length - position);
+                System.arraycopy(bytes, offset, buffer, position, count);
+                position += count;
+                offset += count;
+                length -= count;
+                if (position == buffer.length) {
+                    emit();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (buffer == null) {
+                return;
+            }
+            if (position > 0) {
+                emit();
+            }
+            release();
+        }
+
+        /**
+         * Returns the buffer to the pool without emitting its content, when serialization has not completed.
+         */
+        private void release() {
+            if (buffer != null) {
+                bufferPool.recycle(buffer);
+                buffer = null;
+            }
+        }
+
+        private void emit() {
+            awaitDemand();
+            try {
+                chunkConsumer.accept(ByteBuffer.wrap(buffer, 0, position));
+            } catch (Throwable e) {
+                failConsumer(e);
+                throw e;
+            }
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Deserializes elements of a top level JSON array fed by chunks, result is the count of elements.
+ * <p>
+ * UTF-8 input is scanned as it arrives, structural bytes are tracked across chunks. Each element is deserialized
+ * and passed to the consumer as soon as its last byte arrives, then its bytes are discarded.
+ * So only the element currently being received is buffered. Other encodings are buffered whole
+ * and elements are deserialized when input ends.
+ * </p>
+ *
+ * @param <T> type of elements
+ */
+public class ChunkedArrayDeserializer<T> extends AbstractChunkedDeserializer<Long> {
+
+    private final Type elementType;
+
+    private final Consumer<? super T> elementConsumer;
+
+    /**
+     * Input is scanned for element boundaries as it arrives.
+     */
+    private final boolean incremental;
+
+    private final ArrayBoundaryScanner scanner = new ArrayBoundaryScanner(this::deserializeElement);
+
+    /**
+     * Count of scanned buffered bytes.
+     */
+    private int scanned;
+
+    private long count;
+
+    /**
+     * Creates an instance.
+     *
+     * @param unmarshaller unmarshaller used for all elements
+     * @param parserFactory creates parser of buffered bytes
+     * @param elementType type of elements
+     * @param elementConsumer consumer of deserialized elements
+     * @param incremental true if input is UTF-8 and can be scanned as it arrives
+     */
+    public ChunkedArrayDeserializer(Unmarshaller unmarshaller, Function<ByteBuffer, JsonbRiParser> parserFactory,
+                                    Type elementType, Consumer<? super T> elementConsumer, boolean incremental) {
+        super(unmarshaller, parserFactory);
+        this.elementType = elementType;
+        this.elementConsumer = elementConsumer;
+        this.incremental = incremental;
+    }
+
+    @Override
+    protected void consume() {
+        if (!incremental) {
+            return;
+        }
+        for (; scanned < size; scanned++) {
+            scanner.scan(buffer[scanned], scanned, offset + scanned);
+        }
+        final int consumed = scanner.isInsideRoot() ? scanner.getElementStart() : size;
+        discard(consumed);
+        scanned -= consumed;
+        scanner.shift(consumed);
+    }
+
+    @Override
+    protected Long finish() {
+        if (!incremental) {
+            final ElementIterator<T> iterator = new ElementIterator<>(createParser(0, size), unmarshaller, elementType, true);
+            try {
+                while (iterator.hasNext()) {
+                    emit(iterator.next());
+                }
+            } finally {
+                iterator.close();
+            }
+            return count;
+        }
+        scanner.finish();
+        return count;
+    }
+
+    private void deserializeElement(int start, int end) {
+        emit(unmarshaller.deserializeArrayElement(elementType, createParser(start, end), count));
+    }
+
+    private void emit(T element) {
+        count++;
+        elementConsumer.accept(element);
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+/**
+ * Deserializes a JSON document fed by chunks into a single value.
+ * Chunks are only buffered, the document is deserialized in place when input ends.
+ *
+ * @param <T> type of the value
+ */
+public class ChunkedValueDeserializer<T> extends AbstractChunkedDeserializer<T> {
+
+    private final Type type;
+
+    /**
+     * Creates an instance.
+     *
+     * @param unmarshaller unmarshaller used for the document
+     * @param parserFactory creates parser of buffered bytes
+     * @param type type of the value
+     */
+    public ChunkedValueDeserializer(Unmarshaller unmarshaller, Function<ByteBuffer, JsonbRiParser> parserFactory, Type type) {
+        super(unmarshaller, parserFactory);
+        this.type = type;
+    }
+
+    @Override
+    protected T finish() {
+        try (JsonbRiParser parser = createParser(0, size)) {
+            return unmarshaller.deserialize(type, parser);
+        }
+    }
+}
@@ -57,6 +57,16 @@ public class ComponentMatcher {
 
     private final ConcurrentMap<Type, ComponentBindings> userComponents;
 
+    /**
+     * Results of searches by runtime type, including types without a binding.
+     * Components are registered only during initialization, so search results don't change afterwards.
+     */
+    private final ConcurrentMap<Type, Optional<SerializerBinding<?>>> resolvedSerializers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Type, Optional<DeserializerBinding<?>>> resolvedDeserializers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Type, Optional<AdapterBinding>> resolvedAdapters = new ConcurrentHashMap<>();
+
     /**
      * Create component matcher.
      * @param context mandatory
@@ -145,7 +155,7 @@ public class ComponentMatcher {
     public Optional<SerializerBinding<?>> getSerializerBinding(Type propertyRuntimeType, ComponentBoundCustomization customization) {
 
         if (customization == null || customization.getSerializerBinding() == null) {
-            return searchComponentBinding(propertyRuntimeType, ComponentBindings::getSerializer);
+            return resolveComponentBinding(resolvedSerializers, propertyRuntimeType, ComponentBindings::getSerializer);
         }
         return Optional.of(customization.getSerializerBinding());
     }
@@ -159,7 +169,7 @@ public class ComponentMatcher {
     @SuppressWarnings("unchecked")
     public Optional<DeserializerBinding<?>> getDeserializerBinding(Type propertyRuntimeType, ComponentBoundCustomization customization) {
         if (customization == null || customization.getDeserializerBinding() == null) {
-            return searchComponentBinding(propertyRuntimeType, ComponentBindings::getDeserializer);
+            return resolveComponentBinding(resolvedDeserializers, propertyRuntimeType, ComponentBindings::getDeserializer);
         }
         return Optional.of(customization.getDeserializerBinding());
     }
@@ -174,7 +184,7 @@ public class ComponentMatcher {
      */
     public Optional<AdapterBinding> getAdapterBinding(Type propertyRuntimeType, ComponentBoundCustomization customization) {
         if (customization == null || customization.getAdapterBinding() == null) {
-            return searchComponentBinding(propertyRuntimeType, ComponentBindings::getAdapterInfo);
+            return resolveComponentBinding(resolvedAdapters, propertyRuntimeType, ComponentBindings::getAdapterInfo);
         }
         return Optional.of(customization.getAdapterBinding());
     }
@@ -188,6 +198,20 @@ public class ComponentMatcher {
         return Optional.empty();
     }
 
+    /**
+     * Searches registered components only once per runtime type, later lookups are a single map hit.
+     */
+    private <T extends AbstractComponentBinding> Optional<T> resolveComponentBinding(ConcurrentMap<Type, Optional<T>> resolved,
+                                                                                     Type runtimeType, ComponentSupplier<T> supplier) {
+        final Optional<T> cached = resolved.get(runtimeType);
+        if (cached != null) {
+            return cached;
+        }
+        final Optional<T> binding = searchComponentBinding(runtimeType, supplier);
+        final Optional<T> previous = resolved.putIfAbsent(runtimeType, binding);
+        return previous != null ? previous : binding;
+    }
+
     private <T extends AbstractComponentBinding> Optional<T> searchComponentBinding(Type runtimeType, ComponentSupplier<T> supplier) {
         for (ComponentBindings componentBindings : userComponents.values()) {
             final T component = supplier.getComponent(componentBindings);
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.internal.serializer.AbstractValueTypeDeserializer;
+import org.eclipse.yasson.internal.serializer.DeserializerBuilder;
+
+import javax.json.JsonException;
+import javax.json.bind.JsonbException;
+import javax.json.stream.JsonParser;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily deserializes elements of top level JSON array, or root values of a value sequence
+ * such as newline delimited JSON, one by one.
+ * <p>
+ * Only currently deserialized element is held in memory, the parser is pulled for the next element
+ * when {@link #hasNext()} is called. Parser is closed when the input ends or on {@link #close()}.
+ * </p>
+ *
+ * @param <T> type of elements
+ */
+public class ElementIterator<T> implements Iterator<T> {
+
+    private final JsonbRiParser parser;
+
+    private final Unmarshaller unmarshaller;
+
+    private final Type elementType;
+
+    /**
+     * Elements are enclosed in a top level array, otherwise each root value is an element.
+     */
+    private final boolean array;
+
+    /**
+     * Deserializer of elements of supported value types, resolved once for all elements.
+     */
+    private AbstractValueTypeDeserializer<?> valueTypeDeserializer;
+
+    private boolean valueTypeDeserializerResolved;
+
+    /**
+     * Event of the element pulled by {@link #hasNext()}, which is not yet deserialized.
+     */
+    private JsonParser.Event elementEvent;
+
+    /**
+     * Root value found by {@link #hasNext()}, which is not yet deserialized.
+     */
+    private boolean rootValuePending;
+
+    private boolean started;
+
+    private boolean closed;
+
+    /**
+     * Creates an instance.
+     *
+     * @param parser parser at the start of a JSON document
+     * @param unmarshaller unmarshaller used for all elements
+     * @param elementType type of elements
+     * @param array true for elements of top level array, false for a sequence of root values
+     */
+    public ElementIterator(JsonbRiParser parser, Unmarshaller unmarshaller, Type elementType, boolean array) {
+        this.parser = parser;
+        this.unmarshaller = unmarshaller;
+        this.elementType = elementType;
+        this.array = array;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return pullElement();
+        } catch (JsonException e) {
+            close();
+            throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+        }
+    }
+
+    private boolean pullElement() {
+        if (elementEvent != null || rootValuePending) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        if (!array) {
+            rootValuePending = parser.hasNext();
+            if (!rootValuePending) {
+                close();
+            }
+            return rootValuePending;
+        }
+        if (!started) {
+            started = true;
+            final JsonParser.Event rootEvent = parser.hasNext() ? parser.next() : null;
+            if (rootEvent != JsonParser.Event.START_ARRAY) {
+                close();
+                throw new JsonbException(Messages.getMessage(MessageKeys.STREAM_ROOT_NOT_ARRAY, rootEvent));
+            }
+        }
+        final JsonParser.Event event = parser.next();
+        if (event == JsonParser.Event.END_ARRAY) {
+            close();
+            return false;
+        }
+        elementEvent = event;
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return deserializeElement();
+        } catch (JsonException e) {
+            close();
+            throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T deserializeElement() {
+        if (rootValuePending) {
+            rootValuePending = false;
+            return unmarshaller.deserialize(elementType, parser);
+        }
+        final JsonParser.Event event = elementEvent;
+        elementEvent = null;
+        switch (event) {
+            case VALUE_NULL:
+                return null;
+            case START_OBJECT:
+            case START_ARRAY:
+                return unmarshaller.deserialize(elementType, parser);
+            default:
+                final AbstractValueTypeDeserializer<?> deserializer = getValueTypeDeserializer();
+                if (deserializer == null) {
+                    return unmarshaller.deserialize(elementType, parser);
+                }
+                return (T) deserializer.deserialize(parser, unmarshaller, elementType);
+        }
+    }
+
+    /**
+     * Closes the parser and its underlying input.
+     */
+    public void close() {
+        if (!closed) {
+            closed = true;
+            parser.close();
+        }
+    }
+
+    private AbstractValueTypeDeserializer<?> getValueTypeDeserializer() {
+        if (!valueTypeDeserializerResolved) {
+            valueTypeDeserializer = new DeserializerBuilder(unmarshaller.getJsonbContext())
+                    .withType(elementType)
+                    .buildValueTypeDeserializer();
+            valueTypeDeserializerResolved = true;
+        }
+        return valueTypeDeserializer;
+    }
+}
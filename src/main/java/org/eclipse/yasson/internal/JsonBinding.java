@@ -12,29 +12,57 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
+import org.eclipse.yasson.ChunkSubscription;
+import org.eclipse.yasson.ChunkedDeserializer;
 import org.eclipse.yasson.YassonJsonb;
 import org.eclipse.yasson.internal.jsonstructure.JsonGeneratorToStructureAdapter;
 import org.eclipse.yasson.internal.jsonstructure.JsonStructureToParserAdapter;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.internal.stream.BufferPool;
+import org.eclipse.yasson.internal.stream.Utf8JsonGenerator;
+import org.eclipse.yasson.internal.stream.Utf8JsonParser;
 
+import javax.json.JsonException;
 import javax.json.JsonStructure;
 import javax.json.bind.JsonbConfig;
 import javax.json.bind.JsonbException;
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonGenerator;
 import javax.json.stream.JsonParser;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of Jsonb interface.
@@ -45,8 +73,16 @@ public class JsonBinding implements YassonJsonb {
 
     private final JsonbContext jsonbContext;
 
+    /**
+     * Yasson UTF-8 generator and parser are used, unless JSONP provider is supplied by user.
+     */
+    private final boolean utf8Streams;
+
+    private final BufferPool bufferPool = new BufferPool();
+
     JsonBinding(JsonBindingBuilder builder) {
         this.jsonbContext = new JsonbContext(builder.getConfig(), builder.getProvider().orElseGet(JsonProvider::provider));
+        this.utf8Streams = !builder.getProvider().isPresent();
     }
 
     private <T> T deserialize(final Type type, final JsonParser parser, final Unmarshaller unmarshaller) {
@@ -55,16 +91,23 @@ public class JsonBinding implements YassonJsonb {
 
     @Override
     public <T> T fromJson(String str, Class<T> type) throws JsonbException {
-        final JsonParser parser = new JsonbRiParser(jsonbContext.getJsonProvider().createParser(new StringReader(str)));
         final Unmarshaller unmarshaller = new Unmarshaller(jsonbContext);
-        return deserialize(type, parser, unmarshaller);
+        return deserialize(type, stringParser(str), unmarshaller);
     }
 
     @Override
     public <T> T fromJson(String str, Type type) throws JsonbException {
-        JsonParser parser = new JsonbRiParser(jsonbContext.getJsonProvider().createParser(new StringReader(str)));
         Unmarshaller unmarshaller = new Unmarshaller(jsonbContext);
-        return deserialize(type, parser, unmarshaller);
+        return deserialize(type, stringParser(str), unmarshaller);
+    }
+
+    private JsonParser stringParser(String str) {
+        if (utf8Streams) {
+            final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            return new JsonbRiParser(new Utf8JsonParser(bytes, 0, bytes.length, jsonbContext.getJsonProvider(),
+                    jsonbContext.getMappingContext().getKeyDictionary()));
+        }
+        return new JsonbRiParser(jsonbContext.getJsonProvider().createParser(new StringReader(str)));
     }
 
     @Override
@@ -105,25 +148,214 @@ public class JsonBinding implements YassonJsonb {
         return deserialize(runtimeType, parser, new Unmarshaller(jsonbContext));
     }
 
-    private JsonParser inputStreamParser(InputStream stream) {
+    @Override
+    public <T> T fromJson(byte[] bytes, Class<T> type) throws JsonbException {
+        return fromJson(ByteBuffer.wrap(bytes), type);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] bytes, Type runtimeType) throws JsonbException {
+        return fromJson(ByteBuffer.wrap(bytes), runtimeType);
+    }
+
+    @Override
+    public <T> T fromJson(ByteBuffer buffer, Class<T> type) throws JsonbException {
+        Unmarshaller unmarshaller = new Unmarshaller(jsonbContext);
+        return deserialize(type, byteBufferParser(buffer), unmarshaller);
+    }
+
+    @Override
+    public <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException {
+        Unmarshaller unmarshaller = new Unmarshaller(jsonbContext);
+        return deserialize(runtimeType, byteBufferParser(buffer), unmarshaller);
+    }
+
+    /**
+     * Heap buffers are parsed in place by Yasson UTF-8 parser.
+     */
+    private JsonbRiParser byteBufferParser(ByteBuffer buffer) {
+        if (utf8Streams && buffer.hasArray() && StandardCharsets.UTF_8.equals(getEncoding())) {
+            return new JsonbRiParser(new Utf8JsonParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+                    jsonbContext.getJsonProvider(), jsonbContext.getMappingContext().getKeyDictionary()));
+        }
+        return inputStreamParser(new ByteBufferInputStream(buffer));
+    }
+
+    private JsonbRiParser inputStreamParser(InputStream stream) {
+        final Charset charset = getEncoding();
+        if (utf8Streams && StandardCharsets.UTF_8.equals(charset)) {
+            return new JsonbRiParser(new Utf8JsonParser(stream, bufferPool, jsonbContext.getJsonProvider(),
+                    jsonbContext.getMappingContext().getKeyDictionary()));
+        }
         return new JsonbRiParser(jsonbContext.getJsonProvider().createParserFactory(createJsonpProperties(jsonbContext.getConfig()))
-                .createParser(stream,
-                        Charset.forName((String) jsonbContext.getConfig().getProperty(JsonbConfig.ENCODING).orElse("UTF-8"))));
+                .createParser(stream, charset));
+    }
+
+    @Override
+    public <T> T fromJson(Path path, Class<T> type) throws JsonbException {
+        return fromJsonFile(path, type);
+    }
+
+    @Override
+    public <T> T fromJson(Path path, Type runtimeType) throws JsonbException {
+        return fromJsonFile(path, runtimeType);
+    }
+
+    private <T> T fromJsonFile(Path path, Type type) {
+        final Unmarshaller unmarshaller = new Unmarshaller(jsonbContext);
+        try (JsonbRiParser parser = inputStreamParser(openMappedFile(path))) {
+            return deserialize(type, parser, unmarshaller);
+        }
+    }
+
+    private InputStream openMappedFile(Path path) {
+        try {
+            return new MappedFileInputStream(path);
+        } catch (IOException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.FILE_IO_ERROR, path), e);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(InputStream stream, Class<T> elementType) throws JsonbException {
+        return elementStream(inputStreamParser(stream), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(InputStream stream, Type elementType) throws JsonbException {
+        return elementStream(inputStreamParser(stream), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(Path path, Class<T> elementType) throws JsonbException {
+        return elementStream(inputStreamParser(openMappedFile(path)), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(Path path, Type elementType) throws JsonbException {
+        return elementStream(inputStreamParser(openMappedFile(path)), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(Reader reader, Class<T> elementType) throws JsonbException {
+        return elementStream(new JsonbRiParser(jsonbContext.getJsonProvider().createParser(reader)), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonStream(Reader reader, Type elementType) throws JsonbException {
+        return elementStream(new JsonbRiParser(jsonbContext.getJsonProvider().createParser(reader)), elementType, true);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonLines(InputStream stream, Class<T> type) throws JsonbException {
+        return elementStream(jsonLinesParser(stream), type, false);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonLines(InputStream stream, Type runtimeType) throws JsonbException {
+        return elementStream(jsonLinesParser(stream), runtimeType, false);
+    }
+
+    /**
+     * Yasson UTF-8 parser reads all lines as a sequence of root values,
+     * JSON-P parsers don't support it and parse each line separately.
+     */
+    private JsonbRiParser jsonLinesParser(InputStream stream) {
+        final Charset charset = getEncoding();
+        if (utf8Streams && StandardCharsets.UTF_8.equals(charset)) {
+            return new JsonbRiParser(new Utf8JsonParser(stream, bufferPool, jsonbContext.getJsonProvider(),
+                    jsonbContext.getMappingContext().getKeyDictionary(), true));
+        }
+        return new JsonbRiParser(new JsonLinesParser(new BufferedReader(new InputStreamReader(stream, charset)),
+                jsonbContext.getJsonProvider().createParserFactory(createJsonpProperties(jsonbContext.getConfig()))));
+    }
+
+    private <T> Stream<T> elementStream(JsonbRiParser parser, Type elementType, boolean array) {
+        final ElementIterator<T> iterator = new ElementIterator<>(parser, new Unmarshaller(jsonbContext), elementType, array);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public <T> ChunkedDeserializer<T> fromJsonChunks(Class<T> type) {
+        return new ChunkedValueDeserializer<>(new Unmarshaller(jsonbContext), this::byteBufferParser, type);
+    }
+
+    @Override
+    public <T> ChunkedDeserializer<T> fromJsonChunks(Type runtimeType) {
+        return new ChunkedValueDeserializer<>(new Unmarshaller(jsonbContext), this::byteBufferParser, runtimeType);
+    }
+
+    @Override
+    public <T> ChunkedDeserializer<Long> fromJsonArrayChunks(Class<T> elementType, Consumer<? super T> elementConsumer) {
+        return chunkedArrayDeserializer(elementType, elementConsumer);
+    }
+
+    @Override
+    public <T> ChunkedDeserializer<Long> fromJsonArrayChunks(Type elementType, Consumer<? super T> elementConsumer) {
+        return chunkedArrayDeserializer(elementType, elementConsumer);
+    }
+
+    /**
+     * Element boundaries can be found by scanning structural bytes only in UTF-8.
+     */
+    private <T> ChunkedDeserializer<Long> chunkedArrayDeserializer(Type elementType, Consumer<? super T> elementConsumer) {
+        return new ChunkedArrayDeserializer<>(new Unmarshaller(jsonbContext), this::byteBufferParser, elementType, elementConsumer,
+                StandardCharsets.UTF_8.equals(getEncoding()));
+    }
+
+    @Override
+    public <T> List<T> parallelFromJson(byte[] bytes, Class<T> elementType) throws JsonbException {
+        return parallelFromJson(ByteBuffer.wrap(bytes), elementType);
+    }
+
+    @Override
+    public <T> List<T> parallelFromJson(byte[] bytes, Type elementType) throws JsonbException {
+        return parallelFromJson(ByteBuffer.wrap(bytes), elementType);
+    }
+
+    @Override
+    public <T> List<T> parallelFromJson(ByteBuffer buffer, Class<T> elementType) throws JsonbException {
+        return parallelDeserialize(buffer, elementType);
+    }
+
+    @Override
+    public <T> List<T> parallelFromJson(ByteBuffer buffer, Type elementType) throws JsonbException {
+        return parallelDeserialize(buffer, elementType);
+    }
+
+    /**
+     * Element boundaries can be found by scanning structural bytes only in UTF-8, other encodings are deserialized sequentially.
+     */
+    private <T> List<T> parallelDeserialize(ByteBuffer buffer, Type elementType) {
+        if (StandardCharsets.UTF_8.equals(getEncoding())) {
+            return new ParallelArrayDeserializer<T>(jsonbContext, this::byteBufferParser, elementType, buffer)
+                    .deserialize(ForkJoinPool.commonPool());
+        }
+        final List<T> elements = new ArrayList<>();
+        new ElementIterator<T>(byteBufferParser(buffer), new Unmarshaller(jsonbContext), elementType, true)
+                .forEachRemaining(elements::add);
+        return elements;
     }
 
     @Override
     public String toJson(Object object) throws JsonbException {
-        StringWriter writer = new StringWriter();
-        final JsonGenerator generator = writerGenerator(writer);
-        new Marshaller(jsonbContext).marshall(object, generator);
-        return writer.toString();
+        return marshallToString(new Marshaller(jsonbContext), object);
     }
 
     @Override
     public String toJson(Object object, Type type) throws JsonbException {
+        return marshallToString(new Marshaller(jsonbContext, type), object);
+    }
+
+    private String marshallToString(Marshaller marshaller, Object object) {
+        if (utf8Streams) {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            marshaller.marshall(object, new Utf8JsonGenerator(stream, isPrettyPrinting(), bufferPool));
+            return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+        }
         StringWriter writer = new StringWriter();
-        final JsonGenerator generator = writerGenerator(writer);
-        new Marshaller(jsonbContext, type).marshall(object, generator);
+        marshaller.marshall(object, writerGenerator(writer));
         return writer.toString();
     }
 
@@ -159,6 +391,134 @@ public class JsonBinding implements YassonJsonb {
         marshaller.marshall(object, streamGenerator(stream));
     }
 
+    @Override
+    public void toJsonLines(Iterable<?> objects, OutputStream stream) throws JsonbException {
+        marshallLines(new Marshaller(jsonbContext), objects.iterator(), stream);
+    }
+
+    @Override
+    public void toJsonLines(Iterable<?> objects, Type runtimeType, OutputStream stream) throws JsonbException {
+        marshallLines(new Marshaller(jsonbContext, runtimeType), objects.iterator(), stream);
+    }
+
+    @Override
+    public void toJsonLines(Stream<?> objects, OutputStream stream) throws JsonbException {
+        marshallLines(new Marshaller(jsonbContext), objects.iterator(), stream);
+    }
+
+    @Override
+    public void toJsonLines(Stream<?> objects, Type runtimeType, OutputStream stream) throws JsonbException {
+        marshallLines(new Marshaller(jsonbContext, runtimeType), objects.iterator(), stream);
+    }
+
+    /**
+     * Yasson UTF-8 generator writes all objects as a sequence of root values. JSON-P generators don't support it,
+     * each line is generated into a reused buffer then. One marshaller serializes all the objects in both cases.
+     */
+    private void marshallLines(Marshaller marshaller, Iterator<?> objects, OutputStream stream) {
+        final Charset charset = getEncoding();
+        if (utf8Streams && StandardCharsets.UTF_8.equals(charset)) {
+            marshaller.marshallAll(objects, new Utf8JsonGenerator(stream, false, bufferPool, true));
+            return;
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(stream, charset))) {
+            final StringWriter line = new StringWriter();
+            while (objects.hasNext()) {
+                line.getBuffer().setLength(0);
+                marshaller.marshall(objects.next(), jsonbContext.getJsonProvider().createGenerator(line));
+                line.write('\n');
+                writer.write(line.toString());
+            }
+        } catch (IOException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.GENERATOR_IO_ERROR), e);
+        }
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object object) throws JsonbException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new Marshaller(jsonbContext).marshall(object, streamGenerator(stream));
+        return stream.toByteArray();
+    }
+
+    @Override
+    public byte[] toJsonBytes(Object object, Type runtimeType) throws JsonbException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new Marshaller(jsonbContext, runtimeType).marshall(object, streamGenerator(stream));
+        return stream.toByteArray();
+    }
+
+    @Override
+    public void toJson(Object object, ByteBuffer buffer) throws JsonbException {
+        marshallToBuffer(new Marshaller(jsonbContext), object, buffer);
+    }
+
+    @Override
+    public void toJson(Object object, Type runtimeType, ByteBuffer buffer) throws JsonbException {
+        marshallToBuffer(new Marshaller(jsonbContext, runtimeType), object, buffer);
+    }
+
+    /**
+     * Buffer overflow is reported by JSONP generator as an I/O error on close, which is converted to JsonbException.
+     */
+    private void marshallToBuffer(Marshaller marshaller, Object object, ByteBuffer buffer) {
+        try {
+            marshaller.marshall(object, streamGenerator(new ByteBufferOutputStream(buffer)));
+        } catch (JsonException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ChunkSubscription toJsonChunks(Object object, Executor executor, Consumer<ByteBuffer> chunkConsumer) {
+        return publishChunks(new Marshaller(jsonbContext), object, executor, chunkConsumer);
+    }
+
+    @Override
+    public ChunkSubscription toJsonChunks(Object object, Type runtimeType, Executor executor, Consumer<ByteBuffer> chunkConsumer) {
+        return publishChunks(new Marshaller(jsonbContext, runtimeType), object, executor, chunkConsumer);
+    }
+
+    private ChunkSubscription publishChunks(Marshaller marshaller, Object object, Executor executor, Consumer<ByteBuffer> chunkConsumer) {
+        final ChunkPublisher publisher = new ChunkPublisher(bufferPool, chunkConsumer);
+        executor.execute(() -> publisher.publish(stream -> marshaller.marshall(object, streamGenerator(stream))));
+        return publisher;
+    }
+
+    @Override
+    public void toJson(Object object, WritableByteChannel channel) throws JsonbException {
+        final Marshaller marshaller = new Marshaller(jsonbContext);
+        marshaller.marshall(object, streamGenerator(new ChannelOutputStream(channel)));
+    }
+
+    @Override
+    public void toJson(Object object, Type runtimeType, WritableByteChannel channel) throws JsonbException {
+        final Marshaller marshaller = new Marshaller(jsonbContext, runtimeType);
+        marshaller.marshall(object, streamGenerator(new ChannelOutputStream(channel)));
+    }
+
+    @Override
+    public void toJson(Object object, Path path) throws JsonbException {
+        marshallToFile(new Marshaller(jsonbContext), object, path);
+    }
+
+    @Override
+    public void toJson(Object object, Type runtimeType, Path path) throws JsonbException {
+        marshallToFile(new Marshaller(jsonbContext, runtimeType), object, path);
+    }
+
+    /**
+     * Generator buffers are written straight to the file channel.
+     */
+    private void marshallToFile(Marshaller marshaller, Object object, Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            marshaller.marshall(object, streamGenerator(new ChannelOutputStream(channel)));
+        } catch (IOException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.FILE_IO_ERROR, path), e);
+        }
+    }
+
     @Override
     public <T> T fromJson(JsonParser jsonParser, Class<T> type) throws JsonbException {
         Unmarshaller unmarshaller = new Unmarshaller(jsonbContext);
@@ -201,8 +561,19 @@ public class JsonBinding implements YassonJsonb {
 
     private JsonGenerator streamGenerator(OutputStream stream) {
         Map<String, ?> factoryProperties = createJsonpProperties(jsonbContext.getConfig());
-        final String encoding = (String) jsonbContext.getConfig().getProperty(JsonbConfig.ENCODING).orElse("UTF-8");
-        return jsonbContext.getJsonProvider().createGeneratorFactory(factoryProperties).createGenerator(stream, Charset.forName(encoding));
+        final Charset charset = getEncoding();
+        if (utf8Streams && StandardCharsets.UTF_8.equals(charset)) {
+            return new Utf8JsonGenerator(stream, !factoryProperties.isEmpty(), bufferPool);
+        }
+        return jsonbContext.getJsonProvider().createGeneratorFactory(factoryProperties).createGenerator(stream, charset);
+    }
+
+    private Charset getEncoding() {
+        return Charset.forName((String) jsonbContext.getConfig().getProperty(JsonbConfig.ENCODING).orElse("UTF-8"));
+    }
+
+    private boolean isPrettyPrinting() {
+        return !createJsonpProperties(jsonbContext.getConfig()).isEmpty();
     }
 
     @Override
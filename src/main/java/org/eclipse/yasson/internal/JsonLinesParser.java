@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Parser of newline delimited JSON, which reads each line by a separate JSON-P parser.
+ * <p>
+ * Used for JSON-P providers, which don't support a sequence of root values.
+ * Blank lines are skipped, {@link #hasNext()} returns true until the last line is parsed.
+ * </p>
+ */
+public class JsonLinesParser implements JsonParser {
+
+    private final BufferedReader reader;
+
+    private final JsonParserFactory parserFactory;
+
+    /**
+     * Parser of current line, null until the first line is read.
+     */
+    private JsonParser lineParser;
+
+    /**
+     * Number of the current line, including skipped blank lines.
+     */
+    private long lineNumber;
+
+    /**
+     * Creates a parser.
+     *
+     * @param reader reader of lines
+     * @param parserFactory factory of line parsers
+     */
+    public JsonLinesParser(BufferedReader reader, JsonParserFactory parserFactory) {
+        this.reader = reader;
+        this.parserFactory = parserFactory;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (lineParser != null && lineParser.hasNext()) {
+            return true;
+        }
+        final String line = readNonBlankLine();
+        if (line == null) {
+            return false;
+        }
+        if (lineParser != null) {
+            lineParser.close();
+        }
+        lineParser = parserFactory.createParser(new StringReader(line));
+        return true;
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return lineParser.next();
+    }
+
+    @Override
+    public String getString() {
+        return currentLineParser("getString").getString();
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        return currentLineParser("isIntegralNumber").isIntegralNumber();
+    }
+
+    @Override
+    public int getInt() {
+        return currentLineParser("getInt").getInt();
+    }
+
+    @Override
+    public long getLong() {
+        return currentLineParser("getLong").getLong();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        return currentLineParser("getBigDecimal").getBigDecimal();
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        if (lineParser == null) {
+            return new LineLocation(1, 1);
+        }
+        return new LineLocation(lineNumber, lineParser.getLocation().getColumnNumber());
+    }
+
+    @Override
+    public JsonObject getObject() {
+        return currentLineParser("getObject").getObject();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        return currentLineParser("getValue").getValue();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        return currentLineParser("getArray").getArray();
+    }
+
+    @Override
+    public Stream<JsonValue> getArrayStream() {
+        return currentLineParser("getArrayStream").getArrayStream();
+    }
+
+    @Override
+    public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+        return currentLineParser("getObjectStream").getObjectStream();
+    }
+
+    @Override
+    public void skipArray() {
+        if (lineParser != null) {
+            lineParser.skipArray();
+        }
+    }
+
+    @Override
+    public void skipObject() {
+        if (lineParser != null) {
+            lineParser.skipObject();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (lineParser != null) {
+                lineParser.close();
+            }
+            reader.close();
+        } catch (IOException e) {
+            throw new JsonException(Messages.getMessage(MessageKeys.PARSER_IO_ERROR), e);
+        }
+    }
+
+    private JsonParser currentLineParser(String method) {
+        if (lineParser == null) {
+            throw new IllegalStateException(Messages.getMessage(MessageKeys.PARSER_ILLEGAL_METHOD, method, null));
+        }
+        return lineParser;
+    }
+
+    private String readNonBlankLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line != null) {
+                    lineNumber++;
+                }
+            } while (line != null && line.trim().isEmpty());
+            return line;
+        } catch (IOException e) {
+            throw new JsonException(Messages.getMessage(MessageKeys.PARSER_IO_ERROR), e);
+        }
+    }
+
+    /**
+     * Location in the whole input, offset in the stream is not known as line separators are not counted.
+     */
+    private static final class LineLocation implements JsonLocation {
+
+        private final long lineNumber;
+
+        private final long columnNumber;
+
+        private LineLocation(long lineNumber, long columnNumber) {
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+        }
+
+        @Override
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        @Override
+        public long getColumnNumber() {
+            return columnNumber;
+        }
+
+        @Override
+        public long getStreamOffset() {
+            return -1;
+        }
+    }
+}
@@ -13,6 +13,7 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
+import org.eclipse.yasson.PropertyAccessorStrategy;
 import org.eclipse.yasson.YassonProperties;
 import org.eclipse.yasson.internal.model.ReverseTreeMap;
 import org.eclipse.yasson.internal.model.customization.naming.DefaultNamingStrategies;
@@ -80,6 +81,12 @@ public class JsonbConfigProperties {
 
     private final JsonbSerializer<Object> nullSerializer;
 
+    private final PropertyAccessorStrategy propertyAccessorStrategy;
+
+    private final int parallelSerializationThreshold;
+
+    private final int acyclicMaxDepth;
+
     public JsonbConfigProperties(JsonbConfig jsonbConfig) {
         this.jsonbConfig = jsonbConfig;
         this.binaryDataStrategy = initBinaryDataStrategy();
@@ -95,6 +102,9 @@ public class JsonbConfigProperties {
         this.zeroTimeDefaulting = initZeroTimeDefaultingForJavaTime();
         this.defaultMapImplType = initDefaultMapImplType();
         this.nullSerializer = initNullSerializer();
+        this.propertyAccessorStrategy = initPropertyAccessorStrategy();
+        this.parallelSerializationThreshold = initParallelSerializationThreshold();
+        this.acyclicMaxDepth = initAcyclicMaxDepth();
     }
 
 
@@ -254,6 +264,50 @@ public class JsonbConfigProperties {
         return (JsonbSerializer<Object>) nullSerializer;
     }
 
+    private PropertyAccessorStrategy initPropertyAccessorStrategy() {
+        final Optional<Object> property = jsonbConfig.getProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY);
+        if (!property.isPresent()) {
+            return PropertyAccessorStrategy.REFLECTION;
+        }
+        final Object strategy = property.get();
+        if (strategy instanceof PropertyAccessorStrategy) {
+            return (PropertyAccessorStrategy) strategy;
+        }
+        if (strategy instanceof String) {
+            for (PropertyAccessorStrategy value : PropertyAccessorStrategy.values()) {
+                if (value.name().equals(strategy)) {
+                    return value;
+                }
+            }
+        }
+        throw new JsonbException(Messages.getMessage(MessageKeys.JSONB_CONFIG_PROPERTY_INVALID_TYPE,
+                YassonProperties.PROPERTY_ACCESSOR_STRATEGY, PropertyAccessorStrategy.class.getSimpleName()));
+    }
+
+    private int initParallelSerializationThreshold() {
+        final Optional<Object> property = jsonbConfig.getProperty(YassonProperties.PARALLEL_SERIALIZATION_THRESHOLD);
+        if (!property.isPresent()) {
+            return 0;
+        }
+        if (!(property.get() instanceof Integer)) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.JSONB_CONFIG_PROPERTY_INVALID_TYPE,
+                    YassonProperties.PARALLEL_SERIALIZATION_THRESHOLD, Integer.class.getSimpleName()));
+        }
+        return Math.max(0, (Integer) property.get());
+    }
+
+    private int initAcyclicMaxDepth() {
+        final Optional<Object> property = jsonbConfig.getProperty(YassonProperties.ACYCLIC_MAX_DEPTH);
+        if (!property.isPresent()) {
+            return 0;
+        }
+        if (!(property.get() instanceof Integer)) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.JSONB_CONFIG_PROPERTY_INVALID_TYPE,
+                    YassonProperties.ACYCLIC_MAX_DEPTH, Integer.class.getSimpleName()));
+        }
+        return Math.max(0, (Integer) property.get());
+    }
+
     /**
      * Gets nullable from {@link JsonbConfig}.
      * If true null values are serialized to json.
@@ -410,4 +464,31 @@ public class JsonbConfigProperties {
     public JsonbSerializer<Object> getNullSerializer() {
         return nullSerializer;
     }
+
+    /**
+     * Strategy used to access properties and create instances of deserialized classes.
+     *
+     * @return configured property accessor strategy
+     */
+    public PropertyAccessorStrategy getPropertyAccessorStrategy() {
+        return propertyAccessorStrategy;
+    }
+
+    /**
+     * Minimal count of container elements serialized in parallel.
+     *
+     * @return threshold or 0 if parallel serialization is disabled
+     */
+    public int getParallelSerializationThreshold() {
+        return parallelSerializationThreshold;
+    }
+
+    /**
+     * Maximal nesting depth of adapted and user serialized objects, when object trees are declared acyclic.
+     *
+     * @return maximal depth or 0 if processed objects are tracked
+     */
+    public int getAcyclicMaxDepth() {
+        return acyclicMaxDepth;
+    }
 }
@@ -14,6 +14,7 @@
 package org.eclipse.yasson.internal;
 
 import org.eclipse.yasson.internal.components.JsonbComponentInstanceCreatorFactory;
+import org.eclipse.yasson.internal.serializer.NumberFormatCache;
 import org.eclipse.yasson.spi.JsonbComponentInstanceCreator;
 
 import javax.json.bind.JsonbConfig;
@@ -53,6 +54,8 @@ public class JsonbContext {
 
     private final InstanceCreator instanceCreator;
 
+    private final NumberFormatCache numberFormatCache = new NumberFormatCache();
+
     /**
      * Creates and initialize context.
      *
@@ -140,6 +143,15 @@ public class JsonbContext {
         return instanceCreator;
     }
 
+    /**
+     * Returns cache of number formats shared by all number formatters.
+     *
+     * @return number format cache
+     */
+    public NumberFormatCache getNumberFormatCache() {
+        return numberFormatCache;
+    }
+
     private JsonbComponentInstanceCreator initComponentInstanceCreator(InstanceCreator instanceCreator) {
         ServiceLoader<JsonbComponentInstanceCreator> loader = AccessController
                 .doPrivileged((PrivilegedAction<ServiceLoader<JsonbComponentInstanceCreator>>) () -> ServiceLoader
@@ -55,4 +55,19 @@ public interface JsonbParser extends JsonParser {
      * If current event is START_ARRAY or START_OBJECT, whole structure is skipped to end.
      */
     void skipJsonStructure();
+
+    /**
+     * Checks if current number has no fraction and no exponent, and if its value is returned by {@link #getLong()}
+     * exactly. Parsers, which can't tell without conversion of the number, return false.
+     *
+     * @return true if number can be read by {@link #getLong()} without loss
+     */
+    boolean isExactLong();
+
+    /**
+     * Reads current number as double, with the same result as {@link Double#parseDouble(String)} of {@link #getString()}.
+     *
+     * @return number value
+     */
+    double getDouble();
 }
@@ -15,6 +15,7 @@ package org.eclipse.yasson.internal;
 
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.internal.stream.Utf8JsonParser;
 
 import javax.json.JsonArray;
 import javax.json.JsonObject;
@@ -110,6 +111,11 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
 
     private final JsonParser jsonParser;
 
+    /**
+     * Decorated parser, if it is Yasson UTF-8 parser, which reads numbers directly.
+     */
+    private final Utf8JsonParser utf8Parser;
+
     private final Deque<LevelContext> level = new ArrayDeque<>();
 
     /**
@@ -119,6 +125,7 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
      */
     public JsonbRiParser(JsonParser jsonParser) {
         this.jsonParser = jsonParser;
+        this.utf8Parser = jsonParser instanceof Utf8JsonParser ? (Utf8JsonParser) jsonParser : null;
         //root level
         this.level.push(new LevelContext(null));
     }
@@ -261,6 +268,19 @@ public class JsonbRiParser implements JsonParser, JsonbParser {
         }
     }
 
+    @Override
+    public boolean isExactLong() {
+        return utf8Parser != null && utf8Parser.isExactLong();
+    }
+
+    @Override
+    public double getDouble() {
+        if (utf8Parser != null) {
+            return utf8Parser.getDouble();
+        }
+        return Double.parseDouble(jsonParser.getString());
+    }
+
     @Override
     public JsonObject getObject() {
         JsonObject object = jsonParser.getObject();
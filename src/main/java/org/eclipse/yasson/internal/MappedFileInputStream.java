@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through memory mapped windows, so bytes are copied from page cache directly into the parser buffer.
+ * Files of any size are read, next window is mapped when the current one is exhausted.
+ * Not thread safe.
+ */
+class MappedFileInputStream extends InputStream {
+
+    /**
+     * Size of mapped window, mapping is limited to {@link Integer#MAX_VALUE} bytes.
+     */
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private final long windowSize;
+
+    /**
+     * File position of the current window.
+     */
+    private long windowPosition;
+
+    private MappedByteBuffer window;
+
+    /**
+     * Opens the file for reading.
+     *
+     * @param path file to read
+     * @throws IOException if file cannot be opened
+     */
+    MappedFileInputStream(Path path) throws IOException {
+        this(path, WINDOW_SIZE);
+    }
+
+    /**
+     * Opens the file for reading with given window size.
+     *
+     * @param path file to read
+     * @param windowSize maximal size of mapped window
+     * @throws IOException if file cannot be opened
+     */
+    MappedFileInputStream(Path path, long windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.windowSize = windowSize;
+        try {
+            this.size = channel.size();
+            map(0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        return hasRemaining() ? window.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!hasRemaining()) {
+            return -1;
+        }
+        final int count = Math.min(len, window.remaining());
+        window.get(bytes, off, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Maps next window if the current one is exhausted.
+     */
+    private boolean hasRemaining() throws IOException {
+        if (window.hasRemaining()) {
+            return true;
+        }
+        final long next = windowPosition + window.capacity();
+        if (next >= size) {
+            return false;
+        }
+        map(next);
+        return true;
+    }
+
+    private void map(long position) throws IOException {
+        windowPosition = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+    }
+}
@@ -13,13 +13,19 @@
 package org.eclipse.yasson.internal;
 
 import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.CreatorModel;
 import org.eclipse.yasson.internal.model.JsonbAnnotatedElement;
+import org.eclipse.yasson.internal.model.JsonbCreator;
+import org.eclipse.yasson.internal.model.PropertyModel;
 import org.eclipse.yasson.internal.model.customization.ClassCustomization;
 import org.eclipse.yasson.internal.serializer.ContainerSerializerProvider;
+import org.eclipse.yasson.internal.stream.KeyDictionary;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -43,20 +49,44 @@ public class MappingContext {
 
         private JsonbContext jsonbContext;
 
-        public ParseClassModelFunction(ClassModel parentClassModel, ClassParser classParser, JsonbContext jsonbContext) {
+        private KeyDictionary keyDictionary;
+
+        public ParseClassModelFunction(ClassModel parentClassModel, ClassParser classParser, JsonbContext jsonbContext,
+                                       KeyDictionary keyDictionary) {
             this.parentClassModel = parentClassModel;
             this.classParser = classParser;
             this.jsonbContext = jsonbContext;
+            this.keyDictionary = keyDictionary;
         }
 
         @Override
         public ClassModel apply(Class aClass) {
             final JsonbAnnotatedElement<Class<?>> clsElement = jsonbContext.getAnnotationIntrospector().collectAnnotations(aClass);
             final ClassCustomization customization = jsonbContext.getAnnotationIntrospector().introspectCustomization(clsElement);
-            final ClassModel newClassModel = new ClassModel(aClass, customization, parentClassModel, jsonbContext.getConfigProperties().getPropertyNamingStrategy());
+            final ClassModel newClassModel = new ClassModel(aClass, customization, parentClassModel,
+                    jsonbContext.getConfigProperties().getPropertyNamingStrategy(),
+                    jsonbContext.getConfigProperties().getPropertyAccessorStrategy());
             classParser.parseProperties(newClassModel, clsElement);
+            registerKeyNames(newClassModel);
             return newClassModel;
         }
+
+        /**
+         * Registers names of JSON keys read into the class, so parser can return them without decoding.
+         */
+        private void registerKeyNames(ClassModel classModel) {
+            final List<String> names = new ArrayList<>();
+            for (PropertyModel propertyModel : classModel.getSortedProperties()) {
+                names.add(propertyModel.getReadName());
+            }
+            final JsonbCreator creator = classModel.getClassCustomization().getCreator();
+            if (creator != null) {
+                for (CreatorModel creatorModel : creator.getParams()) {
+                    names.add(creatorModel.getName());
+                }
+            }
+            keyDictionary.addAll(names);
+        }
     }
 
     private final JsonbContext jsonbContext;
@@ -67,6 +97,8 @@ public class MappingContext {
 
     private final ClassParser classParser;
 
+    private final KeyDictionary keyDictionary = new KeyDictionary();
+
     /**
      * Create mapping context which is scoped to jsonb runtime.
      *
@@ -105,7 +137,7 @@ public class MappingContext {
         ClassModel parentClassModel = null;
         while (!newClassModels.isEmpty()) {
             Class toParse = newClassModels.pop();
-            parentClassModel = classes.computeIfAbsent(toParse, new ParseClassModelFunction(parentClassModel, classParser, jsonbContext));
+            parentClassModel = classes.computeIfAbsent(toParse, new ParseClassModelFunction(parentClassModel, classParser, jsonbContext, keyDictionary));
         }
         return classes.get(clazz);
     }
@@ -164,4 +196,13 @@ public class MappingContext {
     public void addSerializerProvider(Class<?> clazz, ContainerSerializerProvider serializerProvider) {
         serializers.putIfAbsent(clazz, serializerProvider);
     }
+
+    /**
+     * Gets dictionary of key names read into parsed class models.
+     *
+     * @return key dictionary
+     */
+    public KeyDictionary getKeyDictionary() {
+        return keyDictionary;
+    }
 }
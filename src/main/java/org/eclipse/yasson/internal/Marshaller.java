@@ -28,6 +28,7 @@ import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerationException;
 import javax.json.stream.JsonGenerator;
 import java.lang.reflect.Type;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -64,6 +65,16 @@ public class Marshaller extends ProcessingContext implements SerializationContex
         this.runtimeType = null;
     }
 
+    /**
+     * Creates Marshaller for a part of the content tree of the parent, which is generated on another thread.
+     *
+     * @param parent Marshaller of the whole content tree.
+     */
+    public Marshaller(Marshaller parent) {
+        super(parent);
+        this.runtimeType = null;
+    }
+
     /**
      * Marshals given object to provided Writer or OutputStream.
      *
@@ -113,6 +124,27 @@ public class Marshaller extends ProcessingContext implements SerializationContex
         marshall(object,jsonGenerator,false);
     }
 
+    /**
+     * Marshals each of given objects as a separate root value, generator must accept a sequence of root values.
+     * Closes the generator on completion.
+     *
+     * @param objects objects to marshall
+     * @param jsonGenerator generator to use
+     */
+    public void marshallAll(Iterator<?> objects, JsonGenerator jsonGenerator) {
+        try {
+            while (objects.hasNext()) {
+                marshall(objects.next(), jsonGenerator, false);
+            }
+        } finally {
+            try {
+                jsonGenerator.close();
+            } catch (JsonGenerationException jge) {
+                logger.severe(jge.getMessage());
+            }
+        }
+    }
+
     @Override
     public <T> void serialize(String key, T object, JsonGenerator generator) {
         Objects.requireNonNull(key);
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Deserializes elements of a top level JSON array in UTF-8 in parallel.
+ * <p>
+ * Structural bytes of the whole input are scanned first to find element boundaries.
+ * Ranges of elements are then deserialized by fork/join tasks, each leaf task with its own {@link Unmarshaller},
+ * into a shared array, so the result keeps the order of elements.
+ * </p>
+ *
+ * @param <T> type of elements
+ */
+public class ParallelArrayDeserializer<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Count of leaf tasks per worker thread, more tasks balance elements of different size.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final JsonbContext jsonbContext;
+
+    private final Function<ByteBuffer, JsonbRiParser> parserFactory;
+
+    private final Type elementType;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Start and end of each element in the buffer, end is the position of following comma or closing bracket.
+     */
+    private int[] bounds = new int[INITIAL_CAPACITY];
+
+    private int count;
+
+    private Object[] elements;
+
+    /**
+     * Creates an instance.
+     *
+     * @param jsonbContext context shared by unmarshallers of all tasks
+     * @param parserFactory creates parser of an element
+     * @param elementType type of elements
+     * @param buffer UTF-8 input from its position to its limit
+     */
+    public ParallelArrayDeserializer(JsonbContext jsonbContext, Function<ByteBuffer, JsonbRiParser> parserFactory,
+                                     Type elementType, ByteBuffer buffer) {
+        this.jsonbContext = jsonbContext;
+        this.parserFactory = parserFactory;
+        this.elementType = elementType;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Deserializes all elements.
+     *
+     * @param pool pool running deserialization tasks
+     * @return elements in order of the array
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> deserialize(ForkJoinPool pool) {
+        scan();
+        elements = new Object[count];
+        if (count > 0) {
+            final int threshold = Math.max(1, count / (pool.getParallelism() * TASKS_PER_THREAD));
+            pool.invoke(new RangeTask(0, count, threshold));
+        }
+        return new ArrayList<>((List<T>) Arrays.asList(elements));
+    }
+
+    private void scan() {
+        final int start = buffer.position();
+        final int end = buffer.limit();
+        final ArrayBoundaryScanner scanner = new ArrayBoundaryScanner(this::addElement);
+        for (int position = start; position < end; position++) {
+            scanner.scan(buffer.get(position), position, position - start);
+        }
+        scanner.finish();
+    }
+
+    private void addElement(int start, int end) {
+        if (bounds.length == count * 2) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[count * 2] = start;
+        bounds[count * 2 + 1] = end;
+        count++;
+    }
+
+    /**
+     * Deserializes a range of elements, forks halves of the range while it is larger than threshold.
+     */
+    private final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        private RangeTask(int from, int to, int threshold) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                final Unmarshaller unmarshaller = new Unmarshaller(jsonbContext);
+                for (int i = from; i < to; i++) {
+                    final ByteBuffer element = buffer.duplicate();
+                    element.limit(bounds[i * 2 + 1]);
+                    element.position(bounds[i * 2]);
+                    elements[i] = unmarshaller.deserializeArrayElement(elementType, parserFactory.apply(element), i);
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, threshold), new RangeTask(middle, to, threshold));
+        }
+    }
+}
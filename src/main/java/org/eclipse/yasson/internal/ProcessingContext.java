@@ -13,7 +13,12 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal;
 
-import java.util.HashSet;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+import javax.json.bind.JsonbException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Set;
 
 /**
@@ -29,8 +34,19 @@ public abstract class ProcessingContext {
     /**
      * Used to avoid StackOverflowError, when adapted / serialized object
      * contains contains instance of its type inside it or when object has recursive reference.
+     * Objects are compared by identity, their equals and hashCode are not called.
+     */
+    private final Set<Object> currentlyProcessedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Maximal depth of processed objects if content trees are declared acyclic and objects are not tracked, 0 otherwise.
+     */
+    private final int acyclicMaxDepth;
+
+    /**
+     * Depth of currently processed objects, if they are not tracked.
      */
-    private final Set<Object> currentlyProcessedObjects = new HashSet<>();
+    private int depth;
 
     /**
      * Parent instance for marshaller and unmarshaller.
@@ -39,6 +55,20 @@ public abstract class ProcessingContext {
      */
     public ProcessingContext(JsonbContext jsonbContext) {
         this.jsonbContext = jsonbContext;
+        this.acyclicMaxDepth = jsonbContext.getConfigProperties().getAcyclicMaxDepth();
+    }
+
+    /**
+     * Creates a context processing a part of the parent's content tree on another thread.
+     * Objects currently processed by the parent are copied, so that references back to them are detected.
+     *
+     * @param parent context of the enclosing content tree
+     */
+    protected ProcessingContext(ProcessingContext parent) {
+        this.jsonbContext = parent.jsonbContext;
+        this.acyclicMaxDepth = parent.acyclicMaxDepth;
+        this.depth = parent.depth;
+        this.currentlyProcessedObjects.addAll(parent.currentlyProcessedObjects);
     }
 
     /**
@@ -60,12 +90,49 @@ public abstract class ProcessingContext {
     }
 
 
+    /**
+     * Marks an object as being processed by an adapter or a user serializer.
+     * If content trees are declared acyclic, only depth of processed objects is checked.
+     *
+     * @param object object to process
+     * @return false if the same instance is already being processed, or if maximal depth is reached
+     */
     public boolean addProcessedObject(Object object) {
+        if (acyclicMaxDepth > 0) {
+            if (depth == acyclicMaxDepth) {
+                return false;
+            }
+            depth++;
+            return true;
+        }
         return this.currentlyProcessedObjects.add(object);
     }
 
+    /**
+     * Marks end of processing of an object added by {@link #addProcessedObject(Object)}.
+     *
+     * @param object processed object
+     * @return true if object has been processed
+     */
     public boolean removeProcessedObject(Object object) {
+        if (acyclicMaxDepth > 0) {
+            depth--;
+            return true;
+        }
         return currentlyProcessedObjects.remove(object);
     }
 
+    /**
+     * Creates exception for an object, which couldn't be added by {@link #addProcessedObject(Object)}.
+     *
+     * @param object object to process
+     * @return exception to throw
+     */
+    public JsonbException createRecursiveReferenceException(Object object) {
+        if (acyclicMaxDepth > 0) {
+            return new JsonbException(Messages.getMessage(MessageKeys.ACYCLIC_MAX_DEPTH_EXCEEDED, acyclicMaxDepth, object.getClass()));
+        }
+        return new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, object.getClass()));
+    }
+
 }
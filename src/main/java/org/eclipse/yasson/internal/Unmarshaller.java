@@ -24,6 +24,7 @@ import javax.json.bind.JsonbException;
 import javax.json.bind.serializer.DeserializationContext;
 import javax.json.bind.serializer.JsonbDeserializer;
 import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
 import java.lang.reflect.Type;
 import java.util.logging.Logger;
 
@@ -77,6 +78,29 @@ public class Unmarshaller extends ProcessingContext implements DeserializationCo
         }
     }
 
+    /**
+     * Deserializes an element of a top level JSON array from a parser of its bytes between delimiters.
+     * The parser must hold exactly one JSON value, it is closed afterwards.
+     *
+     * @param type type of the element
+     * @param parser parser of the element bytes
+     * @param index index of the element in the array
+     * @param <T> type of the element
+     * @return deserialized element
+     * @throws JsonbException if there is no JSON value or more than one
+     */
+    public <T> T deserializeArrayElement(Type type, JsonParser parser, long index) {
+        try (JsonParser elementParser = parser) {
+            final T element = deserializeItem(type, elementParser);
+            if (elementParser.hasNext()) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.CHUNK_ELEMENT_NOT_SINGLE_VALUE, String.valueOf(index)));
+            }
+            return element;
+        } catch (JsonParsingException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.CHUNK_ELEMENT_NOT_SINGLE_VALUE, String.valueOf(index)), e);
+        }
+    }
+
     /**
      * Get root value event, either for new deserialization process, or deserialization sub-process invoked from
      * custom user deserializer.
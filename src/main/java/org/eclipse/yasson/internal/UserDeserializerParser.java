@@ -150,6 +150,16 @@ public class UserDeserializerParser implements JsonbParser {
         jsonbParser.skipJsonStructure();
     }
 
+    @Override
+    public boolean isExactLong() {
+        return jsonbParser.isExactLong();
+    }
+
+    @Override
+    public double getDouble() {
+        return jsonbParser.getDouble();
+    }
+
 
     @Override
     public JsonObject getObject() {
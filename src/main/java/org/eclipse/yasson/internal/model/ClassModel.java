@@ -12,13 +12,17 @@
  ******************************************************************************/
 package org.eclipse.yasson.internal.model;
 
+import org.eclipse.yasson.PropertyAccessorStrategy;
 import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.model.customization.naming.CaseInsensitiveStrategy;
 import org.eclipse.yasson.internal.model.customization.ClassCustomization;
 
+import javax.json.bind.JsonbException;
 import javax.json.bind.config.PropertyNamingStrategy;
 import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -46,8 +50,28 @@ public class ClassModel {
      */
     private PropertyModel[] sortedProperties;
 
+    /**
+     * Properties indexed by their ordinal. Slots of parent properties overridden in this class are empty.
+     */
+    private PropertyModel[] propertiesByOrdinal;
+
+    /**
+     * Properties indexed by a name used when reading json document.
+     */
+    private Map<String, PropertyModel> readNameIndex;
+
+    /**
+     * Properties indexed by case folded read name, null unless {@link CaseInsensitiveStrategy} is used.
+     */
+    private Map<String, PropertyModel> foldedReadNameIndex;
+
     private final PropertyNamingStrategy propertyNamingStrategy;
 
+    /**
+     * Generated function calling default constructor, null if reflection is used.
+     */
+    private final Supplier<Object> defaultInstanceFactory;
+
     /**
      * Gets a property model by default (non customized) name.
      *
@@ -67,11 +91,27 @@ public class ClassModel {
      * @param propertyNamingStrategy Property naming strategy.
      */
     public ClassModel(Class<?> clazz, ClassCustomization customization, ClassModel parentClassModel, PropertyNamingStrategy propertyNamingStrategy) {
+        this(clazz, customization, parentClassModel, propertyNamingStrategy, PropertyAccessorStrategy.REFLECTION);
+    }
+
+    /**
+     * Create instance of class model.
+     *
+     * @param clazz Class to model.
+     * @param customization Customization of the class parsed from annotations.
+     * @param parentClassModel Class model of parent class.
+     * @param propertyNamingStrategy Property naming strategy.
+     * @param accessorStrategy Strategy used to create instances with default constructor.
+     */
+    public ClassModel(Class<?> clazz, ClassCustomization customization, ClassModel parentClassModel,
+                      PropertyNamingStrategy propertyNamingStrategy, PropertyAccessorStrategy accessorStrategy) {
         this.clazz = clazz;
         this.classCustomization = customization;
         this.parentClassModel = parentClassModel;
         this.propertyNamingStrategy = propertyNamingStrategy;
         this.defaultConstructor = ReflectionUtils.getDefaultConstructor(clazz, false);
+        this.defaultInstanceFactory = defaultConstructor != null && accessorStrategy == PropertyAccessorStrategy.LAMBDA
+                ? LambdaAccessors.createConstructor(defaultConstructor) : null;
         setProperties(new ArrayList<>());
     }
 
@@ -83,37 +123,67 @@ public class ClassModel {
      */
     public PropertyModel findPropertyModelByJsonReadName(String jsonReadName) {
         Objects.requireNonNull(jsonReadName);
-        return searchProperty(this, jsonReadName);
+        final PropertyModel result = readNameIndex.get(jsonReadName);
+        if (result == null && foldedReadNameIndex != null) {
+            return foldedReadNameIndex.get(foldCase(jsonReadName));
+        }
+        return result;
     }
 
-    private PropertyModel searchProperty(ClassModel classModel, String jsonReadName) {
-        //Standard javabean properties without overridden name (most of the cases)
-        final PropertyModel result = classModel.getPropertyModel(jsonReadName);
-        if (result != null && result.getPropertyName().equals(result.getReadName())) {
-            return result;
-        }
-        //Search for overridden name on setter with @JsonbProperty annotation
-        for (PropertyModel propertyModel : properties.values()) {
-            if (equalsReadName(jsonReadName, propertyModel)) {
-                return propertyModel;
+    private boolean isCaseInsensitive() {
+        return propertyNamingStrategy instanceof CaseInsensitiveStrategy;
+    }
+
+    /**
+     * Folds a name, so that folded names are equal if and only if names are equal ignoring case,
+     * same as in {@link String#equalsIgnoreCase(String)}.
+     * Returns the same instance if name doesn't change by folding.
+     */
+    private static String foldCase(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (foldCase(c) != c) {
+                final char[] folded = name.toCharArray();
+                for (int j = i; j < folded.length; j++) {
+                    folded[j] = foldCase(folded[j]);
+                }
+                return new String(folded);
             }
         }
-        //property not found
-        return null;
+        return name;
+    }
+
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
     }
 
     /**
-     * Check if name is equal according to property strategy. In case of {@link CaseInsensitiveStrategy} ignore case.
-     * User can provide own strategy implementation, cast to custom interface is not an option.
-     *
-     * @return True if names are equal.
+     * Creates indexes of properties by read name.
+     * Exact read name takes precedence over case folded one, so properties differing only in case
+     * are still distinguished with {@link CaseInsensitiveStrategy}.
      */
-    private boolean equalsReadName(String jsonName, PropertyModel propertyModel) {
-        final String propertyReadName = propertyModel.getReadName();
-        if (propertyNamingStrategy instanceof CaseInsensitiveStrategy) {
-            return jsonName.equalsIgnoreCase(propertyReadName);
+    private void initReadNameIndex(List<PropertyModel> parsedProperties) {
+        this.readNameIndex = createReadNameIndex(parsedProperties, PropertyModel::getReadName);
+        this.foldedReadNameIndex = isCaseInsensitive()
+                ? createReadNameIndex(parsedProperties, propertyModel -> foldCase(propertyModel.getReadName())) : null;
+    }
+
+    /**
+     * Standard javabean properties without overridden name take precedence in case of key clash.
+     */
+    private static Map<String, PropertyModel> createReadNameIndex(List<PropertyModel> parsedProperties,
+                                                                  Function<PropertyModel, String> key) {
+        final Map<String, PropertyModel> index = new HashMap<>();
+        for (PropertyModel propertyModel : parsedProperties) {
+            if (propertyModel.getPropertyName().equals(propertyModel.getReadName())) {
+                index.putIfAbsent(key.apply(propertyModel), propertyModel);
+            }
+        }
+        //overridden name with @JsonbProperty annotation or naming strategy
+        for (PropertyModel propertyModel : parsedProperties) {
+            index.putIfAbsent(key.apply(propertyModel), propertyModel);
         }
-        return jsonName.equals(propertyReadName);
+        return index;
     }
 
     /**
@@ -167,6 +237,46 @@ public class ClassModel {
     public void setProperties(List<PropertyModel> parsedProperties) {
         sortedProperties = parsedProperties.toArray(new PropertyModel[]{});
         this.properties = parsedProperties.stream().collect(Collectors.toMap(PropertyModel::getPropertyName, (mod) -> mod));
+        initOrdinals(parsedProperties);
+        initReadNameIndex(parsedProperties);
+    }
+
+    /**
+     * Assigns ordinals to properties declared by this class model. Ordinals of properties declared in this class
+     * follow the ordinals of parent class, so properties shared with parent class model keep the same ordinal
+     * in all subclass models.
+     */
+    private void initOrdinals(List<PropertyModel> parsedProperties) {
+        int ordinal = parentClassModel == null ? 0 : parentClassModel.getPropertySlotCount();
+        for (PropertyModel propertyModel : parsedProperties) {
+            if (propertyModel.getClassModel() == this) {
+                propertyModel.setOrdinal(ordinal++);
+            }
+        }
+        propertiesByOrdinal = new PropertyModel[ordinal];
+        for (PropertyModel propertyModel : parsedProperties) {
+            propertiesByOrdinal[propertyModel.getOrdinal()] = propertyModel;
+        }
+    }
+
+    /**
+     * Number of ordinal slots of properties of this class model, including slots of parent properties.
+     * Arrays indexed by {@link PropertyModel#getOrdinal()} must be of this size.
+     *
+     * @return number of property slots
+     */
+    public int getPropertySlotCount() {
+        return propertiesByOrdinal.length;
+    }
+
+    /**
+     * Gets a property model by its ordinal.
+     *
+     * @param ordinal ordinal of a property
+     * @return property model or null if slot is not used by this class model
+     */
+    public PropertyModel getPropertyByOrdinal(int ordinal) {
+        return propertiesByOrdinal[ordinal];
     }
 
     /**
@@ -184,4 +294,20 @@ public class ClassModel {
     public Constructor<?> getDefaultConstructor() {
         return defaultConstructor;
     }
+
+    /**
+     * Creates new instance of the class with default no argument constructor.
+     *
+     * @return new instance
+     */
+    public Object newDefaultInstance() {
+        if (defaultInstanceFactory == null) {
+            return ReflectionUtils.createNoArgConstructorInstance(defaultConstructor);
+        }
+        try {
+            return defaultInstanceFactory.get();
+        } catch (RuntimeException e) {
+            throw new JsonbException("Can't create instance", e);
+        }
+    }
 }
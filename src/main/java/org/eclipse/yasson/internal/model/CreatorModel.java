@@ -15,9 +15,11 @@ package org.eclipse.yasson.internal.model;
 import org.eclipse.yasson.internal.AnnotationIntrospector;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.model.customization.*;
+import org.eclipse.yasson.internal.serializer.DeserializerBuilder;
 import org.eclipse.yasson.internal.serializer.JsonbDateFormatter;
 import org.eclipse.yasson.internal.serializer.JsonbNumberFormatter;
 
+import javax.json.bind.serializer.JsonbDeserializer;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 
@@ -34,6 +36,13 @@ public class CreatorModel {
 
     private final CreatorCustomization creatorCustomization;
 
+    private final JsonbDeserializer<?> deserializer;
+
+    /**
+     * Index of this parameter in creator parameters.
+     */
+    private int ordinal;
+
     /**
      * Creates a new instance.
      *
@@ -56,6 +65,10 @@ public class CreatorModel {
         builder.setDeserializerBinding(annotationIntrospector.getDeserializerBinding(clsElement));
         builder.setSerializerBinding(annotationIntrospector.getSerializerBinding(clsElement));
         this.creatorCustomization = new CreatorCustomization(builder, constructorNumberFormatter, constructorDateFormatter);
+        this.deserializer = new DeserializerBuilder(context)
+                .withType(type)
+                .withCustomization(creatorCustomization)
+                .buildValueTypeDeserializer();
     }
 
     /**
@@ -71,6 +84,28 @@ public class CreatorModel {
         return creatorCustomization;
     }
 
+    /**
+     * Gets cached deserializer for JSON values (not structures) of this parameter.
+     *
+     * @return Deserializer or null if not resolvable before runtime.
+     */
+    public JsonbDeserializer<?> getDeserializer() {
+        return deserializer;
+    }
+
+    /**
+     * Index of this parameter in creator parameters.
+     *
+     * @return ordinal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     /**
      * Gets parameter type.
      *
@@ -42,6 +42,9 @@ public class JsonbCreator {
     public JsonbCreator(Executable executable, CreatorModel[] creatorModels) {
         this.executable = executable;
         this.params = creatorModels;
+        for (int i = 0; i < creatorModels.length; i++) {
+            creatorModels[i].setOrdinal(i);
+        }
     }
 
     /**
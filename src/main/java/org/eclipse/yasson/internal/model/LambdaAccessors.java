@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Creates functions invoking getters, setters and no argument constructors directly,
+ * with classes generated by {@link LambdaMetafactory}.
+ *
+ * <p>Generated classes are defined in Yasson, so that they can only be created for public members of public classes,
+ * which are accessible by the module rules and visible from the Yasson class loader.
+ * Otherwise null is returned and caller should fall back to reflection.</p>
+ */
+final class LambdaAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private LambdaAccessors() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Creates function invoking a getter.
+     *
+     * @param getter getter method
+     * @return function invoking getter, or null if getter can't be bound
+     */
+    static Function<Object, Object> createGetter(Method getter) {
+        return bind(getter, Function.class, "apply", MethodType.methodType(Object.class, Object.class));
+    }
+
+    /**
+     * Creates function invoking a getter of primitive int.
+     *
+     * @param getter getter method
+     * @return function invoking getter, or null if getter can't be bound
+     */
+    static ToIntFunction<Object> createIntGetter(Method getter) {
+        return bind(getter, ToIntFunction.class, "applyAsInt", MethodType.methodType(int.class, Object.class));
+    }
+
+    /**
+     * Creates function invoking a getter of primitive long.
+     *
+     * @param getter getter method
+     * @return function invoking getter, or null if getter can't be bound
+     */
+    static ToLongFunction<Object> createLongGetter(Method getter) {
+        return bind(getter, ToLongFunction.class, "applyAsLong", MethodType.methodType(long.class, Object.class));
+    }
+
+    /**
+     * Creates function invoking a getter of primitive double.
+     *
+     * @param getter getter method
+     * @return function invoking getter, or null if getter can't be bound
+     */
+    static ToDoubleFunction<Object> createDoubleGetter(Method getter) {
+        return bind(getter, ToDoubleFunction.class, "applyAsDouble", MethodType.methodType(double.class, Object.class));
+    }
+
+    /**
+     * Creates function invoking a getter of primitive boolean.
+     *
+     * @param getter getter method
+     * @return function invoking getter, or null if getter can't be bound
+     */
+    static Predicate<Object> createBooleanGetter(Method getter) {
+        return bind(getter, Predicate.class, "test", MethodType.methodType(boolean.class, Object.class));
+    }
+
+    /**
+     * Creates function invoking a setter. Value returned by setter if any is discarded.
+     *
+     * @param setter setter method
+     * @return function invoking setter, or null if setter can't be bound
+     */
+    static BiConsumer<Object, Object> createSetter(Method setter) {
+        return bind(setter, BiConsumer.class, "accept", MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * Creates function invoking a setter of primitive int.
+     *
+     * @param setter setter method
+     * @return function invoking setter, or null if setter can't be bound
+     */
+    static ObjIntConsumer<Object> createIntSetter(Method setter) {
+        return bind(setter, ObjIntConsumer.class, "accept", MethodType.methodType(void.class, Object.class, int.class));
+    }
+
+    /**
+     * Creates function invoking a setter of primitive long.
+     *
+     * @param setter setter method
+     * @return function invoking setter, or null if setter can't be bound
+     */
+    static ObjLongConsumer<Object> createLongSetter(Method setter) {
+        return bind(setter, ObjLongConsumer.class, "accept", MethodType.methodType(void.class, Object.class, long.class));
+    }
+
+    /**
+     * Creates function invoking a setter of primitive double.
+     *
+     * @param setter setter method
+     * @return function invoking setter, or null if setter can't be bound
+     */
+    static ObjDoubleConsumer<Object> createDoubleSetter(Method setter) {
+        return bind(setter, ObjDoubleConsumer.class, "accept", MethodType.methodType(void.class, Object.class, double.class));
+    }
+
+    /**
+     * Creates function invoking a setter of primitive boolean.
+     *
+     * @param setter setter method
+     * @return function invoking setter, or null if setter can't be bound
+     */
+    static ObjBooleanConsumer createBooleanSetter(Method setter) {
+        return bind(setter, ObjBooleanConsumer.class, "accept", MethodType.methodType(void.class, Object.class, boolean.class));
+    }
+
+    /**
+     * Binds an instance method to a functional interface. First parameter of the functional method is the instance.
+     * Primitive parameters and return type of the functional method must match the bound method,
+     * object types are cast or boxed.
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> F bind(Method method, Class<?> functionType, String functionMethodName, MethodType functionMethodType) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != functionMethodType.parameterCount() - 1
+                || !isAccessible(method.getDeclaringClass(), method.getModifiers(), method.getReturnType())
+                || !isAccessible(method.getDeclaringClass(), method.getModifiers(), parameterTypes)) {
+            return null;
+        }
+        final Class<?> returnType = functionMethodType.returnType();
+        if (returnType.isPrimitive() && returnType != void.class && returnType != method.getReturnType()) {
+            return null;
+        }
+        final Class<?>[] instantiatedParameterTypes = new Class<?>[parameterTypes.length + 1];
+        instantiatedParameterTypes[0] = method.getDeclaringClass();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final Class<?> parameterType = functionMethodType.parameterType(i + 1);
+            if (parameterType.isPrimitive() && parameterType != parameterTypes[i]) {
+                return null;
+            }
+            instantiatedParameterTypes[i + 1] = parameterType.isPrimitive() ? parameterType : wrap(parameterTypes[i]);
+        }
+        final Class<?> instantiatedReturnType = returnType.isPrimitive() ? returnType : wrap(method.getReturnType());
+        try {
+            final MethodHandle handle = LOOKUP.findVirtual(method.getDeclaringClass(), method.getName(),
+                    MethodType.methodType(method.getReturnType(), parameterTypes));
+            final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, functionMethodName,
+                    MethodType.methodType(functionType),
+                    functionMethodType,
+                    handle, MethodType.methodType(instantiatedReturnType, instantiatedParameterTypes));
+            return (F) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Creates function invoking no argument constructor.
+     *
+     * @param constructor no argument constructor
+     * @return function creating instances, or null if constructor can't be bound
+     */
+    @SuppressWarnings("unchecked")
+    static Supplier<Object> createConstructor(Constructor<?> constructor) {
+        final Class<?> declaringClass = constructor.getDeclaringClass();
+        if (Modifier.isAbstract(declaringClass.getModifiers())
+                || !isAccessible(declaringClass, constructor.getModifiers())) {
+            return null;
+        }
+        try {
+            final MethodHandle handle = LOOKUP.findConstructor(declaringClass, MethodType.methodType(void.class));
+            final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle, handle.type());
+            return (Supplier<Object>) callSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Generated class resolves all referenced types with Yasson class loader and accesses them directly,
+     * so access checks of {@link MethodHandles.Lookup} are not enough.
+     */
+    private static boolean isAccessible(Class<?> declaringClass, int memberModifiers, Class<?>... referencedTypes) {
+        if (!Modifier.isPublic(memberModifiers) || !Modifier.isPublic(declaringClass.getModifiers())
+                || declaringClass.isAnonymousClass() || declaringClass.isSynthetic()) {
+            return false;
+        }
+        if (!isVisible(declaringClass)) {
+            return false;
+        }
+        for (Class<?> type : referencedTypes) {
+            if (!isVisible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        Class<?> componentType = type;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        if (componentType.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Modifier.isPublic(componentType.getModifiers())
+                    && Class.forName(componentType.getName(), false, LambdaAccessors.class.getClassLoader()) == componentType;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Operation accepting an object and primitive boolean value, missing in {@link java.util.function}.
+     */
+    @FunctionalInterface
+    interface ObjBooleanConsumer {
+
+        /**
+         * Performs this operation on the given arguments.
+         *
+         * @param object the first input argument
+         * @param value the second input argument
+         */
+        void accept(Object object, boolean value);
+    }
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.model;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+import javax.json.bind.JsonbException;
+import javax.json.bind.config.PropertyVisibilityStrategy;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Propagates values with getters and setters bound by {@link LambdaAccessors}.
+ * Getters and setters of primitive int, long, double and boolean are bound also without boxing.
+ * Fields and methods, which can't be bound, are accessed with reflection.
+ */
+class LambdaValuePropagation extends ReflectionPropagation {
+
+    private Method getter;
+
+    private Method setter;
+
+    private Function<Object, Object> getFunction;
+
+    private BiConsumer<Object, Object> setFunction;
+
+    private ToIntFunction<Object> getIntFunction;
+
+    private ObjIntConsumer<Object> setIntFunction;
+
+    private ToLongFunction<Object> getLongFunction;
+
+    private ObjLongConsumer<Object> setLongFunction;
+
+    private ToDoubleFunction<Object> getDoubleFunction;
+
+    private ObjDoubleConsumer<Object> setDoubleFunction;
+
+    private Predicate<Object> getBooleanFunction;
+
+    private LambdaAccessors.ObjBooleanConsumer setBooleanFunction;
+
+    LambdaValuePropagation(Property property, PropertyVisibilityStrategy propertyVisibilityStrategy) {
+        super(property, propertyVisibilityStrategy);
+    }
+
+    @Override
+    protected void acceptMethod(Method method, OperationMode mode) {
+        switch (mode) {
+            case GET:
+                getFunction = LambdaAccessors.createGetter(method);
+                if (getFunction == null) {
+                    super.acceptMethod(method, mode);
+                    return;
+                }
+                getter = method;
+                bindPrimitiveGetter(method);
+                break;
+            case SET:
+                setFunction = LambdaAccessors.createSetter(method);
+                if (setFunction == null) {
+                    super.acceptMethod(method, mode);
+                    return;
+                }
+                setter = method;
+                bindPrimitiveSetter(method);
+                break;
+            default:
+                throw new IllegalStateException("Unknown mode");
+        }
+    }
+
+    private void bindPrimitiveGetter(Method method) {
+        final Class<?> type = method.getReturnType();
+        if (type == int.class) {
+            getIntFunction = LambdaAccessors.createIntGetter(method);
+        } else if (type == long.class) {
+            getLongFunction = LambdaAccessors.createLongGetter(method);
+        } else if (type == double.class) {
+            getDoubleFunction = LambdaAccessors.createDoubleGetter(method);
+        } else if (type == boolean.class) {
+            getBooleanFunction = LambdaAccessors.createBooleanGetter(method);
+        }
+    }
+
+    private void bindPrimitiveSetter(Method method) {
+        final Class<?> type = method.getParameterTypes()[0];
+        if (type == int.class) {
+            setIntFunction = LambdaAccessors.createIntSetter(method);
+        } else if (type == long.class) {
+            setLongFunction = LambdaAccessors.createLongSetter(method);
+        } else if (type == double.class) {
+            setDoubleFunction = LambdaAccessors.createDoubleSetter(method);
+        } else if (type == boolean.class) {
+            setBooleanFunction = LambdaAccessors.createBooleanSetter(method);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void setValue(Object object, Object value) {
+        if (setFunction == null) {
+            super.setValue(object, value);
+            return;
+        }
+        try {
+            setFunction.accept(object, value);
+        } catch (RuntimeException e) {
+            throw setterException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Object getValue(Object object) {
+        if (getFunction == null) {
+            return super.getValue(object);
+        }
+        try {
+            return getFunction.apply(object);
+        } catch (RuntimeException e) {
+            throw getterException(e);
+        }
+    }
+
+    @Override
+    int getInt(Object object) {
+        if (getIntFunction == null) {
+            return super.getInt(object);
+        }
+        try {
+            return getIntFunction.applyAsInt(object);
+        } catch (RuntimeException e) {
+            throw getterException(e);
+        }
+    }
+
+    @Override
+    void setInt(Object object, int value) {
+        if (setIntFunction == null) {
+            super.setInt(object, value);
+            return;
+        }
+        try {
+            setIntFunction.accept(object, value);
+        } catch (RuntimeException e) {
+            throw setterException(e);
+        }
+    }
+
+    @Override
+    long getLong(Object object) {
+        if (getLongFunction == null) {
+            return super.getLong(object);
+        }
+        try {
+            return getLongFunction.applyAsLong(object);
+        } catch (RuntimeException e) {
+            throw getterException(e);
+        }
+    }
+
+    @Override
+    void setLong(Object object, long value) {
+        if (setLongFunction == null) {
+            super.setLong(object, value);
+            return;
+        }
+        try {
+            setLongFunction.accept(object, value);
+        } catch (RuntimeException e) {
+            throw setterException(e);
+        }
+    }
+
+    @Override
+    double getDouble(Object object) {
+        if (getDoubleFunction == null) {
+            return super.getDouble(object);
+        }
+        try {
+            return getDoubleFunction.applyAsDouble(object);
+        } catch (RuntimeException e) {
+            throw getterException(e);
+        }
+    }
+
+    @Override
+    void setDouble(Object object, double value) {
+        if (setDoubleFunction == null) {
+            super.setDouble(object, value);
+            return;
+        }
+        try {
+            setDoubleFunction.accept(object, value);
+        } catch (RuntimeException e) {
+            throw setterException(e);
+        }
+    }
+
+    @Override
+    boolean getBoolean(Object object) {
+        if (getBooleanFunction == null) {
+            return super.getBoolean(object);
+        }
+        try {
+            return getBooleanFunction.test(object);
+        } catch (RuntimeException e) {
+            throw getterException(e);
+        }
+    }
+
+    @Override
+    void setBoolean(Object object, boolean value) {
+        if (setBooleanFunction == null) {
+            super.setBoolean(object, value);
+            return;
+        }
+        try {
+            setBooleanFunction.accept(object, value);
+        } catch (RuntimeException e) {
+            throw setterException(e);
+        }
+    }
+
+    private RuntimeException getterException(RuntimeException e) {
+        return e instanceof JsonbException ? e : new JsonbException(Messages.getMessage(MessageKeys.GETTING_VALUE_WITH, getter), e);
+    }
+
+    private RuntimeException setterException(RuntimeException e) {
+        return e instanceof JsonbException ? e : new JsonbException(Messages.getMessage(MessageKeys.SETTING_VALUE_WITH, setter), e);
+    }
+}
@@ -20,13 +20,25 @@ import org.eclipse.yasson.internal.components.SerializerBinding;
 import org.eclipse.yasson.internal.model.customization.PropertyCustomization;
 import org.eclipse.yasson.internal.model.customization.PropertyCustomizationBuilder;
 import org.eclipse.yasson.internal.serializer.AdaptedObjectSerializer;
+import org.eclipse.yasson.internal.serializer.BooleanTypeDeserializer;
+import org.eclipse.yasson.internal.serializer.BooleanTypeSerializer;
 import org.eclipse.yasson.internal.serializer.DefaultSerializers;
+import org.eclipse.yasson.internal.serializer.DeserializerBuilder;
+import org.eclipse.yasson.internal.serializer.DoubleTypeDeserializer;
+import org.eclipse.yasson.internal.serializer.DoubleTypeSerializer;
+import org.eclipse.yasson.internal.serializer.IntegerTypeDeserializer;
+import org.eclipse.yasson.internal.serializer.IntegerTypeSerializer;
 import org.eclipse.yasson.internal.serializer.JsonbDateFormatter;
 import org.eclipse.yasson.internal.serializer.JsonbNumberFormatter;
+import org.eclipse.yasson.internal.serializer.LongTypeDeserializer;
+import org.eclipse.yasson.internal.serializer.LongTypeSerializer;
+import org.eclipse.yasson.internal.serializer.RuntimeSerializerCache;
 import org.eclipse.yasson.internal.serializer.SerializerProviderWrapper;
 import org.eclipse.yasson.internal.serializer.UserSerializerSerializer;
+import org.eclipse.yasson.internal.stream.Utf8JsonGenerator;
 
 import javax.json.bind.config.PropertyNamingStrategy;
+import javax.json.bind.serializer.JsonbDeserializer;
 import javax.json.bind.serializer.JsonbSerializer;
 import java.lang.reflect.Type;
 import java.util.EnumSet;
@@ -58,6 +70,11 @@ public class PropertyModel implements Comparable<PropertyModel> {
      */
     private final String writeName;
 
+    /**
+     * Write name escaped and encoded in UTF-8, followed by colon.
+     */
+    private final byte[] encodedWriteName;
+
     /**
      * Field propertyType.
      */
@@ -77,10 +94,32 @@ public class PropertyModel implements Comparable<PropertyModel> {
 
     private final JsonbSerializer<?> propertySerializer;
 
+    private final JsonbDeserializer<?> propertyDeserializer;
+
+    /**
+     * Serializers built for runtime classes of property values, if property serializer can't be cached.
+     */
+    private final RuntimeSerializerCache runtimeSerializerCache;
+
+    /**
+     * Primitive type of the property, if serialized by cached serializer without boxing, null otherwise.
+     */
+    private final Class<?> primitiveSerializationType;
+
+    /**
+     * Primitive type of the property, if deserialized by cached deserializer without boxing, null otherwise.
+     */
+    private final Class<?> primitiveDeserializationType;
+
     private final AccessMethodType getterMethodType;
 
     private final AccessMethodType setterMethodType;
 
+    /**
+     * Index of this property in arrays of property values, assigned by declaring class model.
+     */
+    private int ordinal;
+
     /**
      * Creates an instance.
      *
@@ -92,13 +131,38 @@ public class PropertyModel implements Comparable<PropertyModel> {
         this.classModel = classModel;
         this.propertyName = property.getName();
         this.propertyType = property.getPropertyType();
-        this.propagation = new ReflectionPropagation(property, classModel.getClassCustomization().getPropertyVisibilityStrategy());
+        this.propagation = PropertyValuePropagation.createInstance(property, classModel.getClassCustomization().getPropertyVisibilityStrategy(),
+                jsonbContext.getConfigProperties().getPropertyAccessorStrategy());
         this.getterMethodType = propagation.isGetterVisible() ? new AccessMethodType(property.getGetterType()) : null;
         this.setterMethodType = propagation.isSetterVisible() ? new AccessMethodType(property.getSetterType()) : null;
         this.customization = introspectCustomization(property, jsonbContext);
         this.readName = calculateReadWriteName(customization.getJsonReadName(), jsonbContext.getConfigProperties().getPropertyNamingStrategy());
         this.writeName = calculateReadWriteName(customization.getJsonWriteName(), jsonbContext.getConfigProperties().getPropertyNamingStrategy());
+        this.encodedWriteName = Utf8JsonGenerator.encodeKey(writeName);
         this.propertySerializer = resolveCachedSerializer();
+        this.runtimeSerializerCache = propertySerializer == null && ReflectionUtils.isResolvedType(getPropertySerializationType())
+                ? new RuntimeSerializerCache() : null;
+        this.propertyDeserializer = isWritable() ? resolveCachedDeserializer(jsonbContext) : null;
+        this.primitiveSerializationType = resolvePrimitiveType(getPropertySerializationType(), propertySerializer);
+        this.primitiveDeserializationType = resolvePrimitiveType(getPropertyDeserializationType(), propertyDeserializer);
+    }
+
+    /**
+     * Primitive int, long, double and boolean properties are read and written without boxing,
+     * when handled by default serializer or deserializer.
+     *
+     * @param type property type
+     * @param cachedSerializer cached serializer or deserializer of the property
+     * @return primitive type if supported, null otherwise
+     */
+    private static Class<?> resolvePrimitiveType(Type type, Object cachedSerializer) {
+        if (type == int.class && (cachedSerializer instanceof IntegerTypeSerializer || cachedSerializer instanceof IntegerTypeDeserializer)
+                || type == long.class && (cachedSerializer instanceof LongTypeSerializer || cachedSerializer instanceof LongTypeDeserializer)
+                || type == double.class && (cachedSerializer instanceof DoubleTypeSerializer || cachedSerializer instanceof DoubleTypeDeserializer)
+                || type == boolean.class && (cachedSerializer instanceof BooleanTypeSerializer || cachedSerializer instanceof BooleanTypeDeserializer)) {
+            return (Class<?>) type;
+        }
+        return null;
     }
 
 
@@ -129,6 +193,20 @@ public class PropertyModel implements Comparable<PropertyModel> {
         return null;
     }
 
+    /**
+     * Try to cache deserializer for this bean property. Only if type cannot be changed during runtime
+     * and property is of supported value type, which is deserialized independently of processed JSON structure.
+     *
+     * @param jsonbContext context
+     * @return deserializer instance to be cached
+     */
+    private JsonbDeserializer<?> resolveCachedDeserializer(JsonbContext jsonbContext) {
+        return new DeserializerBuilder(jsonbContext)
+                .withType(getPropertyDeserializationType())
+                .withCustomization(customization)
+                .buildValueTypeDeserializer();
+    }
+
     /**
      * Returns which type should be used to deserialization
      *
@@ -300,6 +378,102 @@ public class PropertyModel implements Comparable<PropertyModel> {
         propagation.setValue(object, value);
     }
 
+    /**
+     * Gets a value of primitive int property without boxing, if supported by property propagation.
+     *
+     * @param object Object to get value from.
+     * @return Value.
+     */
+    public int getInt(Object object) {
+        return propagation.getInt(object);
+    }
+
+    /**
+     * Sets a value of primitive int property without boxing, if supported by property propagation.
+     * If not writable (final, transient, static), ignores property.
+     *
+     * @param object Object to set value in.
+     * @param value  Value to set.
+     */
+    public void setInt(Object object, int value) {
+        if (!isWritable()) {
+            return;
+        }
+        propagation.setInt(object, value);
+    }
+
+    /**
+     * Gets a value of primitive long property without boxing, if supported by property propagation.
+     *
+     * @param object Object to get value from.
+     * @return Value.
+     */
+    public long getLong(Object object) {
+        return propagation.getLong(object);
+    }
+
+    /**
+     * Sets a value of primitive long property without boxing, if supported by property propagation.
+     * If not writable (final, transient, static), ignores property.
+     *
+     * @param object Object to set value in.
+     * @param value  Value to set.
+     */
+    public void setLong(Object object, long value) {
+        if (!isWritable()) {
+            return;
+        }
+        propagation.setLong(object, value);
+    }
+
+    /**
+     * Gets a value of primitive double property without boxing, if supported by property propagation.
+     *
+     * @param object Object to get value from.
+     * @return Value.
+     */
+    public double getDouble(Object object) {
+        return propagation.getDouble(object);
+    }
+
+    /**
+     * Sets a value of primitive double property without boxing, if supported by property propagation.
+     * If not writable (final, transient, static), ignores property.
+     *
+     * @param object Object to set value in.
+     * @param value  Value to set.
+     */
+    public void setDouble(Object object, double value) {
+        if (!isWritable()) {
+            return;
+        }
+        propagation.setDouble(object, value);
+    }
+
+    /**
+     * Gets a value of primitive boolean property without boxing, if supported by property propagation.
+     *
+     * @param object Object to get value from.
+     * @return Value.
+     */
+    public boolean getBoolean(Object object) {
+        return propagation.getBoolean(object);
+    }
+
+    /**
+     * Sets a value of primitive boolean property without boxing, if supported by property propagation.
+     * If not writable (final, transient, static), ignores property.
+     *
+     * @param object Object to set value in.
+     * @param value  Value to set.
+     */
+    public void setBoolean(Object object, boolean value) {
+        if (!isWritable()) {
+            return;
+        }
+        propagation.setBoolean(object, value);
+    }
+
     /**
      * Property is readable. Based on access policy and java field modifiers.
      * @return true if can be serialized to JSON
@@ -382,6 +556,15 @@ public class PropertyModel implements Comparable<PropertyModel> {
         return writeName;
     }
 
+    /**
+     * Gets a name of JSON document property to write this property to, pre-encoded for {@link Utf8JsonGenerator}.
+     *
+     * @return Escaped UTF-8 bytes of write name followed by colon.
+     */
+    public byte[] getEncodedWriteName() {
+        return encodedWriteName;
+    }
+
     /**
      * Gets serializer.
      *
@@ -391,6 +574,59 @@ public class PropertyModel implements Comparable<PropertyModel> {
         return propertySerializer;
     }
 
+    /**
+     * Gets cache of serializers for runtime classes of property values.
+     * Present only when serialization type of the property doesn't contain type variables,
+     * so that serializers don't depend on runtime type of the declaring class.
+     *
+     * @return Cache or null if property has cached serializer or is of generic type.
+     */
+    public RuntimeSerializerCache getRuntimeSerializerCache() {
+        return runtimeSerializerCache;
+    }
+
+    /**
+     * Gets cached deserializer for JSON values (not structures) of this property.
+     *
+     * @return Deserializer or null if not resolvable before runtime.
+     */
+    public JsonbDeserializer<?> getPropertyDeserializer() {
+        return propertyDeserializer;
+    }
+
+    /**
+     * Primitive type of the property, if it is serialized by cached serializer without boxing.
+     * One of int, long, double or boolean.
+     *
+     * @return primitive type or null
+     */
+    public Class<?> getPrimitiveSerializationType() {
+        return primitiveSerializationType;
+    }
+
+    /**
+     * Primitive type of the property, if it is deserialized by cached deserializer without boxing.
+     * One of int, long, double or boolean.
+     *
+     * @return primitive type or null
+     */
+    public Class<?> getPrimitiveDeserializationType() {
+        return primitiveDeserializationType;
+    }
+
+    /**
+     * Stable index of this property in a class model and all of its subclass models.
+     *
+     * @return ordinal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     /**
      * If customized by JsonbPropertyAnnotation, than is used, otherwise use strategy to translate.
      * Since this is cached for performance reasons strategy has to be consistent
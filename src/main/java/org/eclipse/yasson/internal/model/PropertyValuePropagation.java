@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.model;
 
+import org.eclipse.yasson.PropertyAccessorStrategy;
 import org.eclipse.yasson.internal.JsonbContext;
 
 import javax.json.bind.config.PropertyVisibilityStrategy;
@@ -78,6 +79,26 @@ public abstract class PropertyValuePropagation {
         initWritable(field, setter);
     }
 
+    /**
+     * Creates a property propagation for a configured accessor strategy.
+     *
+     * @param property Provided property.
+     * @param strategy Property visibility strategy.
+     * @param accessorStrategy Property accessor strategy.
+     * @return property propagation
+     */
+    static PropertyValuePropagation createInstance(Property property, PropertyVisibilityStrategy strategy,
+                                                   PropertyAccessorStrategy accessorStrategy) {
+        switch (accessorStrategy) {
+            case METHOD_HANDLE:
+                return new MethodHandleValuePropagation(property, strategy);
+            case LAMBDA:
+                return new LambdaValuePropagation(property, strategy);
+            default:
+                return new ReflectionPropagation(property, strategy);
+        }
+    }
+
     private void initReadable(Field field, Method getter) {
 
         final boolean fieldReadable = field == null || (field.getModifiers() & (Modifier.TRANSIENT | Modifier.STATIC)) == 0;
@@ -184,6 +205,86 @@ public abstract class PropertyValuePropagation {
      */
     abstract Object getValue(Object object);
 
+    /**
+     * Gets a value of primitive int property. Unboxes value of {@link #getValue(Object)} if not overridden.
+     *
+     * @param object object to get from
+     * @return value
+     */
+    int getInt(Object object) {
+        return (Integer) getValue(object);
+    }
+
+    /**
+     * Sets a value of primitive int property. Boxes value for {@link #setValue(Object, Object)} if not overridden.
+     *
+     * @param object object to set value in
+     * @param value value to set
+     */
+    void setInt(Object object, int value) {
+        setValue(object, value);
+    }
+
+    /**
+     * Gets a value of primitive long property. Unboxes value of {@link #getValue(Object)} if not overridden.
+     *
+     * @param object object to get from
+     * @return value
+     */
+    long getLong(Object object) {
+        return (Long) getValue(object);
+    }
+
+    /**
+     * Sets a value of primitive long property. Boxes value for {@link #setValue(Object, Object)} if not overridden.
+     *
+     * @param object object to set value in
+     * @param value value to set
+     */
+    void setLong(Object object, long value) {
+        setValue(object, value);
+    }
+
+    /**
+     * Gets a value of primitive double property. Unboxes value of {@link #getValue(Object)} if not overridden.
+     *
+     * @param object object to get from
+     * @return value
+     */
+    double getDouble(Object object) {
+        return (Double) getValue(object);
+    }
+
+    /**
+     * Sets a value of primitive double property. Boxes value for {@link #setValue(Object, Object)} if not overridden.
+     *
+     * @param object object to set value in
+     * @param value value to set
+     */
+    void setDouble(Object object, double value) {
+        setValue(object, value);
+    }
+
+    /**
+     * Gets a value of primitive boolean property. Unboxes value of {@link #getValue(Object)} if not overridden.
+     *
+     * @param object object to get from
+     * @return value
+     */
+    boolean getBoolean(Object object) {
+        return (Boolean) getValue(object);
+    }
+
+    /**
+     * Sets a value of primitive boolean property. Boxes value for {@link #setValue(Object, Object)} if not overridden.
+     *
+     * @param object object to set value in
+     * @param value value to set
+     */
+    void setBoolean(Object object, boolean value) {
+        setValue(object, value);
+    }
+
     /**
      * Property is writable. Based on access policy and java field modifiers.
      * @return true if can be deserialized from JSON
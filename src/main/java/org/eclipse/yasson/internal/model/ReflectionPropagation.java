@@ -14,6 +14,7 @@ package org.eclipse.yasson.internal.model;
 
 import org.eclipse.yasson.internal.JsonbContext;
 
+import javax.json.bind.JsonbException;
 import javax.json.bind.config.PropertyVisibilityStrategy;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -27,6 +28,16 @@ public class ReflectionPropagation extends PropertyValuePropagation {
 
     private SetValueCommand setValueCommand;
 
+    /**
+     * Field to read primitive values from without boxing, null if getter is used.
+     */
+    private Field getField;
+
+    /**
+     * Field to write primitive values to without boxing, null if setter is used.
+     */
+    private Field setField;
+
     public ReflectionPropagation(Property property, PropertyVisibilityStrategy strategy) {
         super(property, strategy);
     }
@@ -55,9 +66,11 @@ public class ReflectionPropagation extends PropertyValuePropagation {
         switch (mode) {
             case GET:
                 getValueCommand = new GetFromField(field);
+                getField = field;
                 break;
             case SET:
                 setValueCommand = new SetWithField(field);
+                setField = field;
                 break;
             default: throw new IllegalStateException("Unknown mode");
         }
@@ -72,4 +85,104 @@ public class ReflectionPropagation extends PropertyValuePropagation {
     Object getValue(Object object) {
         return getValueCommand.getValue(object);
     }
+
+    @Override
+    int getInt(Object object) {
+        if (getField == null) {
+            return super.getInt(object);
+        }
+        try {
+            return getField.getInt(object);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    @Override
+    void setInt(Object object, int value) {
+        if (setField == null) {
+            super.setInt(object, value);
+            return;
+        }
+        try {
+            setField.setInt(object, value);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+    @Override
+    long getLong(Object object) {
+        if (getField == null) {
+            return super.getLong(object);
+        }
+        try {
+            return getField.getLong(object);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    @Override
+    void setLong(Object object, long value) {
+        if (setField == null) {
+            super.setLong(object, value);
+            return;
+        }
+        try {
+            setField.setLong(object, value);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+    @Override
+    double getDouble(Object object) {
+        if (getField == null) {
+            return super.getDouble(object);
+        }
+        try {
+            return getField.getDouble(object);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    @Override
+    void setDouble(Object object, double value) {
+        if (setField == null) {
+            super.setDouble(object, value);
+            return;
+        }
+        try {
+            setField.setDouble(object, value);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+    @Override
+    boolean getBoolean(Object object) {
+        if (getField == null) {
+            return super.getBoolean(object);
+        }
+        try {
+            return getField.getBoolean(object);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    @Override
+    void setBoolean(Object object, boolean value) {
+        if (setField == null) {
+            super.setBoolean(object, value);
+            return;
+        }
+        try {
+            setField.setBoolean(object, value);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
 }
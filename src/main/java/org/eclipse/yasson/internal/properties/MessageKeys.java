@@ -88,6 +88,21 @@ public enum MessageKeys {
     MISSING_VALUE_PROPERTY_IN_ANNOTATION("missingValuePropertyInAnnotation"),
     NUMBER_INCOMPATIBLE_VALUE_TYPE_ARRAY("numberIncompatibleValueTypeArray"),
     NUMBER_INCOMPATIBLE_VALUE_TYPE_OBJECT("numberIncompatibleValueTypeObject"),
+    BUFFER_OVERFLOW("bufferOverflow"),
+    GENERATOR_ILLEGAL_METHOD("generatorIllegalMethod"),
+    GENERATOR_INCOMPLETE_JSON("generatorIncompleteJson"),
+    GENERATOR_IO_ERROR("generatorIoError"),
+    GENERATOR_DOUBLE_INFINITE_NAN("generatorDoubleInfiniteNaN"),
+    PARSER_UNEXPECTED_CHAR("parserUnexpectedChar"),
+    PARSER_UNEXPECTED_EOF("parserUnexpectedEof"),
+    PARSER_IO_ERROR("parserIoError"),
+    PARSER_ILLEGAL_METHOD("parserIllegalMethod"),
+    STREAM_ROOT_NOT_ARRAY("streamRootNotArray"),
+    CHUNK_UNEXPECTED_CHAR("chunkUnexpectedChar"),
+    CHUNK_INCOMPLETE_DOCUMENT("chunkIncompleteDocument"),
+    CHUNK_ELEMENT_NOT_SINGLE_VALUE("chunkElementNotSingleValue"),
+    FILE_IO_ERROR("fileIoError"),
+    ACYCLIC_MAX_DEPTH_EXCEEDED("acyclicMaxDepthExceeded"),
     ;
 
     /** Message bundle key. */
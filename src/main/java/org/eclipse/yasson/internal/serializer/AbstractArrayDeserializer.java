@@ -64,8 +64,11 @@ public abstract class AbstractArrayDeserializer<T> extends AbstractContainerDese
 
     @Override
     protected void deserializeNext(JsonParser parser, Unmarshaller context) {
-        final JsonbDeserializer<?> deserializer = newUnmarshallerItemBuilder(context.getJsonbContext()).withType(componentClass)
-                .withCustomization(componentClassModel == null ? null : componentClassModel.getCustomization()).build();
+        JsonbDeserializer<?> deserializer = getValueTypeDeserializer(componentClass, null, context.getJsonbContext());
+        if (deserializer == null) {
+            deserializer = newUnmarshallerItemBuilder(context.getJsonbContext()).withType(componentClass)
+                    .withCustomization(componentClassModel == null ? null : componentClassModel.getCustomization()).build();
+        }
         appendResult(deserializer.deserialize(parser, context, componentClass));
     }
 
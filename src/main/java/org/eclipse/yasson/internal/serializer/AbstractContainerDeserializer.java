@@ -15,6 +15,7 @@ package org.eclipse.yasson.internal.serializer;
 
 import org.eclipse.yasson.internal.*;
 import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
@@ -37,6 +38,13 @@ import java.util.OptionalLong;
 public abstract class AbstractContainerDeserializer<T> extends AbstractItem<T> implements JsonbDeserializer<T> {
     protected JsonbRiParser.LevelContext parserContext;
 
+    /**
+     * Deserializer for item values of supported value types, resolved once per container instance.
+     */
+    private AbstractValueTypeDeserializer<?> valueTypeDeserializer;
+
+    private boolean valueTypeDeserializerResolved;
+
     /**
      * Create instance of current item with its builder.
      *
@@ -126,8 +134,11 @@ public abstract class AbstractContainerDeserializer<T> extends AbstractItem<T> i
     }
 
     protected JsonbDeserializer<?> newCollectionOrMapItem(Type valueType, JsonbContext ctx) {
-        //TODO needs performance optimization on not to create deserializer each time
-        //TODO In contrast to serialization value type cannot change here
+        //In contrast to serialization value type cannot change here
+        final JsonbDeserializer<?> cachedDeserializer = getValueTypeDeserializer(valueType, null, ctx);
+        if (cachedDeserializer != null) {
+            return cachedDeserializer;
+        }
         Type actualValueType = ReflectionUtils.resolveType(this, valueType);
         DeserializerBuilder deserializerBuilder = newUnmarshallerItemBuilder(ctx).withType(actualValueType);
         if (!DefaultSerializers.getInstance().isKnownType(ReflectionUtils.getRawType(actualValueType))) {
@@ -137,6 +148,33 @@ public abstract class AbstractContainerDeserializer<T> extends AbstractItem<T> i
         return deserializerBuilder.build();
     }
 
+    /**
+     * Returns deserializer for a JSON value of supported value type, which is resolved only once
+     * for all items of this container.
+     * Null is returned for JSON structures or if item type is not a supported value type,
+     * in which case deserializer has to be built for each item.
+     *
+     * @param valueType type of container item
+     * @param customization customization of container item
+     * @param ctx jsonb context
+     * @return cached deserializer or null
+     */
+    protected JsonbDeserializer<?> getValueTypeDeserializer(Type valueType, Customization customization, JsonbContext ctx) {
+        final JsonParser.Event lastEvent = parserContext.getLastEvent();
+        if (lastEvent == JsonParser.Event.START_OBJECT || lastEvent == JsonParser.Event.START_ARRAY) {
+            return null;
+        }
+        if (!valueTypeDeserializerResolved) {
+            valueTypeDeserializer = new DeserializerBuilder(ctx)
+                    .withWrapper(this)
+                    .withType(ReflectionUtils.resolveType(this, valueType))
+                    .withCustomization(customization)
+                    .buildValueTypeDeserializer();
+            valueTypeDeserializerResolved = true;
+        }
+        return valueTypeDeserializer;
+    }
+
     /**
      * If value is null and property model type is one of {@link Optional}, {@link OptionalDouble},
      * {@link OptionalInt}, or {@link OptionalLong}, value of corresponding {@code Optional#empty()}
@@ -18,14 +18,19 @@ import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.model.ClassModel;
 import org.eclipse.yasson.internal.model.customization.ClassCustomizationBuilder;
 import org.eclipse.yasson.internal.model.customization.ContainerCustomization;
+import org.eclipse.yasson.internal.stream.Utf8JsonGenerator;
 
 import javax.json.bind.serializer.JsonbSerializer;
 import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerator;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Base class for container serializers (list, array, etc.).
@@ -34,9 +39,16 @@ import java.util.Optional;
  */
 public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> implements JsonbSerializer<T> {
 
-    private JsonbSerializer<?> valueSerializer;
+    /**
+     * Count of segments of items serialized in parallel per worker thread, more segments balance items of different size.
+     */
+    private static final int SEGMENTS_PER_THREAD = 4;
 
-    private Class<?> valueClass;
+    /**
+     * Last used value serializer together with its value class.
+     * Kept in one immutable holder, since serializer instances may be shared between threads.
+     */
+    private volatile CachedValueSerializer lastValueSerializer;
 
     /**
      * Create instance of current item with its builder.
@@ -102,8 +114,9 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
      * @return cached serializer or null
      */
     protected JsonbSerializer<?> getValueSerializer(Class<?> valueClass) {
-        if (valueSerializer != null && valueClass == this.valueClass) {
-            return valueSerializer;
+        final CachedValueSerializer cached = lastValueSerializer;
+        if (cached != null && valueClass == cached.valueClass) {
+            return cached.serializer;
         }
         return null;
     }
@@ -116,8 +129,7 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
     protected void addValueSerializer(JsonbSerializer<?> valueSerializer, Class<?> valueClass) {
         Objects.requireNonNull(valueSerializer);
         Objects.requireNonNull(valueClass);
-        this.valueSerializer = valueSerializer;
-        this.valueClass = valueClass;
+        this.lastValueSerializer = new CachedValueSerializer(valueSerializer, valueClass);
     }
 
     protected void serializeItem(Object item, JsonGenerator generator, SerializationContext ctx) {
@@ -157,6 +169,58 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
         serializerCaptor(serializer, item, generator, ctx);
     }
 
+    /**
+     * Checks if items should be serialized by {@link #serializeItemsInParallel(Object[], JsonGenerator, SerializationContext)}.
+     * Parallel serialization is enabled by {@link org.eclipse.yasson.YassonProperties#PARALLEL_SERIALIZATION_THRESHOLD}
+     * and supported only for non formatted output of Yasson UTF-8 generator.
+     *
+     * @param itemCount count of items
+     * @param generator JSON generator inside of started array
+     * @param ctx serialization context
+     * @return true if items should be serialized in parallel
+     */
+    protected boolean isParallel(int itemCount, JsonGenerator generator, SerializationContext ctx) {
+        final int threshold = ((Marshaller) ctx).getJsonbContext().getConfigProperties().getParallelSerializationThreshold();
+        return threshold > 0 && itemCount >= threshold
+                && generator instanceof Utf8JsonGenerator && ((Utf8JsonGenerator) generator).canWriteElements();
+    }
+
+    /**
+     * Serializes ranges of items concurrently on the common {@link ForkJoinPool}, each range with its own {@link Marshaller}
+     * into its own pooled buffers. Buffers are written to the generator in order of items, as soon as ranges are completed.
+     *
+     * @param items items to serialize
+     * @param generator Yasson UTF-8 generator inside of started array
+     * @param ctx serialization context
+     */
+    protected void serializeItemsInParallel(Object[] items, JsonGenerator generator, SerializationContext ctx) {
+        final Utf8JsonGenerator utf8Generator = (Utf8JsonGenerator) generator;
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int segmentCount = Math.min(items.length, pool.getParallelism() * SEGMENTS_PER_THREAD);
+        final List<ForkJoinTask<Utf8JsonGenerator>> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            final int from = (int) ((long) items.length * i / segmentCount);
+            final int to = (int) ((long) items.length * (i + 1) / segmentCount);
+            final Marshaller segmentMarshaller = new Marshaller((Marshaller) ctx);
+            segments.add(pool.submit(() -> {
+                final Utf8JsonGenerator elements = utf8Generator.createElementsGenerator();
+                for (int j = from; j < to; j++) {
+                    serializeItem(items[j], elements, segmentMarshaller);
+                }
+                return elements;
+            }));
+        }
+        try {
+            for (ForkJoinTask<Utf8JsonGenerator> segment : segments) {
+                utf8Generator.writeElements(segment.join());
+            }
+        } finally {
+            for (ForkJoinTask<Utf8JsonGenerator> segment : segments) {
+                segment.cancel(false);
+            }
+        }
+    }
+
     protected Type getValueType(Type valueType) {
         if (valueType instanceof ParameterizedType) {
             Optional<Type> runtimeTypeOptional = ReflectionUtils.resolveOptionalType(this, ((ParameterizedType) valueType).getActualTypeArguments()[0]);
@@ -164,4 +228,16 @@ public abstract class AbstractContainerSerializer<T> extends AbstractItem<T> imp
         }
         return Object.class;
     }
+
+    private static final class CachedValueSerializer {
+
+        private final JsonbSerializer<?> serializer;
+
+        private final Class<?> valueClass;
+
+        private CachedValueSerializer(JsonbSerializer<?> serializer, Class<?> valueClass) {
+            this.serializer = serializer;
+            this.valueClass = valueClass;
+        }
+    }
 }
@@ -63,7 +63,11 @@ public abstract class AbstractDateTimeDeserializer<T> extends AbstractValueTypeD
         }
         final boolean strictIJson = unmarshaller.getJsonbContext().getConfigProperties().isStrictIJson();
         if (strictIJson) {
-            return parseWithFormatterInternal(jsonValue, JsonbDateFormatter.IJSON_DATE_FORMATTER);
+            return parseStrictIJson(jsonValue);
+        }
+        final T isoParsed = parseDefaultIso(jsonValue);
+        if (isoParsed != null) {
+            return isoParsed;
         }
         try {
             return parseDefault(jsonValue, unmarshaller.getJsonbContext().getConfigProperties().getLocale(formatter.getLocale()));
@@ -109,6 +113,27 @@ public abstract class AbstractDateTimeDeserializer<T> extends AbstractValueTypeD
      */
     protected abstract T parseDefault(String jsonValue, Locale locale);
 
+    /**
+     * Parse {@link java.time} date object with hand written ISO-8601 reader matching default formatter.
+     * Used before {@link #parseDefault(String, Locale)}, which is skipped together with resolving the locale.
+     *
+     * @param jsonValue string value to parse from
+     * @return parsed date object or null if value is not in canonical form and has to be parsed by default formatter
+     */
+    protected T parseDefaultIso(String jsonValue) {
+        return null;
+    }
+
+    /**
+     * Parse date object as strict IJson date format.
+     *
+     * @param jsonValue string value to parse from
+     * @return parsed date object
+     */
+    protected T parseStrictIJson(String jsonValue) {
+        return parseWithFormatterInternal(jsonValue, JsonbDateFormatter.IJSON_DATE_FORMATTER);
+    }
+
     /**
      * Parse {@link java.time} date object with provided formatter.
      *
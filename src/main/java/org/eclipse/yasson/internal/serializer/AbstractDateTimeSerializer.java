@@ -74,6 +74,10 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
         if (jsonbContext.getConfigProperties().isStrictIJson()) {
             return formatStrictIJson(object);
         }
+        final String isoFormatted = formatDefaultIso(object);
+        if (isoFormatted != null) {
+            return isoFormatted;
+        }
         return formatDefault(object, jsonbContext.getConfigProperties().getLocale(formatter.getLocale()));
     }
 
@@ -125,6 +129,17 @@ public abstract class AbstractDateTimeSerializer<T> extends AbstractValueTypeSer
      */
     protected abstract String formatDefault(T value, Locale locale);
 
+    /**
+     * Format with hand written ISO-8601 writer producing the same output as default formatter.
+     * Used before {@link #formatDefault(Object, Locale)}, which is skipped together with resolving the locale.
+     *
+     * @param value date object
+     * @return formatted date obj as string or null if not supported
+     */
+    protected String formatDefaultIso(T value) {
+        return null;
+    }
+
     /**
      * Format date object with given formatter
      * @param value date object to format
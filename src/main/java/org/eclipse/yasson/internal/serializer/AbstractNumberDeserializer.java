@@ -14,13 +14,16 @@
 package org.eclipse.yasson.internal.serializer;
 
 import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.JsonbParser;
+import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
 import javax.json.bind.JsonbException;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.stream.JsonParser;
+import java.lang.reflect.Type;
 import java.text.ParseException;
 import java.util.Optional;
 
@@ -42,18 +45,56 @@ public abstract class AbstractNumberDeserializer<T extends Number> extends Abstr
         super(clazz, customization);
     }
 
+    /**
+     * Unformatted JSON numbers are read directly from parser by {@link #deserializeNumber(JsonbParser, Unmarshaller, Type)},
+     * other values are converted from string.
+     *
+     * @param parser Parser to get value from.
+     * @param ctx Unmarshaller.
+     * @param rtType return type.
+     * @return Deserialized object.
+     */
+    @Override
+    public T deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+        final JsonbParser jsonbParser = (JsonbParser) parser;
+        if (isUnformattedNumber(jsonbParser)) {
+            return deserializeNumber(jsonbParser, (Unmarshaller) ctx, rtType);
+        }
+        return super.deserialize(parser, ctx, rtType);
+    }
+
+    /**
+     * Deserializes JSON number without number format. Converts string value of the number by default,
+     * subclasses read the number directly from parser where possible.
+     *
+     * @param parser parser at VALUE_NUMBER event
+     * @param unmarshaller current unmarshaller
+     * @param rtType runtime type
+     * @return deserialized number
+     */
+    protected T deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        return deserialize(parser.getString(), unmarshaller, rtType);
+    }
+
+    /**
+     * Checks if parser is at JSON number, which has no number format customized.
+     *
+     * @param parser parser to check
+     * @return true if number can be read directly from parser
+     */
+    protected final boolean isUnformattedNumber(JsonbParser parser) {
+        return parser.getCurrentLevel().getLastEvent() == JsonParser.Event.VALUE_NUMBER
+                && (getCustomization() == null || getCustomization().getDeserializeNumberFormatter() == null);
+    }
+
     protected final Optional<Number> deserializeFormatted(String jsonValue, boolean integerOnly, JsonbContext jsonbContext) {
         if (getCustomization() == null || getCustomization().getDeserializeNumberFormatter() == null) {
             return Optional.empty();
         }
 
         final JsonbNumberFormatter numberFormat = getCustomization().getDeserializeNumberFormatter();
-        //consider synchronizing on format instance or per thread cache.
-        final NumberFormat format = NumberFormat.getInstance(jsonbContext.getConfigProperties().getLocale(numberFormat.getLocale()));
-        ((DecimalFormat)format).applyPattern(numberFormat.getFormat());
-        format.setParseIntegerOnly(integerOnly);
         try {
-            return Optional.of(format.parse(jsonValue));
+            return Optional.of(numberFormat.parse(jsonValue, integerOnly, jsonbContext));
         } catch (ParseException e) {
             throw new JsonbException(Messages.getMessage(MessageKeys.PARSING_NUMBER, jsonValue, numberFormat.getFormat()));
         }
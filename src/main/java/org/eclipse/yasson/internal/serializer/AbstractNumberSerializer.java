@@ -17,8 +17,6 @@ import org.eclipse.yasson.internal.Marshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 
 import javax.json.stream.JsonGenerator;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 
 /**
  * Common serializer for numbers, using number format.
@@ -52,9 +50,7 @@ public abstract class AbstractNumberSerializer<T extends Number> extends Abstrac
     @Override
     protected void serialize(T obj, JsonGenerator generator, Marshaller marshaller) {
         if (formatter != null) {
-            final NumberFormat format = NumberFormat.getInstance(marshaller.getJsonbContext().getConfigProperties().getLocale(formatter.getLocale()));
-            ((DecimalFormat)format).applyPattern(formatter.getFormat());
-            generator.write(format.format(obj));
+            generator.write(formatter.format(obj, marshaller.getJsonbContext()));
         } else {
             serializeNonFormatted(obj, generator);
         }
@@ -68,4 +64,13 @@ public abstract class AbstractNumberSerializer<T extends Number> extends Abstrac
      */
     protected abstract void serializeNonFormatted(T obj, JsonGenerator generator);
 
+    /**
+     * Number format is customized for serialized value.
+     *
+     * @return true if number format is used
+     */
+    protected boolean isFormatted() {
+        return formatter != null;
+    }
+
 }
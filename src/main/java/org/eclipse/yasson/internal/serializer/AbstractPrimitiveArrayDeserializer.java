@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import org.eclipse.yasson.internal.JsonbParser;
+import org.eclipse.yasson.internal.JsonbRiParser;
+import org.eclipse.yasson.internal.Unmarshaller;
+
+import javax.json.bind.serializer.JsonbDeserializer;
+import javax.json.stream.JsonParser;
+
+/**
+ * Common implementation for arrays of primitive numbers.
+ * Items are read from parser by component type deserializer straight into primitive buffer,
+ * which is doubled when full and trimmed once, when array ends. No item is boxed,
+ * unless component type has user deserializer or adapter registered.
+ *
+ * @param <T> primitive array type
+ * @param <D> deserializer of array component type
+ */
+public abstract class AbstractPrimitiveArrayDeserializer<T, D extends AbstractValueTypeDeserializer<?>> extends AbstractContainerDeserializer<T> implements EmbeddedItem {
+
+    /**
+     * Initial size of primitive buffer.
+     */
+    protected static final int INITIAL_CAPACITY = 16;
+
+    private final Class<?> componentClass;
+
+    private final Class<D> componentDeserializerClass;
+
+    /**
+     * Count of items in primitive buffer.
+     */
+    protected int size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param builder builder to create deserializer from
+     * @param componentClass primitive component type of the array
+     * @param componentDeserializerClass default deserializer of the component type
+     */
+    protected AbstractPrimitiveArrayDeserializer(DeserializerBuilder builder, Class<?> componentClass, Class<D> componentDeserializerClass) {
+        super(builder);
+        this.componentClass = componentClass;
+        this.componentDeserializerClass = componentDeserializerClass;
+    }
+
+    @Override
+    protected void deserializeNext(JsonParser parser, Unmarshaller context) {
+        JsonbDeserializer<?> deserializer = getValueTypeDeserializer(componentClass, null, context.getJsonbContext());
+        if (componentDeserializerClass.isInstance(deserializer)) {
+            appendNext(componentDeserializerClass.cast(deserializer), (JsonbParser) parser, context);
+            return;
+        }
+        if (deserializer == null) {
+            deserializer = newUnmarshallerItemBuilder(context.getJsonbContext()).withType(componentClass).build();
+        }
+        appendResult(deserializer.deserialize(parser, context, componentClass));
+    }
+
+    /**
+     * Reads current parser value as a primitive and appends it to the buffer.
+     *
+     * @param deserializer component type deserializer
+     * @param parser parser at array item value
+     * @param context current unmarshaller
+     */
+    protected abstract void appendNext(D deserializer, JsonbParser parser, Unmarshaller context);
+
+    /**
+     * Size of the buffer to grow to, when current one is full.
+     *
+     * @param length length of current buffer
+     * @return new buffer length
+     */
+    protected static int grow(int length) {
+        return length << 1;
+    }
+
+    @Override
+    protected JsonbRiParser.LevelContext moveToFirst(JsonbParser parser) {
+        parser.moveTo(JsonParser.Event.START_ARRAY);
+        return parser.getCurrentLevel();
+    }
+}
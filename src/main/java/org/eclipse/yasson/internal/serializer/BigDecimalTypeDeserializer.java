@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -51,4 +52,9 @@ public class BigDecimalTypeDeserializer extends AbstractNumberDeserializer<BigDe
                     }
                 });
     }
+
+    @Override
+    protected BigDecimal deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        return parser.getBigDecimal();
+    }
 }
@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -51,4 +52,12 @@ public class BigIntegerTypeDeserializer extends AbstractNumberDeserializer<BigIn
                     }
                 });
     }
+
+    @Override
+    protected BigInteger deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        if (parser.isExactLong()) {
+            return BigInteger.valueOf(parser.getLong());
+        }
+        return deserialize(parser.getString(), unmarshaller, rtType);
+    }
 }
@@ -74,7 +74,7 @@ class BigNumberUtil {
      * @param value value which is going to be checked
      * @return true if value matches format IEEE-754
      */
-    static boolean isIEEE754(Long value) {
+    static boolean isIEEE754(long value) {
         return value >= MIN_JS_SAFE_VALUE && value <= MAX_JS_SAFE_VALUE;
     }
 
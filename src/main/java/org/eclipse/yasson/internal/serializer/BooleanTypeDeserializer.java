@@ -43,12 +43,22 @@ public class BooleanTypeDeserializer extends AbstractValueTypeDeserializer<Boole
 
     @Override
     public Boolean deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+        return deserializeBoolean(parser);
+    }
+
+    /**
+     * Deserializes current JSON value to primitive boolean without boxing.
+     *
+     * @param parser JSON parser
+     * @return deserialized value
+     */
+    public boolean deserializeBoolean(JsonParser parser) {
         JsonParser.Event event = ((JsonbParser) parser).moveToValue();
         switch (event) {
             case VALUE_TRUE:
-                return Boolean.TRUE;
+                return true;
             case VALUE_FALSE:
-                return Boolean.FALSE;
+                return false;
             case VALUE_STRING:
                 return Boolean.parseBoolean(parser.getString());
             default:
@@ -38,4 +38,14 @@ public class BooleanTypeSerializer extends AbstractValueTypeSerializer<Boolean>
     protected void serialize(Boolean obj, JsonGenerator generator, Marshaller marshaller) {
         generator.write(obj);
     }
+
+    /**
+     * Serializes primitive boolean value without boxing.
+     *
+     * @param value value to serialize
+     * @param generator JSON generator
+     */
+    public void serializeBoolean(boolean value, JsonGenerator generator) {
+        generator.write(value);
+    }
 }
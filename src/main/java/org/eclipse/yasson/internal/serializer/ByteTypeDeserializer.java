@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -49,4 +50,15 @@ public class ByteTypeDeserializer extends AbstractNumberDeserializer<Byte> {
                     }
                 });
     }
+
+    @Override
+    protected Byte deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        if (parser.isExactLong()) {
+            final long value = parser.getLong();
+            if ((byte) value == value) {
+                return (byte) value;
+            }
+        }
+        return deserialize(parser.getString(), unmarshaller, rtType);
+    }
 }
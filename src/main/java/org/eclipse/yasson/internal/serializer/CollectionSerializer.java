@@ -35,6 +35,10 @@ public class CollectionSerializer<T extends Collection> extends AbstractContaine
 
     @Override
     protected void serializeInternal(T collection, JsonGenerator generator, SerializationContext ctx) {
+        if (isParallel(collection.size(), generator, ctx)) {
+            serializeItemsInParallel(collection.toArray(), generator, ctx);
+            return;
+        }
         for (Object item : collection) {
             serializeItem(item, generator, ctx);
         }
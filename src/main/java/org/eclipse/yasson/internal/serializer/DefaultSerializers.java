@@ -47,6 +47,18 @@ public class DefaultSerializers {
 
     private final SerializerProviderWrapper enumProvider;
 
+    /**
+     * Results of lookups by class, including classes without a provider, resolved once per class.
+     * Cached values don't prevent unloading of classes.
+     */
+    private final ClassValue<ClassLookup> lookups = new ClassValue<ClassLookup>() {
+        @Override
+        protected ClassLookup computeValue(Class<?> clazz) {
+            final Optional<SerializerProviderWrapper> provider = resolveValueSerializerProvider(clazz);
+            return new ClassLookup(provider, provider.isPresent() || isKnownContainerType(clazz));
+        }
+    };
+
     private DefaultSerializers() {
         this.serializers = initSerializers();
         enumProvider = new SerializerProviderWrapper(EnumTypeSerializer::new, EnumTypeDeserializer::new);
@@ -108,12 +120,17 @@ public class DefaultSerializers {
 
     /**
      * Look for a provider for a supported value type. These serializers are basically singleton stateless shared instances.
+     * Result is resolved once per class, also if there is no provider.
      *
      * @param clazz supported type class
      * @param <T> Type of serializer
      * @return serializer if found
      */
     public <T> Optional<SerializerProviderWrapper> findValueSerializerProvider(Class<T> clazz) {
+        return lookups.get(clazz).provider;
+    }
+
+    private Optional<SerializerProviderWrapper> resolveValueSerializerProvider(Class<?> clazz) {
         Class<?> candidate = clazz;
         do {
             final SerializerProviderWrapper provider = serializers.get(candidate);
@@ -126,7 +143,7 @@ public class DefaultSerializers {
         return findByCondition(clazz);
     }
 
-    private <T> Optional<SerializerProviderWrapper> findByCondition(Class<T> clazz) {
+    private Optional<SerializerProviderWrapper> findByCondition(Class<?> clazz) {
         if (Enum.class.isAssignableFrom(clazz)) {
             return Optional.of(enumProvider);
         } else if (JsonString.class.isAssignableFrom(clazz)) {
@@ -147,13 +164,16 @@ public class DefaultSerializers {
      * @return true if supported
      */
     public boolean isKnownType(Class<?> clazz) {
-        boolean knownContainerValueType = Collection.class.isAssignableFrom(clazz)
+        return lookups.get(clazz).knownType;
+    }
+
+    private static boolean isKnownContainerType(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz)
                 || Map.class.isAssignableFrom(clazz)
                 || JsonValue.class.isAssignableFrom(clazz)
                 || Optional.class.isAssignableFrom(clazz)
+                || IteratorSerializer.isIteratorType(clazz)
                 || clazz.isArray();
-
-        return knownContainerValueType || findValueSerializerProvider(clazz).isPresent();
     }
 
 
@@ -164,4 +184,19 @@ public class DefaultSerializers {
     public static DefaultSerializers getInstance() {
         return instance;
     }
+
+    /**
+     * Immutable result of lookups for one class.
+     */
+    private static final class ClassLookup {
+
+        private final Optional<SerializerProviderWrapper> provider;
+
+        private final boolean knownType;
+
+        private ClassLookup(Optional<SerializerProviderWrapper> provider, boolean knownType) {
+            this.provider = provider;
+            this.knownType = knownType;
+        }
+    }
 }
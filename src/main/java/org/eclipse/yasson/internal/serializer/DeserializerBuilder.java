@@ -178,6 +178,31 @@ public class DeserializerBuilder extends AbstractSerializerBuilder<DeserializerB
         throw new JsonbException("unresolved type for deserialization: " + getRuntimeType());
     }
 
+    /**
+     * Build a deserializer for a supported value type.
+     * Result doesn't depend on processed JSON value event nor on the wrapper item, so it can be cached
+     * in models and reused for every JSON value (except null and structures) of a given type.
+     *
+     * @return value type deserializer, or null if type is not resolved, is not a supported value type,
+     * or a user deserializer / adapter is bound to it
+     */
+    public AbstractValueTypeDeserializer<?> buildValueTypeDeserializer() {
+        final Type type = genericType != null ? genericType : runtimeType;
+        if (!ReflectionUtils.isResolvedType(type)) {
+            return null;
+        }
+        if (customization == null
+                || customization instanceof ComponentBoundCustomization) {
+            ComponentBoundCustomization componentBoundCustomization = (ComponentBoundCustomization) customization;
+            final ComponentMatcher componentMatcher = jsonbContext.getComponentMatcher();
+            if (componentMatcher.getDeserializerBinding(type, componentBoundCustomization).isPresent()
+                    || componentMatcher.getAdapterBinding(type, componentBoundCustomization).isPresent()) {
+                return null;
+            }
+        }
+        return getSupportedTypeDeserializer(ReflectionUtils.getRawType(type)).orElse(null);
+    }
+
     private boolean isJsonValueEvent() {
         switch (jsonEvent) {
             case VALUE_NULL:
@@ -13,35 +13,43 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Array unmarshaller item implementation for small double.
  *
  * @author Roman Grigoriadi
  */
-public class DoubleArrayDeserializer extends AbstractArrayDeserializer<double[]> {
-    private final List<Double> items = new ArrayList<>();
+public class DoubleArrayDeserializer extends AbstractPrimitiveArrayDeserializer<double[], DoubleTypeDeserializer> {
+
+    private double[] items = new double[INITIAL_CAPACITY];
 
     protected DoubleArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, double.class, DoubleTypeDeserializer.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNext(DoubleTypeDeserializer deserializer, JsonbParser parser, Unmarshaller context) {
+        add(deserializer.deserializeDouble(parser, context));
     }
 
     @Override
-    public double[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final double[] doubleArray = new double[size];
-        for(int i=0; i<size; i++) {
-            doubleArray[i] = items.get(i);
+    public void appendResult(Object result) {
+        add((Double) result);
+    }
+
+    private void add(double value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, grow(size));
         }
-        return doubleArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public double[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -20,6 +21,7 @@ import org.eclipse.yasson.internal.properties.Messages;
 
 import javax.json.bind.JsonbException;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /**
  * Deserializer for {@link Double} type.
@@ -43,6 +45,36 @@ public class DoubleTypeDeserializer extends AbstractNumberDeserializer<Double> {
 
     @Override
     protected Double deserialize(String jsonValue, Unmarshaller unmarshaller, Type rtType) {
+        return deserializeDouble(jsonValue, unmarshaller);
+    }
+
+    @Override
+    protected Double deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        return parser.getDouble();
+    }
+
+    /**
+     * Deserializes current parser value to primitive double. Unformatted numbers are read directly from parser.
+     *
+     * @param parser parser at JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public double deserializeDouble(JsonbParser parser, Unmarshaller unmarshaller) {
+        if (isUnformattedNumber(parser)) {
+            return parser.getDouble();
+        }
+        return deserializeDouble(parser.getString(), unmarshaller);
+    }
+
+    /**
+     * Deserializes JSON value to primitive double. Value is not boxed, unless number format is customized.
+     *
+     * @param jsonValue JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public double deserializeDouble(String jsonValue, Unmarshaller unmarshaller) {
         switch (jsonValue) {
             case NAN:
                 return Double.NaN;
@@ -51,15 +83,14 @@ public class DoubleTypeDeserializer extends AbstractNumberDeserializer<Double> {
             case NEGATIVE_INFINITY:
                 return Double.NEGATIVE_INFINITY;
         }
-        return deserializeFormatted(jsonValue, false, unmarshaller.getJsonbContext())
-                .map(num -> Double.parseDouble(num.toString()))
-                .orElseGet(() -> {
-                    try {
-                        return Double.parseDouble(jsonValue);
-                    } catch (NumberFormatException e) {
-                        throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR,
-                                Double.class));
-                    }
-                });
+        final Optional<Number> formatted = deserializeFormatted(jsonValue, false, unmarshaller.getJsonbContext());
+        if (formatted.isPresent()) {
+            return Double.parseDouble(formatted.get().toString());
+        }
+        try {
+            return Double.parseDouble(jsonValue);
+        } catch (NumberFormatException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, Double.class));
+        }
     }
 }
@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.Marshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 
 import javax.json.stream.JsonGenerator;
@@ -42,4 +43,19 @@ public class DoubleTypeSerializer extends AbstractNumberSerializer<Double> {
     protected void serializeNonFormatted(Double obj, JsonGenerator generator) {
         generator.write(obj);
     }
+
+    /**
+     * Serializes primitive double value. Value is not boxed, unless number format is customized.
+     *
+     * @param value value to serialize
+     * @param generator JSON generator
+     * @param marshaller current marshaller
+     */
+    public void serializeDouble(double value, JsonGenerator generator, Marshaller marshaller) {
+        if (isFormatted()) {
+            serialize(value, generator, marshaller);
+        } else {
+            generator.write(value);
+        }
+    }
 }
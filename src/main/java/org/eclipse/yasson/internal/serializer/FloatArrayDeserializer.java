@@ -13,35 +13,43 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Array unmarshaller item implementation for small float.
  *
  * @author Roman Grigoriadi
  */
-public class FloatArrayDeserializer extends AbstractArrayDeserializer<float[]> {
-    private final List<Float> items = new ArrayList<>();
+public class FloatArrayDeserializer extends AbstractPrimitiveArrayDeserializer<float[], FloatTypeDeserializer> {
+
+    private float[] items = new float[INITIAL_CAPACITY];
 
     protected FloatArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, float.class, FloatTypeDeserializer.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNext(FloatTypeDeserializer deserializer, JsonbParser parser, Unmarshaller context) {
+        add(deserializer.deserializeFloat(parser, context));
     }
 
     @Override
-    public float[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final float[] floatArray = new float[size];
-        for(int i=0; i<size; i++) {
-            floatArray[i] = items.get(i);
+    public void appendResult(Object result) {
+        add((Float) result);
+    }
+
+    private void add(float value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, grow(size));
         }
-        return floatArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public float[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
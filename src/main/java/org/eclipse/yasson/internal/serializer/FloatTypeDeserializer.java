@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -28,6 +29,11 @@ import java.lang.reflect.Type;
  */
 public class FloatTypeDeserializer extends AbstractNumberDeserializer<Float> {
 
+    /**
+     * Largest integer, for which all smaller integers are represented by float exactly.
+     */
+    private static final long MAX_EXACT_FLOAT_INTEGER = 1L << 24;
+
     /**
      * Creates a new instance.
      *
@@ -49,4 +55,28 @@ public class FloatTypeDeserializer extends AbstractNumberDeserializer<Float> {
                     }
                 });
     }
+
+    @Override
+    protected Float deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        return deserializeFloat(parser, unmarshaller);
+    }
+
+    /**
+     * Deserializes current parser value to primitive float.
+     * Only unformatted integral numbers with value exactly represented by float are read directly,
+     * converting other numbers through double could round differently than {@link Float#parseFloat(String)}.
+     *
+     * @param parser parser at JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public float deserializeFloat(JsonbParser parser, Unmarshaller unmarshaller) {
+        if (isUnformattedNumber(parser) && parser.isExactLong()) {
+            final long value = parser.getLong();
+            if (Math.abs(value) <= MAX_EXACT_FLOAT_INTEGER) {
+                return (float) value;
+            }
+        }
+        return deserialize(parser.getString(), unmarshaller, Float.class);
+    }
 }
@@ -16,6 +16,7 @@ package org.eclipse.yasson.internal.serializer;
 import org.eclipse.yasson.internal.model.customization.Customization;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
@@ -47,6 +48,20 @@ public class InstantTypeDeserializer extends AbstractDateTimeDeserializer<Instan
         return Instant.from(DEFAULT_FORMATTER.withLocale(locale).parse(jsonValue));
     }
 
+    @Override
+    protected Instant parseDefaultIso(String jsonValue) {
+        return IsoDateTimeFormat.parseInstant(jsonValue);
+    }
+
+    @Override
+    protected Instant parseStrictIJson(String jsonValue) {
+        final OffsetDateTime isoParsed = IsoDateTimeFormat.parseStrictIJson(jsonValue);
+        if (isoParsed != null && isoParsed.getOffset().getTotalSeconds() == 0) {
+            return isoParsed.toInstant();
+        }
+        return super.parseStrictIJson(jsonValue);
+    }
+
     @Override
     protected Instant parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
         return Instant.from(getZonedFormatter(formatter).parse(jsonValue));
@@ -50,9 +50,17 @@ public class InstantTypeSerializer extends AbstractDateTimeSerializer<Instant> {
         return formatter.withZone(UTC).format(value);
     }
 
+    @Override
+    protected String formatDefaultIso(Instant value) {
+        return IsoDateTimeFormat.formatInstant(value);
+    }
+
     @Override
     protected String formatStrictIJson(Instant value) {
+        final String isoFormatted = IsoDateTimeFormat.formatInstantStrictIJson(value);
+        if (isoFormatted != null) {
+            return isoFormatted;
+        }
         return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(value);
     }
-
 }
@@ -13,35 +13,43 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Array unmarshaller item implementation for small int.
  *
  * @author Roman Grigoriadi
  */
-public class IntArrayDeserializer extends AbstractArrayDeserializer<int[]> {
-    private final List<Integer> items = new ArrayList<>();
+public class IntArrayDeserializer extends AbstractPrimitiveArrayDeserializer<int[], IntegerTypeDeserializer> {
+
+    private int[] items = new int[INITIAL_CAPACITY];
 
     protected IntArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, int.class, IntegerTypeDeserializer.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNext(IntegerTypeDeserializer deserializer, JsonbParser parser, Unmarshaller context) {
+        add(deserializer.deserializeInt(parser, context));
     }
 
     @Override
-    public int[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final int[] intArray = new int[size];
-        for(int i=0; i<size; i++) {
-            intArray[i] = items.get(i);
+    public void appendResult(Object result) {
+        add((Integer) result);
+    }
+
+    private void add(int value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, grow(size));
         }
-        return intArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public int[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
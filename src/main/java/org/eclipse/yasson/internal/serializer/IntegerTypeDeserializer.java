@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -20,6 +21,7 @@ import org.eclipse.yasson.internal.properties.Messages;
 
 import javax.json.bind.JsonbException;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /**
  * Deserializer for {@link Integer} type.
@@ -39,15 +41,47 @@ public class IntegerTypeDeserializer extends AbstractNumberDeserializer<Integer>
 
     @Override
     protected Integer deserialize(String jsonValue, Unmarshaller unmarshaller, Type rtType) {
-        return deserializeFormatted(jsonValue, true, unmarshaller.getJsonbContext())
-                .map(num -> Integer.parseInt(num.toString()))
-                .orElseGet(() -> {
-                    try {
-                        return Integer.parseInt(jsonValue);
-                    } catch (NumberFormatException e) {
-                        throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR,
-                                Integer.class));
-                    }
-                });
+        return deserializeInt(jsonValue, unmarshaller);
+    }
+
+    @Override
+    protected Integer deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        return deserializeInt(parser, unmarshaller);
+    }
+
+    /**
+     * Deserializes current parser value to primitive int. Unformatted integral numbers are read directly from parser.
+     *
+     * @param parser parser at JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public int deserializeInt(JsonbParser parser, Unmarshaller unmarshaller) {
+        if (isUnformattedNumber(parser) && parser.isExactLong()) {
+            final long value = parser.getLong();
+            if ((int) value == value) {
+                return (int) value;
+            }
+        }
+        return deserializeInt(parser.getString(), unmarshaller);
+    }
+
+    /**
+     * Deserializes JSON value to primitive int. Value is not boxed, unless number format is customized.
+     *
+     * @param jsonValue JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public int deserializeInt(String jsonValue, Unmarshaller unmarshaller) {
+        final Optional<Number> formatted = deserializeFormatted(jsonValue, true, unmarshaller.getJsonbContext());
+        if (formatted.isPresent()) {
+            return Integer.parseInt(formatted.get().toString());
+        }
+        try {
+            return Integer.parseInt(jsonValue);
+        } catch (NumberFormatException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, Integer.class));
+        }
     }
 }
@@ -0,0 +1,595 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+
+/**
+ * Hand written ISO-8601 writer and reader for {@link java.time} types.
+ * <p>
+ * Output is the same as of {@link java.time.format.DateTimeFormatter#ISO_INSTANT},
+ * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}, {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME},
+ * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}, {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}
+ * and {@link JsonbDateFormatter#IJSON_DATE_FORMATTER}. Only years 0000 - 9999 and canonical input are handled,
+ * all methods return null otherwise and caller is expected to fall back to {@link java.time.format.DateTimeFormatter},
+ * which also reports errors for malformed input.
+ */
+final class IsoDateTimeFormat {
+
+    private static final long SECONDS_PER_DAY = 86400;
+
+    /**
+     * 0000-01-01T00:00:00Z
+     */
+    private static final long MIN_EPOCH_SECOND = -62167219200L;
+
+    /**
+     * 10000-01-01T00:00:00Z
+     */
+    private static final long MAX_EPOCH_SECOND = 253402300800L;
+
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000};
+
+    private static final int DATE_LENGTH = 10;
+
+    private static final int IJSON_LENGTH = 26;
+
+    private IsoDateTimeFormat() {
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_INSTANT}.
+     *
+     * @param value instant to format
+     * @return formatted value or null if not supported
+     */
+    static String formatInstant(Instant value) {
+        final long epochSecond = value.getEpochSecond();
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond >= MAX_EPOCH_SECOND) {
+            return null;
+        }
+        final int nano = value.getNano();
+        //ISO_INSTANT prints fraction in groups of three digits
+        final int fractionDigits = nano == 0 ? 0 : nano % 1000000 == 0 ? 3 : nano % 1000 == 0 ? 6 : 9;
+        final char[] buf = new char[20 + fractionLength(fractionDigits)];
+        int pos = writeEpochSecond(buf, epochSecond);
+        pos = writeFraction(buf, pos, nano, fractionDigits);
+        buf[pos] = 'Z';
+        return new String(buf);
+    }
+
+    /**
+     * Formats as {@link JsonbDateFormatter#IJSON_DATE_FORMATTER} in UTC.
+     *
+     * @param value instant to format
+     * @return formatted value or null if not supported
+     */
+    static String formatInstantStrictIJson(Instant value) {
+        final long epochSecond = value.getEpochSecond();
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond >= MAX_EPOCH_SECOND) {
+            return null;
+        }
+        final char[] buf = new char[IJSON_LENGTH];
+        final int pos = writeEpochSecond(buf, epochSecond);
+        writeIJsonOffset(buf, pos, 0);
+        return new String(buf);
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}.
+     *
+     * @param value date to format
+     * @return formatted value or null if not supported
+     */
+    static String formatLocalDate(LocalDate value) {
+        final int year = value.getYear();
+        if (!isSupportedYear(year)) {
+            return null;
+        }
+        final char[] buf = new char[DATE_LENGTH];
+        writeDate(buf, 0, year, value.getMonthValue(), value.getDayOfMonth());
+        return new String(buf);
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     *
+     * @param value date time to format
+     * @return formatted value or null if not supported
+     */
+    static String formatLocalDateTime(LocalDateTime value) {
+        return formatDateTime(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+                value.getMinute(), value.getSecond(), value.getNano(), null, null);
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @param value date time to format
+     * @return formatted value or null if not supported
+     */
+    static String formatOffsetDateTime(OffsetDateTime value) {
+        return formatDateTime(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+                value.getMinute(), value.getSecond(), value.getNano(), value.getOffset(), null);
+    }
+
+    /**
+     * Formats as {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}.
+     * Zone id is appended in brackets only for region based zones.
+     *
+     * @param value date time to format
+     * @return formatted value or null if not supported
+     */
+    static String formatZonedDateTime(ZonedDateTime value) {
+        final ZoneId zone = value.getZone();
+        return formatDateTime(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+                value.getMinute(), value.getSecond(), value.getNano(), value.getOffset(),
+                zone instanceof ZoneOffset ? null : zone.getId());
+    }
+
+    /**
+     * Formats as {@link JsonbDateFormatter#IJSON_DATE_FORMATTER}. Fraction of second is not printed by I-JSON format.
+     *
+     * @param year year
+     * @param month month of year
+     * @param day day of month
+     * @param hour hour of day
+     * @param minute minute of hour
+     * @param second second of minute
+     * @param offset zone offset
+     * @return formatted value or null if not supported
+     */
+    static String formatStrictIJson(int year, int month, int day, int hour, int minute, int second, ZoneOffset offset) {
+        final int offsetSeconds = offset.getTotalSeconds();
+        if (!isSupportedYear(year) || offsetSeconds % 60 != 0) {
+            return null;
+        }
+        final char[] buf = new char[IJSON_LENGTH];
+        int pos = writeDate(buf, 0, year, month, day);
+        buf[pos++] = 'T';
+        pos = writeTime(buf, pos, hour, minute, second);
+        writeIJsonOffset(buf, pos, offsetSeconds);
+        return new String(buf);
+    }
+
+    /**
+     * Parses {@link java.time.format.DateTimeFormatter#ISO_INSTANT} in canonical form.
+     *
+     * @param value value to parse
+     * @return parsed instant or null if not supported
+     */
+    static Instant parseInstant(String value) {
+        final int timeEnd = timeEnd(value, DATE_LENGTH + 1);
+        //seconds are mandatory in ISO_INSTANT, leap seconds and end of day are left to the formatter
+        if (timeEnd < DATE_LENGTH + 9 || !isDate(value, 0) || value.charAt(DATE_LENGTH) != 'T'
+                || timeEnd != value.length() - 1 || value.charAt(timeEnd) != 'Z') {
+            return null;
+        }
+        try {
+            final long epochDay = LocalDate.of(parse4(value, 0), parse2(value, 5), parse2(value, 8)).toEpochDay();
+            final int secondOfDay = secondOfDay(value, DATE_LENGTH + 1);
+            if (secondOfDay < 0) {
+                return null;
+            }
+            return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + secondOfDay, parseNano(value, DATE_LENGTH + 1, timeEnd));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE} in canonical form.
+     *
+     * @param value value to parse
+     * @return parsed date or null if not supported
+     */
+    static LocalDate parseLocalDate(String value) {
+        if (value.length() != DATE_LENGTH || !isDate(value, 0)) {
+            return null;
+        }
+        try {
+            return LocalDate.of(parse4(value, 0), parse2(value, 5), parse2(value, 8));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME} in canonical form.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if not supported
+     */
+    static LocalDateTime parseLocalDateTime(String value) {
+        final int timeEnd = timeEnd(value, DATE_LENGTH + 1);
+        if (timeEnd != value.length() || !isDateTime(value)) {
+            return null;
+        }
+        try {
+            return toLocalDateTime(value, timeEnd);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} in canonical form.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if not supported
+     */
+    static OffsetDateTime parseOffsetDateTime(String value) {
+        final int timeEnd = timeEnd(value, DATE_LENGTH + 1);
+        if (timeEnd < 0 || offsetEnd(value, timeEnd) != value.length() || !isDateTime(value)) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.of(toLocalDateTime(value, timeEnd), parseOffset(value, timeEnd));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME} in canonical form.
+     * Region zones are handled only when offset is the only valid one for local date time,
+     * so the result does not depend on how JDK resolves conflicting offset and zone.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if not supported
+     */
+    static ZonedDateTime parseZonedDateTime(String value) {
+        final int timeEnd = timeEnd(value, DATE_LENGTH + 1);
+        final int offsetEnd = offsetEnd(value, timeEnd);
+        if (offsetEnd < 0 || !isDateTime(value)) {
+            return null;
+        }
+        final int length = value.length();
+        try {
+            final LocalDateTime localDateTime = toLocalDateTime(value, timeEnd);
+            final ZoneOffset offset = parseOffset(value, timeEnd);
+            if (offsetEnd == length) {
+                return ZonedDateTime.of(localDateTime, offset);
+            }
+            if (!isRegionId(value, offsetEnd + 1, length - 1) || value.charAt(offsetEnd) != '['
+                    || value.charAt(length - 1) != ']') {
+                return null;
+            }
+            final ZoneId zone = ZoneId.of(value.substring(offsetEnd + 1, length - 1));
+            final ZoneRules rules = zone.getRules();
+            if (rules.getTransition(localDateTime) != null || !rules.getOffset(localDateTime).equals(offset)) {
+                return null;
+            }
+            return ZonedDateTime.ofLocal(localDateTime, zone, offset);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses {@link JsonbDateFormatter#IJSON_DATE_FORMATTER} in canonical form.
+     *
+     * @param value value to parse
+     * @return parsed date time or null if not supported
+     */
+    static OffsetDateTime parseStrictIJson(String value) {
+        if (value.length() != IJSON_LENGTH || timeEnd(value, DATE_LENGTH + 1) != DATE_LENGTH + 9 || !isDateTime(value)
+                || value.charAt(DATE_LENGTH + 9) != 'Z' || offsetEnd(value, DATE_LENGTH + 10) != IJSON_LENGTH) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.of(parse4(value, 0), parse2(value, 5), parse2(value, 8), parse2(value, 11),
+                    parse2(value, 14), parse2(value, 17), 0, parseOffset(value, DATE_LENGTH + 10));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isSupportedYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static String formatDateTime(int year, int month, int day, int hour, int minute, int second, int nano,
+                                         ZoneOffset offset, String zoneId) {
+        if (!isSupportedYear(year)) {
+            return null;
+        }
+        //ISO_LOCAL_TIME prints fraction without trailing zeros
+        int fractionDigits = 0;
+        if (nano != 0) {
+            fractionDigits = 9;
+            for (int fraction = nano; fraction % 10 == 0; fraction /= 10) {
+                fractionDigits--;
+            }
+        }
+        final int offsetSeconds = offset == null ? 0 : offset.getTotalSeconds();
+        final int offsetLength = offset == null ? 0 : offsetSeconds == 0 ? 1 : offsetSeconds % 60 == 0 ? 6 : 9;
+        final int zoneLength = zoneId == null ? 0 : zoneId.length() + 2;
+        final char[] buf = new char[19 + fractionLength(fractionDigits) + offsetLength + zoneLength];
+        int pos = writeDate(buf, 0, year, month, day);
+        buf[pos++] = 'T';
+        pos = writeTime(buf, pos, hour, minute, second);
+        pos = writeFraction(buf, pos, nano, fractionDigits);
+        if (offset != null) {
+            pos = writeOffsetId(buf, pos, offsetSeconds);
+        }
+        if (zoneId != null) {
+            buf[pos++] = '[';
+            zoneId.getChars(0, zoneId.length(), buf, pos);
+            buf[pos + zoneId.length()] = ']';
+        }
+        return new String(buf);
+    }
+
+    private static int fractionLength(int fractionDigits) {
+        return fractionDigits == 0 ? 0 : fractionDigits + 1;
+    }
+
+    /**
+     * Writes date and time of epoch second in UTC, civil from days algorithm is the one used by {@link LocalDate#ofEpochDay(long)}.
+     */
+    private static int writeEpochSecond(char[] buf, long epochSecond) {
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        long zeroDay = epochDay + 719528 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            final long adjustCycles = (zeroDay + 1) / 146097 - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * 146097;
+        }
+        long yearEst = (400 * zeroDay + 591) / 146097;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        final int marchDoy0 = (int) doyEst;
+        final int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        final int month = (marchMonth0 + 2) % 12 + 1;
+        final int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+
+        int pos = writeDate(buf, 0, (int) yearEst, month, day);
+        buf[pos++] = 'T';
+        return writeTime(buf, pos, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+    }
+
+    private static int writeDate(char[] buf, int pos, int year, int month, int day) {
+        write2(buf, pos, year / 100);
+        write2(buf, pos + 2, year % 100);
+        buf[pos + 4] = '-';
+        write2(buf, pos + 5, month);
+        buf[pos + 7] = '-';
+        write2(buf, pos + 8, day);
+        return pos + DATE_LENGTH;
+    }
+
+    private static int writeTime(char[] buf, int pos, int hour, int minute, int second) {
+        write2(buf, pos, hour);
+        buf[pos + 2] = ':';
+        write2(buf, pos + 3, minute);
+        buf[pos + 5] = ':';
+        write2(buf, pos + 6, second);
+        return pos + 8;
+    }
+
+    private static int writeFraction(char[] buf, int pos, int nano, int fractionDigits) {
+        if (fractionDigits == 0) {
+            return pos;
+        }
+        buf[pos++] = '.';
+        int fraction = nano / POWERS_OF_TEN[9 - fractionDigits];
+        for (int i = pos + fractionDigits - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        return pos + fractionDigits;
+    }
+
+    /**
+     * Writes offset as "+HH:MM:ss" pattern with "Z" for zero offset.
+     */
+    private static int writeOffsetId(char[] buf, int pos, int offsetSeconds) {
+        if (offsetSeconds == 0) {
+            buf[pos] = 'Z';
+            return pos + 1;
+        }
+        pos = writeOffset(buf, pos, offsetSeconds);
+        final int seconds = Math.abs(offsetSeconds % 60);
+        if (seconds != 0) {
+            buf[pos] = ':';
+            write2(buf, pos + 1, seconds);
+            pos += 3;
+        }
+        return pos;
+    }
+
+    /**
+     * Writes literal 'Z' followed by offset as "+HH:MM" pattern with "+00:00" for zero offset.
+     */
+    private static void writeIJsonOffset(char[] buf, int pos, int offsetSeconds) {
+        buf[pos] = 'Z';
+        writeOffset(buf, pos + 1, offsetSeconds);
+    }
+
+    private static int writeOffset(char[] buf, int pos, int offsetSeconds) {
+        final int absSeconds = Math.abs(offsetSeconds);
+        buf[pos] = offsetSeconds < 0 ? '-' : '+';
+        write2(buf, pos + 1, absSeconds / 3600);
+        buf[pos + 3] = ':';
+        write2(buf, pos + 4, absSeconds / 60 % 60);
+        return pos + 6;
+    }
+
+    private static void write2(char[] buf, int pos, int value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+    }
+
+    private static boolean isDateTime(String value) {
+        return isDate(value, 0) && value.charAt(DATE_LENGTH) == 'T';
+    }
+
+    /**
+     * Checks "yyyy-MM-dd" pattern.
+     */
+    private static boolean isDate(String value, int pos) {
+        return value.length() >= pos + DATE_LENGTH
+                && isDigits(value, pos, pos + 4) && value.charAt(pos + 4) == '-'
+                && isDigits(value, pos + 5, pos + 7) && value.charAt(pos + 7) == '-'
+                && isDigits(value, pos + 8, pos + DATE_LENGTH);
+    }
+
+    /**
+     * Finds end of "HH:mm[:ss[.SSSSSSSSS]]" pattern.
+     *
+     * @return index after time or -1 if there is no time at given position
+     */
+    private static int timeEnd(String value, int pos) {
+        final int length = value.length();
+        if (length < pos + 5 || !isDigits(value, pos, pos + 2) || value.charAt(pos + 2) != ':'
+                || !isDigits(value, pos + 3, pos + 5)) {
+            return -1;
+        }
+        if (length < pos + 8 || value.charAt(pos + 5) != ':') {
+            return pos + 5;
+        }
+        if (!isDigits(value, pos + 6, pos + 8)) {
+            return -1;
+        }
+        if (length == pos + 8 || value.charAt(pos + 8) != '.') {
+            return pos + 8;
+        }
+        int end = pos + 9;
+        while (end < length && end < pos + 18 && isDigit(value.charAt(end))) {
+            end++;
+        }
+        if (end == pos + 9 || end < length && isDigit(value.charAt(end))) {
+            return -1;
+        }
+        return end;
+    }
+
+    /**
+     * Finds end of offset id, "Z" or "+HH:MM[:ss]" pattern.
+     *
+     * @return index after offset or -1 if there is no offset at given position
+     */
+    private static int offsetEnd(String value, int pos) {
+        final int length = value.length();
+        if (pos < 0 || length <= pos) {
+            return -1;
+        }
+        final char first = value.charAt(pos);
+        if (first == 'Z') {
+            return pos + 1;
+        }
+        if ((first != '+' && first != '-') || length < pos + 6 || !isDigits(value, pos + 1, pos + 3)
+                || value.charAt(pos + 3) != ':' || !isDigits(value, pos + 4, pos + 6)) {
+            return -1;
+        }
+        if (length >= pos + 9 && value.charAt(pos + 6) == ':') {
+            return isDigits(value, pos + 7, pos + 9) ? pos + 9 : -1;
+        }
+        return pos + 6;
+    }
+
+    /**
+     * Checks characters of region id, offset based ids (UTC+01:00, GMT...) are left to the formatter.
+     */
+    private static boolean isRegionId(String value, int start, int end) {
+        if (end <= start || value.startsWith("UT", start) || value.startsWith("GMT", start)
+                || !Character.isLetter(value.charAt(start))) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '/' || c == '_' || c == '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDateTime toLocalDateTime(String value, int timeEnd) {
+        final int timeStart = DATE_LENGTH + 1;
+        return LocalDateTime.of(parse4(value, 0), parse2(value, 5), parse2(value, 8),
+                parse2(value, timeStart), parse2(value, timeStart + 3),
+                timeEnd > timeStart + 5 ? parse2(value, timeStart + 6) : 0, parseNano(value, timeStart, timeEnd));
+    }
+
+    /**
+     * Second of day of time without leap seconds.
+     *
+     * @return second of day or -1 if out of range
+     */
+    private static int secondOfDay(String value, int timeStart) {
+        final int hour = parse2(value, timeStart);
+        final int minute = parse2(value, timeStart + 3);
+        final int second = parse2(value, timeStart + 6);
+        if (hour > 23 || minute > 59 || second > 59) {
+            return -1;
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    private static int parseNano(String value, int timeStart, int timeEnd) {
+        final int fractionStart = timeStart + 9;
+        if (timeEnd <= fractionStart) {
+            return 0;
+        }
+        int nano = 0;
+        for (int i = fractionStart; i < timeEnd; i++) {
+            nano = nano * 10 + value.charAt(i) - '0';
+        }
+        return nano * POWERS_OF_TEN[9 - (timeEnd - fractionStart)];
+    }
+
+    private static ZoneOffset parseOffset(String value, int pos) {
+        if (value.charAt(pos) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        final int sign = value.charAt(pos) == '-' ? -1 : 1;
+        final int seconds = value.length() >= pos + 9 && value.charAt(pos + 6) == ':' ? parse2(value, pos + 7) : 0;
+        return ZoneOffset.ofHoursMinutesSeconds(sign * parse2(value, pos + 1), sign * parse2(value, pos + 4), sign * seconds);
+    }
+
+    private static int parse2(String value, int pos) {
+        return (value.charAt(pos) - '0') * 10 + value.charAt(pos + 1) - '0';
+    }
+
+    private static int parse4(String value, int pos) {
+        return parse2(value, pos) * 100 + parse2(value, pos + 2);
+    }
+
+    private static boolean isDigits(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
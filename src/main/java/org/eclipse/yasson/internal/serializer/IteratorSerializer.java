@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.BaseStream;
+
+/**
+ * Serializer for {@link java.util.stream.Stream}, {@link Iterator} and {@link Spliterator} as JSON array.
+ * Elements are pulled and written one at a time, so they are never collected in memory.
+ * Streams are closed when all elements are written.
+ *
+ * @param <T> stream, iterator or spliterator type
+ */
+public class IteratorSerializer<T> extends AbstractContainerSerializer<T> implements EmbeddedItem {
+
+    protected IteratorSerializer(SerializerBuilder builder) {
+        super(builder);
+    }
+
+    /**
+     * Checks if a class is a stream, iterator or spliterator source serialized as JSON array.
+     * Only JDK implementations are, user classes implementing these interfaces are serialized as POJOs by their properties.
+     *
+     * @param rawType class to check
+     * @return true if instances are serialized by this serializer
+     */
+    public static boolean isIteratorType(Class<?> rawType) {
+        return (BaseStream.class.isAssignableFrom(rawType)
+                || Iterator.class.isAssignableFrom(rawType)
+                || Spliterator.class.isAssignableFrom(rawType))
+                && (rawType.isInterface() || rawType.getClassLoader() == null);
+    }
+
+    @Override
+    protected void serializeInternal(T obj, JsonGenerator generator, SerializationContext ctx) {
+        if (obj instanceof BaseStream) {
+            try (BaseStream<?, ?> stream = (BaseStream<?, ?>) obj) {
+                stream.iterator().forEachRemaining(item -> serializeItem(item, generator, ctx));
+            }
+        } else if (obj instanceof Spliterator) {
+            ((Spliterator<?>) obj).forEachRemaining(item -> serializeItem(item, generator, ctx));
+        } else {
+            ((Iterator<?>) obj).forEachRemaining(item -> serializeItem(item, generator, ctx));
+        }
+    }
+
+    @Override
+    protected void writeStart(JsonGenerator generator) {
+        generator.writeStartArray();
+    }
+
+    @Override
+    protected void writeStart(String key, JsonGenerator generator) {
+        generator.writeStartArray(key);
+    }
+}
@@ -13,6 +13,11 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbContext;
+
+import java.text.DecimalFormat;
+import java.text.ParseException;
+
 /**
  * Formatter for numbers.
  *
@@ -24,6 +29,11 @@ public class JsonbNumberFormatter {
 
     private final String locale;
 
+    /**
+     * Formats resolved with locale of the Jsonb instance, which owns this formatter.
+     */
+    private volatile NumberFormatCache.Formats formats;
+
 
     /**
      * Construct with format string and locale.
@@ -53,4 +63,50 @@ public class JsonbNumberFormatter {
         return locale;
     }
 
+    /**
+     * Formats a number with the format pattern and locale.
+     *
+     * @param number number to format
+     * @param jsonbContext context of the Jsonb instance
+     * @return formatted number
+     */
+    public String format(Number number, JsonbContext jsonbContext) {
+        final NumberFormatCache.Formats pool = getFormats(jsonbContext);
+        final DecimalFormat decimalFormat = pool.acquire();
+        try {
+            return decimalFormat.format(number);
+        } finally {
+            pool.release(decimalFormat);
+        }
+    }
+
+    /**
+     * Parses a number with the format pattern and locale.
+     *
+     * @param value value to parse
+     * @param integerOnly if only integer part is parsed
+     * @param jsonbContext context of the Jsonb instance
+     * @return parsed number
+     * @throws ParseException if value doesn't match the format
+     */
+    public Number parse(String value, boolean integerOnly, JsonbContext jsonbContext) throws ParseException {
+        final NumberFormatCache.Formats pool = getFormats(jsonbContext);
+        final DecimalFormat decimalFormat = pool.acquire();
+        try {
+            decimalFormat.setParseIntegerOnly(integerOnly);
+            return decimalFormat.parse(value);
+        } finally {
+            pool.release(decimalFormat);
+        }
+    }
+
+    private NumberFormatCache.Formats getFormats(JsonbContext jsonbContext) {
+        NumberFormatCache.Formats result = formats;
+        if (result == null) {
+            result = jsonbContext.getNumberFormatCache().getFormats(format, jsonbContext.getConfigProperties().getLocale(locale));
+            formats = result;
+        }
+        return result;
+    }
+
 }
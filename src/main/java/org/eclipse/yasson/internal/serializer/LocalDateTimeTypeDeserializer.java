@@ -17,6 +17,7 @@ import org.eclipse.yasson.internal.model.customization.Customization;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
@@ -46,6 +47,20 @@ public class LocalDateTimeTypeDeserializer extends AbstractDateTimeDeserializer<
         return LocalDateTime.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE_TIME.withLocale(locale));
     }
 
+    @Override
+    protected LocalDateTime parseDefaultIso(String jsonValue) {
+        return IsoDateTimeFormat.parseLocalDateTime(jsonValue);
+    }
+
+    @Override
+    protected LocalDateTime parseStrictIJson(String jsonValue) {
+        final OffsetDateTime isoParsed = IsoDateTimeFormat.parseStrictIJson(jsonValue);
+        if (isoParsed != null) {
+            return isoParsed.toLocalDateTime();
+        }
+        return super.parseStrictIJson(jsonValue);
+    }
+
     @Override
     protected LocalDateTime parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
         return LocalDateTime.parse(jsonValue, formatter);
@@ -17,6 +17,7 @@ import org.eclipse.yasson.internal.model.customization.Customization;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -53,8 +54,18 @@ public class LocalDateTimeTypeSerializer extends AbstractDateTimeSerializer<Loca
         return getZonedFormatter(formatter).format(value);
     }
 
+    @Override
+    protected String formatDefaultIso(LocalDateTime value) {
+        return IsoDateTimeFormat.formatLocalDateTime(value);
+    }
+
     @Override
     protected String formatStrictIJson(LocalDateTime value) {
+        final String isoFormatted = IsoDateTimeFormat.formatStrictIJson(value.getYear(), value.getMonthValue(),
+                value.getDayOfMonth(), value.getHour(), value.getMinute(), value.getSecond(), ZoneOffset.UTC);
+        if (isoFormatted != null) {
+            return isoFormatted;
+        }
         final ZonedDateTime zonedDateTime = value.atZone(UTC);
         return JsonbDateFormatter.IJSON_DATE_FORMATTER.format(zonedDateTime);
     }
@@ -18,6 +18,7 @@ import org.eclipse.yasson.internal.model.customization.Customization;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
@@ -47,6 +48,20 @@ public class LocalDateTypeDeserializer extends AbstractDateTimeDeserializer<Loca
         return LocalDate.parse(jsonValue, DateTimeFormatter.ISO_LOCAL_DATE.withLocale(locale));
     }
 
+    @Override
+    protected LocalDate parseDefaultIso(String jsonValue) {
+        return IsoDateTimeFormat.parseLocalDate(jsonValue);
+    }
+
+    @Override
+    protected LocalDate parseStrictIJson(String jsonValue) {
+        final OffsetDateTime isoParsed = IsoDateTimeFormat.parseStrictIJson(jsonValue);
+        if (isoParsed != null) {
+            return isoParsed.toLocalDate();
+        }
+        return super.parseStrictIJson(jsonValue);
+    }
+
     @Override
     protected LocalDate parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
         return LocalDate.parse(jsonValue, formatter);
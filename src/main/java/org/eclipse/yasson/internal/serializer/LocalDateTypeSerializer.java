@@ -17,6 +17,7 @@ import org.eclipse.yasson.internal.model.customization.Customization;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -49,8 +50,18 @@ public class LocalDateTypeSerializer extends AbstractDateTimeSerializer<LocalDat
         return DEFAULT_FORMAT.withLocale(locale).format(value);
     }
 
+    @Override
+    protected String formatDefaultIso(LocalDate value) {
+        return IsoDateTimeFormat.formatLocalDate(value);
+    }
+
     @Override
     protected String formatStrictIJson(LocalDate value) {
+        final String isoFormatted = IsoDateTimeFormat.formatStrictIJson(value.getYear(), value.getMonthValue(),
+                value.getDayOfMonth(), 0, 0, 0, ZoneOffset.UTC);
+        if (isoFormatted != null) {
+            return isoFormatted;
+        }
         final ZonedDateTime zonedDateTime = value.atTime(0, 0, 0).atZone(UTC);
         return JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(zonedDateTime);
     }
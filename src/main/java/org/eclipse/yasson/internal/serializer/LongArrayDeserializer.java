@@ -13,36 +13,43 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Array unmarshaller item implementation for small long.
  *
  * @author Roman Grigoriadi
  */
-public class LongArrayDeserializer extends AbstractArrayDeserializer<long[]> {
+public class LongArrayDeserializer extends AbstractPrimitiveArrayDeserializer<long[], LongTypeDeserializer> {
 
-    private final List<Long> items = new ArrayList<>();
+    private long[] items = new long[INITIAL_CAPACITY];
 
     protected LongArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, long.class, LongTypeDeserializer.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNext(LongTypeDeserializer deserializer, JsonbParser parser, Unmarshaller context) {
+        add(deserializer.deserializeLong(parser, context));
     }
 
     @Override
-    public long[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final long[] longArray = new long[size];
-        for(int i=0; i<size; i++) {
-            longArray[i] = items.get(i);
+    public void appendResult(Object result) {
+        add((Long) result);
+    }
+
+    private void add(long value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, grow(size));
         }
-        return longArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public long[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -20,6 +21,7 @@ import org.eclipse.yasson.internal.properties.Messages;
 
 import javax.json.bind.JsonbException;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /**
  * Deserializer for {@link Long} type.
@@ -39,14 +41,44 @@ public class LongTypeDeserializer extends AbstractNumberDeserializer<Long> {
 
     @Override
     protected Long deserialize(String jsonValue, Unmarshaller unmarshaller, Type rtType) {
-        return deserializeFormatted(jsonValue, true, unmarshaller.getJsonbContext())
-                .map(num -> Long.parseLong(num.toString()))
-                .orElseGet(() -> {
-                    try {
-                        return Long.parseLong(jsonValue);
-                    } catch (NumberFormatException e) {
-                        throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, Long.class));
-                    }
-                });
+        return deserializeLong(jsonValue, unmarshaller);
+    }
+
+    @Override
+    protected Long deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        return deserializeLong(parser, unmarshaller);
+    }
+
+    /**
+     * Deserializes current parser value to primitive long. Unformatted integral numbers are read directly from parser.
+     *
+     * @param parser parser at JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public long deserializeLong(JsonbParser parser, Unmarshaller unmarshaller) {
+        if (isUnformattedNumber(parser) && parser.isExactLong()) {
+            return parser.getLong();
+        }
+        return deserializeLong(parser.getString(), unmarshaller);
+    }
+
+    /**
+     * Deserializes JSON value to primitive long. Value is not boxed, unless number format is customized.
+     *
+     * @param jsonValue JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public long deserializeLong(String jsonValue, Unmarshaller unmarshaller) {
+        final Optional<Number> formatted = deserializeFormatted(jsonValue, true, unmarshaller.getJsonbContext());
+        if (formatted.isPresent()) {
+            return Long.parseLong(formatted.get().toString());
+        }
+        try {
+            return Long.parseLong(jsonValue);
+        } catch (NumberFormatException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.DESERIALIZE_VALUE_ERROR, Long.class));
+        }
     }
 }
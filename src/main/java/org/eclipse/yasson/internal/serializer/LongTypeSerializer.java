@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.Marshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 
 import javax.json.stream.JsonGenerator;
@@ -50,4 +51,21 @@ public class LongTypeSerializer extends AbstractNumberSerializer<Long> {
             generator.write(obj.toString());
         }
     }
+
+    /**
+     * Serializes primitive long value. Value is not boxed, unless number format is customized.
+     *
+     * @param value value to serialize
+     * @param generator JSON generator
+     * @param marshaller current marshaller
+     */
+    public void serializeLong(long value, JsonGenerator generator, Marshaller marshaller) {
+        if (isFormatted()) {
+            serialize(value, generator, marshaller);
+        } else if (BigNumberUtil.isIEEE754(value)) {
+            generator.write(value);
+        } else {
+            generator.write(Long.toString(value));
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of number formats compiled from a pattern and a locale, shared by all number formatters of a Jsonb instance.
+ * Thread safe.
+ */
+public class NumberFormatCache {
+
+    /**
+     * Pool of formats for one pattern and locale. {@link DecimalFormat} is not thread safe,
+     * so each format is used by one thread at a time. New formats are cloned from a compiled prototype.
+     */
+    public static final class Formats {
+
+        private static final int MAX_IDLE_FORMATS = 16;
+
+        private final DecimalFormat prototype;
+
+        private final Queue<DecimalFormat> idle = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        private Formats(String pattern, Locale locale) {
+            this.prototype = (DecimalFormat) NumberFormat.getInstance(locale);
+            this.prototype.applyPattern(pattern);
+        }
+
+        /**
+         * Takes a format from the pool, or clones a new one if pool is empty.
+         *
+         * @return format for exclusive use until released
+         */
+        public DecimalFormat acquire() {
+            final DecimalFormat format = idle.poll();
+            if (format == null) {
+                return (DecimalFormat) prototype.clone();
+            }
+            idleCount.decrementAndGet();
+            return format;
+        }
+
+        /**
+         * Returns acquired format to the pool.
+         *
+         * @param format format to return
+         */
+        public void release(DecimalFormat format) {
+            if (idleCount.incrementAndGet() > MAX_IDLE_FORMATS) {
+                idleCount.decrementAndGet();
+                return;
+            }
+            idle.offer(format);
+        }
+    }
+
+    private final ConcurrentMap<Key, Formats> formats = new ConcurrentHashMap<>();
+
+    /**
+     * Gets formats for a pattern and a locale. Pattern is compiled only once.
+     *
+     * @param pattern decimal format pattern
+     * @param locale locale of formats
+     * @return pool of formats
+     */
+    public Formats getFormats(String pattern, Locale locale) {
+        return formats.computeIfAbsent(new Key(pattern, locale), key -> new Formats(pattern, locale));
+    }
+
+    private static final class Key {
+
+        private final String pattern;
+
+        private final Locale locale;
+
+        private Key(String pattern, Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return pattern.equals(key.pattern) && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pattern, locale);
+        }
+    }
+}
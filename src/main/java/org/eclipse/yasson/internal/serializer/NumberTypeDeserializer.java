@@ -13,9 +13,12 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.stream.JsonParser;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 
@@ -39,4 +42,15 @@ public class NumberTypeDeserializer extends AbstractValueTypeDeserializer<Number
     protected Number deserialize(String jsonValue, Unmarshaller unmarshaller, Type rtType) {
         return new BigDecimal(jsonValue);
     }
+
+    /**
+     * JSON numbers are read directly from parser, other values are converted from string.
+     */
+    @Override
+    public Number deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+        if (((JsonbParser) parser).getCurrentLevel().getLastEvent() == JsonParser.Event.VALUE_NUMBER) {
+            return parser.getBigDecimal();
+        }
+        return super.deserialize(parser, ctx, rtType);
+    }
 }
@@ -29,6 +29,10 @@ public class ObjectArraySerializer<T> extends AbstractArraySerializer<T[]> {
 
     @Override
     protected void serializeInternal(T[] arr, JsonGenerator generator, SerializationContext ctx) {
+        if (isParallel(arr.length, generator, ctx)) {
+            serializeItemsInParallel(arr, generator, ctx);
+            return;
+        }
         for (T obj : arr) {
             serializeItem(obj, generator, ctx);
         }
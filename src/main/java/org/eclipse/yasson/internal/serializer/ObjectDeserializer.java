@@ -22,12 +22,8 @@ import org.eclipse.yasson.internal.model.PropertyModel;
 import javax.json.bind.JsonbException;
 import javax.json.bind.serializer.JsonbDeserializer;
 import javax.json.stream.JsonParser;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 /**
@@ -61,7 +57,31 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
 
     private static final Logger log = Logger.getLogger(ObjectDeserializer.class.getName());
 
-    private Map<String, ValueWrapper> values = new LinkedHashMap<>();
+    private static final int INITIAL_ORDER_SIZE = 8;
+
+    /**
+     * Marks creator parameter, which was not present in JSON document.
+     */
+    private static final Object MISSING_VALUE = new Object();
+
+    private final JsonbCreator creator;
+
+    /**
+     * Creator parameter values indexed by {@link CreatorModel#getOrdinal()}.
+     */
+    private Object[] creatorValues;
+
+    /**
+     * Property values buffered until creator is called, indexed by {@link PropertyModel#getOrdinal()}.
+     */
+    private Object[] propertyValues;
+
+    /**
+     * Ordinals of buffered properties in order of their appearance in JSON document.
+     */
+    private int[] propertyOrder;
+
+    private int propertyCount;
 
     private T instance;
 
@@ -73,11 +93,17 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
      */
     protected ObjectDeserializer(DeserializerBuilder builder) {
         super(builder);
+        this.creator = getClassModel().getClassCustomization().getCreator();
+        if (creator != null) {
+            creatorValues = new Object[creator.getParams().length];
+            Arrays.fill(creatorValues, MISSING_VALUE);
+        }
     }
 
     /**
-     * Due to support of custom (parametrized) constructors and factory methods, values are held in map,
-     * which is transferred into instance values by calling getInstance.
+     * Due to support of custom (parametrized) constructors and factory methods, property values of classes with
+     * a creator are buffered, and transferred into instance values by calling getInstance.
+     * Values of classes without a creator are set directly into the instance.
      *
      * @param unmarshaller Current deserialization context.
      * @return An instance of deserializing item.
@@ -88,72 +114,97 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
         if (instance != null) {
             return instance;
         }
+        if (creator == null) {
+            return getOrCreateInstance();
+        }
         final Class<?> rawType = ReflectionUtils.getRawType(getRuntimeType());
-        final JsonbCreator creator = getClassModel().getClassCustomization().getCreator();
-        instance = creator != null ? createInstance((Class<T>) rawType, creator)
-                : ReflectionUtils.createNoArgConstructorInstance((Constructor<T>) getClassModel().getDefaultConstructor());
+        instance = createInstance((Class<T>) rawType, creator);
 
         //values must be set in order, in which they appears in JSON by spec
-        values.forEach((key, wrapper) -> {
-            //skip creator values
-            if (wrapper.getCreatorModel() != null) {
-                return;
-            }
-            final PropertyModel propertyModel = wrapper.getPropertyModel();
-            propertyModel.setValue(instance, wrapper.getValue());
-        });
+        for (int i = 0; i < propertyCount; i++) {
+            final int ordinal = propertyOrder[i];
+            getClassModel().getPropertyByOrdinal(ordinal).setValue(instance, propertyValues[ordinal]);
+        }
 
         return instance;
     }
 
+    @SuppressWarnings("unchecked")
+    private T getOrCreateInstance() {
+        if (instance == null) {
+            instance = (T) getClassModel().newDefaultInstance();
+        }
+        return instance;
+    }
 
     /**
      * Creates instance with custom jsonb creator (parameterized constructor or factory method)
      */
     private T createInstance(Class<T> rawType, JsonbCreator creator) {
-        final T instance;
-        final List<Object> paramValues = new ArrayList<>();
-        for(CreatorModel param : creator.getParams()) {
-            final ValueWrapper valueWrapper = values.get(param.getName());
+        for (CreatorModel param : creator.getParams()) {
             //required by spec
-            if (valueWrapper == null){
+            if (creatorValues[param.getOrdinal()] == MISSING_VALUE) {
                 throw new JsonbException(Messages.getMessage(MessageKeys.JSONB_CREATOR_MISSING_PROPERTY, param.getName()));
             }
-            paramValues.add(valueWrapper.getValue());
         }
-        instance = creator.call(paramValues.toArray(), rawType);
-        return instance;
+        return creator.call(creatorValues, rawType);
+    }
+
+    /**
+     * Set a value of a property into the instance, or buffer it in case of creator.
+     */
+    private void setPropertyValue(PropertyModel model, Object value) {
+        if (creator == null) {
+            model.setValue(getOrCreateInstance(), value);
+            return;
+        }
+        if (propertyValues == null) {
+            propertyValues = new Object[getClassModel().getPropertySlotCount()];
+            propertyOrder = new int[INITIAL_ORDER_SIZE];
+        } else if (propertyCount == propertyOrder.length) {
+            propertyOrder = Arrays.copyOf(propertyOrder, propertyCount * 2);
+        }
+        propertyValues[model.getOrdinal()] = value;
+        propertyOrder[propertyCount++] = model.getOrdinal();
     }
 
     /**
-     * Set populated instance of current object to its unfinished wrapper values map.
+     * Set populated value of a property or creator parameter of current object.
      *
      * @param result An instance result of an item.
      */
     @Override
     public void appendResult(Object result) {
+        if (creator != null) {
+            final CreatorModel param = creator.findByName(parserContext.getLastKeyName());
+            if (param != null) {
+                creatorValues[param.getOrdinal()] = result;
+                return;
+            }
+        }
         final PropertyModel model = getModel();
         //missing property for null values
         if (model == null) {
             return;
         }
-        values.put(model.getReadName(), new ValueWrapper(model, convertNullToOptionalEmpty(model.getPropertyType(), result)));
+        setPropertyValue(model, convertNullToOptionalEmpty(model.getPropertyType(), result));
     }
 
     @Override
     protected void deserializeNext(JsonParser parser, Unmarshaller context) {
 
-        final JsonbCreator creator = getClassModel().getClassCustomization().getCreator();
         //first check jsonb creator param, since it can be different from property name
         if (creator != null) {
             final CreatorModel param = creator.findByName(parserContext.getLastKeyName());
             if (param != null) {
-                final JsonbDeserializer<?> deserializer = newUnmarshallerItemBuilder(context.getJsonbContext())
-                        .withType(param.getType())
-                        .withCustomization(param.getCustomization())
-                        .build();
-                Object result = deserializer.deserialize(parser, context, param.getType());
-                values.put(param.getName(), new ValueWrapper(param, result));
+                JsonbDeserializer<?> deserializer = isJsonValueEvent() ? param.getDeserializer() : null;
+                if (deserializer == null) {
+                    deserializer = newUnmarshallerItemBuilder(context.getJsonbContext())
+                            .withType(param.getType())
+                            .withCustomization(param.getCustomization())
+                            .build();
+                }
+                creatorValues[param.getOrdinal()] = deserializer.deserialize(parser, context, param.getType());
                 return;
             }
         }
@@ -161,6 +212,17 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
         //identify field model of currently processed class model
         PropertyModel newPropertyModel = getModel();
         if (newPropertyModel != null && newPropertyModel.isWritable()) {
+            //use deserializer cached in the model for JSON values of supported types
+            final JsonbDeserializer<?> cachedDeserializer = newPropertyModel.getPropertyDeserializer();
+            if (cachedDeserializer != null && isJsonValueEvent()) {
+                if (creator == null && newPropertyModel.getPrimitiveDeserializationType() != null
+                        && parserContext.getLastEvent() != JsonParser.Event.VALUE_NULL) {
+                    setPrimitiveValue(newPropertyModel, cachedDeserializer, parser, context);
+                    return;
+                }
+                setPropertyValue(newPropertyModel, cachedDeserializer.deserialize(parser, context, newPropertyModel.getPropertyDeserializationType()));
+                return;
+            }
             //create current item instance of identified object field
             final JsonbDeserializer<?> deserializer = newUnmarshallerItemBuilder(context.getJsonbContext())
                     .withCustomization(newPropertyModel.getCustomization())
@@ -168,8 +230,7 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
                     .build();
 
             Type resolvedType = ReflectionUtils.resolveType(this, newPropertyModel.getPropertyDeserializationType());
-            Object result = deserializer.deserialize(parser, context, resolvedType);
-            values.put(newPropertyModel.getPropertyName(), new ValueWrapper(newPropertyModel, result));
+            setPropertyValue(newPropertyModel, deserializer.deserialize(parser, context, resolvedType));
             return;
         }
         skipJsonProperty((JsonbParser) parser, context.getJsonbContext());
@@ -185,6 +246,28 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
         parser.skipJsonStructure();
     }
 
+    /**
+     * Deserializes primitive property value with cached deserializer and sets it to the instance, without boxing.
+     */
+    private void setPrimitiveValue(PropertyModel model, JsonbDeserializer<?> deserializer, JsonParser parser, Unmarshaller context) {
+        final Class<?> primitiveType = model.getPrimitiveDeserializationType();
+        final JsonbParser jsonbParser = (JsonbParser) parser;
+        if (primitiveType == int.class) {
+            model.setInt(getOrCreateInstance(), ((IntegerTypeDeserializer) deserializer).deserializeInt(jsonbParser, context));
+        } else if (primitiveType == long.class) {
+            model.setLong(getOrCreateInstance(), ((LongTypeDeserializer) deserializer).deserializeLong(jsonbParser, context));
+        } else if (primitiveType == double.class) {
+            model.setDouble(getOrCreateInstance(), ((DoubleTypeDeserializer) deserializer).deserializeDouble(jsonbParser, context));
+        } else {
+            model.setBoolean(getOrCreateInstance(), ((BooleanTypeDeserializer) deserializer).deserializeBoolean(parser));
+        }
+    }
+
+    private boolean isJsonValueEvent() {
+        final JsonParser.Event lastEvent = parserContext.getLastEvent();
+        return lastEvent != JsonParser.Event.START_OBJECT && lastEvent != JsonParser.Event.START_ARRAY;
+    }
+
     @Override
     protected JsonbRiParser.LevelContext moveToFirst(JsonbParser parser) {
         parser.moveTo(JsonParser.Event.START_OBJECT);
@@ -199,35 +282,4 @@ class ObjectDeserializer<T> extends AbstractContainerDeserializer<T> {
         lastPropertyModel = new LastPropertyModel(lastKeyName, getClassModel().findPropertyModelByJsonReadName(lastKeyName));
         return lastPropertyModel.getPropertyModel();
     }
-
-    private static class ValueWrapper {
-
-        private final CreatorModel creatorModel;
-        private final PropertyModel propertyModel;
-        private final Object value;
-
-        public ValueWrapper(CreatorModel creator, Object value) {
-            this.creatorModel = creator;
-            this.value = value;
-            propertyModel = null;
-        }
-
-        public ValueWrapper(PropertyModel propertyModel, Object value) {
-            this.propertyModel = propertyModel;
-            this.value = value;
-            creatorModel = null;
-        }
-
-        public CreatorModel getCreatorModel() {
-            return creatorModel;
-        }
-
-        public PropertyModel getPropertyModel() {
-            return propertyModel;
-        }
-
-        public Object getValue() {
-            return value;
-        }
-    }
 }
@@ -17,10 +17,12 @@ import org.eclipse.yasson.internal.Marshaller;
 import org.eclipse.yasson.internal.ReflectionUtils;
 import org.eclipse.yasson.internal.model.ClassModel;
 import org.eclipse.yasson.internal.model.PropertyModel;
+import org.eclipse.yasson.internal.stream.Utf8JsonGenerator;
 
 import javax.json.bind.serializer.JsonbSerializer;
 import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerator;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Optional;
 import java.util.OptionalDouble;
@@ -77,15 +79,26 @@ public class ObjectSerializer<T> extends AbstractContainerSerializer<T> {
         Marshaller marshaller = (Marshaller) ctx;
 
         if (propertyModel.isReadable()) {
+            final Class<?> primitiveType = propertyModel.getPrimitiveSerializationType();
+            if (primitiveType != null) {
+                writeKey(propertyModel, generator);
+                marshallPrimitiveProperty(object, generator, marshaller, propertyModel, primitiveType);
+                return;
+            }
+
             final Object propertyValue = propertyModel.getValue(object);
             if (propertyValue == null || isEmptyOptional(propertyValue)) {
                 if (propertyModel.getCustomization().isNillable()) {
-                    generator.writeNull(propertyModel.getWriteName());
+                    if (generator instanceof Utf8JsonGenerator) {
+                        ((Utf8JsonGenerator) generator).writeKey(propertyModel.getEncodedWriteName()).writeNull();
+                    } else {
+                        generator.writeNull(propertyModel.getWriteName());
+                    }
                 }
                 return;
             }
 
-            generator.writeKey(propertyModel.getWriteName());
+            writeKey(propertyModel, generator);
 
             final JsonbSerializer<?> propertyCachedSerializer = propertyModel.getPropertySerializer();
             if (propertyCachedSerializer != null) {
@@ -93,17 +106,63 @@ public class ObjectSerializer<T> extends AbstractContainerSerializer<T> {
                 return;
             }
 
-            Optional<Type> runtimeTypeOptional = ReflectionUtils.resolveOptionalType(this, propertyModel.getPropertyType());
-            Type genericType = runtimeTypeOptional.orElse(null);
-            final JsonbSerializer<?> serializer = new SerializerBuilder(marshaller.getJsonbContext())
-                    .withWrapper(this)
-                    .withObjectClass(propertyValue.getClass())
-                    .withCustomization(propertyModel.getCustomization())
-                    .withType(genericType).build();
+            final Class<?> valueClass = propertyValue.getClass();
+            final RuntimeSerializerCache serializerCache = propertyModel.getRuntimeSerializerCache();
+            JsonbSerializer<?> serializer = serializerCache != null ? serializerCache.get(valueClass) : null;
+            if (serializer == null) {
+                Optional<Type> runtimeTypeOptional = ReflectionUtils.resolveOptionalType(this, propertyModel.getPropertyType());
+                Type genericType = runtimeTypeOptional.orElse(null);
+                serializer = new SerializerBuilder(marshaller.getJsonbContext())
+                        .withWrapper(this)
+                        .withObjectClass(valueClass)
+                        .withCustomization(propertyModel.getCustomization())
+                        .withType(genericType).build();
+                if (serializerCache != null && isRuntimeTypeResolved(genericType, valueClass)) {
+                    serializerCache.put(valueClass, serializer);
+                }
+            }
             serializerCaptor(serializer, propertyValue, generator, ctx);
         }
     }
 
+    /**
+     * Serializer can be reused for other values of the same class only if its runtime type
+     * doesn't need type variables resolved from wrapping items.
+     */
+    private static boolean isRuntimeTypeResolved(Type genericType, Class<?> valueClass) {
+        if (genericType instanceof ParameterizedType) {
+            return ReflectionUtils.isResolvedType(genericType);
+        }
+        return valueClass.getTypeParameters().length == 0;
+    }
+
+    /**
+     * Writes pre-encoded property name, if supported by the generator.
+     */
+    private static void writeKey(PropertyModel propertyModel, JsonGenerator generator) {
+        if (generator instanceof Utf8JsonGenerator) {
+            ((Utf8JsonGenerator) generator).writeKey(propertyModel.getEncodedWriteName());
+        } else {
+            generator.writeKey(propertyModel.getWriteName());
+        }
+    }
+
+    /**
+     * Serializes primitive property value with cached serializer, without boxing.
+     */
+    private void marshallPrimitiveProperty(T object, JsonGenerator generator, Marshaller marshaller, PropertyModel propertyModel, Class<?> primitiveType) {
+        final JsonbSerializer<?> serializer = propertyModel.getPropertySerializer();
+        if (primitiveType == int.class) {
+            ((IntegerTypeSerializer) serializer).serializeInt(propertyModel.getInt(object), generator, marshaller);
+        } else if (primitiveType == long.class) {
+            ((LongTypeSerializer) serializer).serializeLong(propertyModel.getLong(object), generator, marshaller);
+        } else if (primitiveType == double.class) {
+            ((DoubleTypeSerializer) serializer).serializeDouble(propertyModel.getDouble(object), generator, marshaller);
+        } else {
+            ((BooleanTypeSerializer) serializer).serializeBoolean(propertyModel.getBoolean(object), generator);
+        }
+    }
+
     private boolean isEmptyOptional(Object object) {
         if (object instanceof Optional) {
             return !((Optional) object).isPresent();
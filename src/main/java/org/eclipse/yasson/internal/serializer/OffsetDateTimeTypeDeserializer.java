@@ -55,6 +55,20 @@ public class OffsetDateTimeTypeDeserializer extends AbstractDateTimeDeserializer
         return OffsetDateTime.parse(jsonValue, DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale));
     }
 
+    @Override
+    protected OffsetDateTime parseDefaultIso(String jsonValue) {
+        return IsoDateTimeFormat.parseOffsetDateTime(jsonValue);
+    }
+
+    @Override
+    protected OffsetDateTime parseStrictIJson(String jsonValue) {
+        final OffsetDateTime isoParsed = IsoDateTimeFormat.parseStrictIJson(jsonValue);
+        if (isoParsed != null) {
+            return isoParsed;
+        }
+        return super.parseStrictIJson(jsonValue);
+    }
+
     @Override
     protected OffsetDateTime parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
         return OffsetDateTime.parse(jsonValue, formatter);
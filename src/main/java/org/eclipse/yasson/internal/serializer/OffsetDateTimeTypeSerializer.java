@@ -45,4 +45,19 @@ public class OffsetDateTimeTypeSerializer extends AbstractDateTimeSerializer<Off
     protected String formatDefault(OffsetDateTime value, Locale locale) {
         return DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(locale).format(value);
     }
+
+    @Override
+    protected String formatDefaultIso(OffsetDateTime value) {
+        return IsoDateTimeFormat.formatOffsetDateTime(value);
+    }
+
+    @Override
+    protected String formatStrictIJson(OffsetDateTime value) {
+        final String isoFormatted = IsoDateTimeFormat.formatStrictIJson(value.getYear(), value.getMonthValue(),
+                value.getDayOfMonth(), value.getHour(), value.getMinute(), value.getSecond(), value.getOffset());
+        if (isoFormatted != null) {
+            return isoFormatted;
+        }
+        return super.formatStrictIJson(value);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import javax.json.bind.serializer.JsonbSerializer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread safe cache of serializers built for runtime classes of property values,
+ * when property serializer can't be resolved before runtime.
+ *
+ * First few runtime classes are kept in a small immutable array, which is replaced on change.
+ * Other classes go to a map.
+ */
+public final class RuntimeSerializerCache {
+
+    /**
+     * Number of runtime classes looked up by identity, before falling back to a map.
+     */
+    private static final int POLYMORPHIC_LIMIT = 4;
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final AtomicReference<Entry[]> entries = new AtomicReference<>(EMPTY);
+
+    private final ConcurrentMap<Class<?>, JsonbSerializer<?>> megamorphic = new ConcurrentHashMap<>();
+
+    /**
+     * Gets serializer cached for a runtime class.
+     *
+     * @param valueClass class of the serialized value
+     * @return cached serializer or null
+     */
+    public JsonbSerializer<?> get(Class<?> valueClass) {
+        final Entry[] current = entries.get();
+        for (Entry entry : current) {
+            if (entry.valueClass == valueClass) {
+                return entry.serializer;
+            }
+        }
+        if (current.length < POLYMORPHIC_LIMIT) {
+            return null;
+        }
+        return megamorphic.get(valueClass);
+    }
+
+    /**
+     * Caches serializer for a runtime class. If other thread has already cached serializer for the class,
+     * it is left in place.
+     *
+     * @param valueClass class of the serialized value
+     * @param serializer serializer built for the class
+     */
+    public void put(Class<?> valueClass, JsonbSerializer<?> serializer) {
+        Objects.requireNonNull(valueClass);
+        Objects.requireNonNull(serializer);
+        while (true) {
+            final Entry[] current = entries.get();
+            for (Entry entry : current) {
+                if (entry.valueClass == valueClass) {
+                    return;
+                }
+            }
+            if (current.length >= POLYMORPHIC_LIMIT) {
+                megamorphic.putIfAbsent(valueClass, serializer);
+                return;
+            }
+            final Entry[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = new Entry(valueClass, serializer);
+            if (entries.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final Class<?> valueClass;
+
+        private final JsonbSerializer<?> serializer;
+
+        private Entry(Class<?> valueClass, JsonbSerializer<?> serializer) {
+            this.valueClass = valueClass;
+            this.serializer = serializer;
+        }
+    }
+}
@@ -91,6 +91,8 @@ public class SerializerBuilder extends AbstractSerializerBuilder<SerializerBuild
             return new CollectionSerializer<>(this);
         } else if (Map.class.isAssignableFrom(objectClass)) {
             return new MapSerializer<>(this);
+        } else if (IteratorSerializer.isIteratorType(objectClass)) {
+            return new IteratorSerializer<>(this);
         } else if (isByteArray(objectClass)) {
             String strategy = jsonbContext.getConfigProperties().getBinaryDataStrategy();
             switch (strategy) {
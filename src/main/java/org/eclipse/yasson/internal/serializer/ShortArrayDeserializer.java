@@ -13,36 +13,43 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Array unmarshaller item implementation for small short.
  *
  * @author Roman Grigoriadi
  */
-public class ShortArrayDeserializer extends AbstractArrayDeserializer<short[]> {
+public class ShortArrayDeserializer extends AbstractPrimitiveArrayDeserializer<short[], ShortTypeDeserializer> {
 
-    private final List<Short> items = new ArrayList<>();
+    private short[] items = new short[INITIAL_CAPACITY];
 
     protected ShortArrayDeserializer(DeserializerBuilder builder) {
-        super(builder);
+        super(builder, short.class, ShortTypeDeserializer.class);
     }
 
     @Override
-    protected List<?> getItems() {
-        return items;
+    protected void appendNext(ShortTypeDeserializer deserializer, JsonbParser parser, Unmarshaller context) {
+        add(deserializer.deserializeShort(parser, context));
     }
 
     @Override
-    public short[] getInstance(Unmarshaller unmarshaller) {
-        final int size = items.size();
-        final short[] shortArray = new short[size];
-        for(int i=0; i<size; i++) {
-            shortArray[i] = items.get(i);
+    public void appendResult(Object result) {
+        add((Short) result);
+    }
+
+    private void add(short value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, grow(size));
         }
-        return shortArray;
+        items[size++] = value;
+    }
+
+    @Override
+    public short[] getInstance(Unmarshaller unmarshaller) {
+        return size == items.length ? items : Arrays.copyOf(items, size);
     }
 }
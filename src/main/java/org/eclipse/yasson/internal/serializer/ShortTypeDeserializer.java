@@ -13,6 +13,7 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import org.eclipse.yasson.internal.JsonbParser;
 import org.eclipse.yasson.internal.Unmarshaller;
 import org.eclipse.yasson.internal.model.customization.Customization;
 import org.eclipse.yasson.internal.properties.MessageKeys;
@@ -49,4 +50,26 @@ public class ShortTypeDeserializer extends AbstractNumberDeserializer<Short> {
                     }
                 });
     }
+
+    @Override
+    protected Short deserializeNumber(JsonbParser parser, Unmarshaller unmarshaller, Type rtType) {
+        return deserializeShort(parser, unmarshaller);
+    }
+
+    /**
+     * Deserializes current parser value to primitive short. Unformatted integral numbers are read directly from parser.
+     *
+     * @param parser parser at JSON value
+     * @param unmarshaller current unmarshaller
+     * @return deserialized value
+     */
+    public short deserializeShort(JsonbParser parser, Unmarshaller unmarshaller) {
+        if (isUnformattedNumber(parser) && parser.isExactLong()) {
+            final long value = parser.getLong();
+            if ((short) value == value) {
+                return (short) value;
+            }
+        }
+        return deserialize(parser.getString(), unmarshaller, Short.class);
+    }
 }
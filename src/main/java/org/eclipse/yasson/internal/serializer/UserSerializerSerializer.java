@@ -16,10 +16,7 @@ package org.eclipse.yasson.internal.serializer;
 import org.eclipse.yasson.internal.Marshaller;
 import org.eclipse.yasson.internal.ProcessingContext;
 import org.eclipse.yasson.internal.model.ClassModel;
-import org.eclipse.yasson.internal.properties.MessageKeys;
-import org.eclipse.yasson.internal.properties.Messages;
 
-import javax.json.bind.JsonbException;
 import javax.json.bind.serializer.JsonbSerializer;
 import javax.json.bind.serializer.SerializationContext;
 import javax.json.stream.JsonGenerator;
@@ -50,12 +47,11 @@ public class UserSerializerSerializer<T> implements JsonbSerializer<T> {
     @Override
     public void serialize(T obj, JsonGenerator generator, SerializationContext ctx) {
         ProcessingContext context = (Marshaller) ctx;
+        if (!context.addProcessedObject(obj)) {
+            throw context.createRecursiveReferenceException(obj);
+        }
         try {
-            if (context.addProcessedObject(obj)) {
-                userSerializer.serialize(obj, generator, ctx);
-            } else {
-                throw new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, obj.getClass()));
-            }
+            userSerializer.serialize(obj, generator, ctx);
         } finally {
             context.removeProcessedObject(obj);
         }
@@ -18,6 +18,7 @@ import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -55,6 +56,20 @@ public class ZonedDateTimeTypeDeserializer extends AbstractDateTimeDeserializer<
         return ZonedDateTime.parse(jsonValue, DateTimeFormatter.ISO_ZONED_DATE_TIME.withLocale(locale));
     }
 
+    @Override
+    protected ZonedDateTime parseDefaultIso(String jsonValue) {
+        return IsoDateTimeFormat.parseZonedDateTime(jsonValue);
+    }
+
+    @Override
+    protected ZonedDateTime parseStrictIJson(String jsonValue) {
+        final OffsetDateTime isoParsed = IsoDateTimeFormat.parseStrictIJson(jsonValue);
+        if (isoParsed != null && isoParsed.getOffset().getTotalSeconds() == 0) {
+            return isoParsed.toLocalDateTime().atZone(UTC);
+        }
+        return super.parseStrictIJson(jsonValue);
+    }
+
     @Override
     protected ZonedDateTime parseWithFormatter(String jsonValue, DateTimeFormatter formatter) {
         return ZonedDateTime.parse(jsonValue, getZonedFormatter(formatter));
@@ -46,4 +46,19 @@ public class ZonedDateTimeTypeSerializer extends AbstractDateTimeSerializer<Zone
     protected String formatDefault(ZonedDateTime value, Locale locale) {
         return DateTimeFormatter.ISO_ZONED_DATE_TIME.withLocale(locale).format(value);
     }
+
+    @Override
+    protected String formatDefaultIso(ZonedDateTime value) {
+        return IsoDateTimeFormat.formatZonedDateTime(value);
+    }
+
+    @Override
+    protected String formatStrictIJson(ZonedDateTime value) {
+        final String isoFormatted = IsoDateTimeFormat.formatStrictIJson(value.getYear(), value.getMonthValue(),
+                value.getDayOfMonth(), value.getHour(), value.getMinute(), value.getSecond(), value.getOffset());
+        if (isoFormatted != null) {
+            return isoFormatted;
+        }
+        return super.formatStrictIJson(value);
+    }
 }
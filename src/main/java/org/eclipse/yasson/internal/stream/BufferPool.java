@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.stream;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of byte buffers used by generators and parsers of one Jsonb instance.
+ * Thread safe.
+ */
+public class BufferPool {
+
+    /**
+     * Size of pooled buffers.
+     */
+    public static final int BUFFER_SIZE = 8192;
+
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pooledCount = new AtomicInteger();
+
+    /**
+     * Takes a buffer from the pool, or creates a new one if pool is empty.
+     *
+     * @return buffer of {@link #BUFFER_SIZE} length
+     */
+    public byte[] take() {
+        final byte[] buffer = buffers.poll();
+        if (buffer == null) {
+            return new byte[BUFFER_SIZE];
+        }
+        pooledCount.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer taken from the pool. Buffer must not be used after it is recycled.
+     *
+     * @param buffer buffer to return
+     */
+    public void recycle(byte[] buffer) {
+        if (pooledCount.incrementAndGet() > MAX_POOLED_BUFFERS) {
+            pooledCount.decrementAndGet();
+            return;
+        }
+        buffers.offer(buffer);
+    }
+}
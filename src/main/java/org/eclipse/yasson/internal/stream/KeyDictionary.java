@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.stream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Dictionary of known JSON key names looked up by their UTF-8 bytes.
+ * {@link Utf8JsonParser} returns dictionary instances for keys found in it, instead of decoding a new String.
+ * Property read names of class models are registered, so that matching key of a property in JSON document
+ * doesn't allocate and is found in class model by identity.
+ * <p>
+ * Lookups are lock free. Names are added to a copy of open addressing hash table, which is then published.
+ * </p>
+ */
+public class KeyDictionary {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Immutable, once published.
+     */
+    private static final class Table {
+
+        private final byte[][] keys;
+
+        private final String[] names;
+
+        private final int size;
+
+        private Table(int capacity, int size) {
+            this.keys = new byte[capacity][];
+            this.names = new String[capacity];
+            this.size = size;
+        }
+    }
+
+    private volatile Table table = new Table(INITIAL_CAPACITY, 0);
+
+    /**
+     * Finds a name by its UTF-8 bytes.
+     *
+     * @param buffer buffer containing key bytes
+     * @param offset offset of the key in the buffer
+     * @param length length of the key in bytes
+     * @return name or null if not present
+     */
+    public String lookup(byte[] buffer, int offset, int length) {
+        final Table current = table;
+        final int mask = current.keys.length - 1;
+        for (int i = hash(buffer, offset, length) & mask; ; i = (i + 1) & mask) {
+            final byte[] key = current.keys[i];
+            if (key == null) {
+                return null;
+            }
+            if (equals(key, buffer, offset, length)) {
+                return current.names[i];
+            }
+        }
+    }
+
+    /**
+     * Adds names to the dictionary.
+     *
+     * @param names names to add
+     */
+    public synchronized void addAll(Collection<String> names) {
+        final Table current = table;
+        int size = current.size;
+        for (String name : names) {
+            final byte[] key = name.getBytes(StandardCharsets.UTF_8);
+            if (lookup(key, 0, key.length) == null) {
+                size++;
+            }
+        }
+        if (size == current.size) {
+            return;
+        }
+        int capacity = current.keys.length;
+        while (size * 2 > capacity) {
+            capacity *= 2;
+        }
+        final Table updated = new Table(capacity, size);
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.keys[i] != null) {
+                put(updated, current.keys[i], current.names[i]);
+            }
+        }
+        for (String name : names) {
+            put(updated, name.getBytes(StandardCharsets.UTF_8), name);
+        }
+        table = updated;
+    }
+
+    private static void put(Table table, byte[] key, String name) {
+        final int mask = table.keys.length - 1;
+        int i = hash(key, 0, key.length) & mask;
+        while (table.keys[i] != null) {
+            if (equals(table.keys[i], key, 0, key.length)) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        table.keys[i] = key;
+        table.names[i] = name;
+    }
+
+    private static int hash(byte[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean equals(byte[] key, byte[] buffer, int offset, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.stream;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects generated output in pooled buffers, until it is copied into output of another generator.
+ */
+final class SegmentOutputStream extends OutputStream {
+
+    private final BufferPool bufferPool;
+
+    private final List<byte[]> buffers = new ArrayList<>();
+
+    /**
+     * Count of bytes in the last buffer.
+     */
+    private int position = BufferPool.BUFFER_SIZE;
+
+    SegmentOutputStream(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public void write(int b) {
+        if (position == BufferPool.BUFFER_SIZE) {
+            addBuffer();
+        }
+        buffers.get(buffers.size() - 1)[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (position == BufferPool.BUFFER_SIZE) {
+                addBuffer();
+            }
+            final int count = Math.min(length, BufferPool.BUFFER_SIZE - position);
+            System.arraycopy(bytes, offset, buffers.get(buffers.size() - 1), position, count);
+            position += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    boolean isEmpty() {
+        return buffers.isEmpty();
+    }
+
+    /**
+     * Writes collected bytes to the generator and recycles buffers.
+     *
+     * @param generator generator to write to
+     */
+    void writeTo(Utf8JsonGenerator generator) {
+        final int last = buffers.size() - 1;
+        for (int i = 0; i <= last; i++) {
+            final byte[] buffer = buffers.get(i);
+            generator.writeRaw(buffer, i == last ? position : buffer.length);
+            bufferPool.recycle(buffer);
+        }
+        buffers.clear();
+        position = BufferPool.BUFFER_SIZE;
+    }
+
+    private void addBuffer() {
+        buffers.add(bufferPool.take());
+        position = 0;
+    }
+}
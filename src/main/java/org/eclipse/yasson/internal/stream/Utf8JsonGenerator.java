@@ -0,0 +1,681 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.stream;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerationException;
+import javax.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * {@link JsonGenerator} writing UTF-8 encoded JSON directly into a byte buffer, which is flushed to an {@link OutputStream}.
+ * <p>
+ * Output, including pretty printing, is the same as of JSONP reference implementation.
+ * Property names can be written pre-encoded with {@link #writeKey(byte[])}, see {@link #encodeKey(String)}.
+ * </p>
+ * Not thread safe.
+ */
+public class Utf8JsonGenerator implements JsonGenerator {
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    private static final byte[] MIN_LONG = {'-', '9', '2', '2', '3', '3', '7', '2', '0', '3', '6', '8', '5', '4', '7', '7', '5', '8', '0', '8'};
+
+    private static final String INDENT = "    ";
+
+    /**
+     * Maximum number of bytes written for a single char of a string, which is the length of an unicode escape.
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private static final byte SCOPE_OBJECT = 1;
+
+    private static final byte SCOPE_ARRAY = 2;
+
+    private final OutputStream stream;
+
+    private final boolean prettyPrinting;
+
+    private final BufferPool bufferPool;
+
+    /**
+     * Generator writes a sequence of root values, each one terminated by a new line.
+     */
+    private final boolean multipleValues;
+
+    private byte[] buffer;
+
+    private int position;
+
+    /**
+     * Scopes of open structures, {@link #SCOPE_OBJECT} or {@link #SCOPE_ARRAY}.
+     */
+    private byte[] scopes = new byte[16];
+
+    private int depth;
+
+    /**
+     * Depth of the outermost scope, 1 for a generator of array elements.
+     */
+    private final int baseDepth;
+
+    /**
+     * No value has been written yet in current structure.
+     */
+    private boolean first = true;
+
+    /**
+     * Key has been written in current object, value is expected.
+     */
+    private boolean keyWritten;
+
+    private boolean rootWritten;
+
+    /**
+     * Creates a generator with a pooled buffer.
+     *
+     * @param stream stream to write to
+     * @param prettyPrinting if output should be formatted
+     * @param bufferPool pool to take buffer from, buffer is recycled on close
+     */
+    public Utf8JsonGenerator(OutputStream stream, boolean prettyPrinting, BufferPool bufferPool) {
+        this(stream, prettyPrinting, bufferPool, false);
+    }
+
+    /**
+     * Creates a generator with a pooled buffer.
+     * <p>
+     * If multiple values are allowed, any number of root values may be written, each one is terminated by a new line.
+     * Output of non formatting generator is newline delimited JSON then.
+     * </p>
+     *
+     * @param stream stream to write to
+     * @param prettyPrinting if output should be formatted
+     * @param bufferPool pool to take buffer from, buffer is recycled on close
+     * @param multipleValues allow a sequence of root values
+     */
+    public Utf8JsonGenerator(OutputStream stream, boolean prettyPrinting, BufferPool bufferPool, boolean multipleValues) {
+        this.stream = stream;
+        this.prettyPrinting = prettyPrinting;
+        this.bufferPool = bufferPool;
+        this.multipleValues = multipleValues;
+        this.buffer = bufferPool.take();
+        this.baseDepth = 0;
+    }
+
+    private Utf8JsonGenerator(OutputStream stream, byte[] buffer) {
+        this.stream = stream;
+        this.prettyPrinting = false;
+        this.bufferPool = null;
+        this.multipleValues = false;
+        this.buffer = buffer;
+        this.baseDepth = 0;
+    }
+
+    /**
+     * Generator of array elements, which starts and ends inside an array without writing its brackets.
+     */
+    private Utf8JsonGenerator(SegmentOutputStream segment, BufferPool bufferPool) {
+        this.stream = segment;
+        this.prettyPrinting = false;
+        this.bufferPool = bufferPool;
+        this.multipleValues = false;
+        this.buffer = bufferPool.take();
+        this.baseDepth = 1;
+        this.scopes[0] = SCOPE_ARRAY;
+        this.depth = 1;
+        this.rootWritten = true;
+    }
+
+    /**
+     * Encodes a property name into escaped UTF-8 bytes followed by colon, <code>"name":</code>.
+     *
+     * @param name property name
+     * @return encoded key to be written with {@link #writeKey(byte[])}
+     */
+    public static byte[] encodeKey(String name) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(name.length() + 3);
+        final Utf8JsonGenerator generator = new Utf8JsonGenerator(out, new byte[64]);
+        generator.writeEscapedString(name);
+        generator.writeByte(':');
+        generator.flushBuffer();
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes a key pre-encoded with {@link #encodeKey(String)}.
+     *
+     * @param encodedKey escaped UTF-8 bytes of the key followed by colon
+     * @return this generator
+     */
+    public JsonGenerator writeKey(byte[] encodedKey) {
+        writeKeyPrefix();
+        writeBytes(encodedKey);
+        writeKeySuffix();
+        return this;
+    }
+
+    /**
+     * Checks if elements generated by {@link #createElementsGenerator()} can be written into current array.
+     *
+     * @return true if an array is open and output is not formatted
+     */
+    public boolean canWriteElements() {
+        return !prettyPrinting && bufferPool != null && depth > 0 && scopes[depth - 1] == SCOPE_ARRAY && !keyWritten;
+    }
+
+    /**
+     * Creates a generator of comma separated array elements, which are collected in pooled buffers
+     * and then written into current array of this generator by {@link #writeElements(Utf8JsonGenerator)}.
+     * Elements generator may be used on another thread.
+     *
+     * @return generator of array elements
+     */
+    public Utf8JsonGenerator createElementsGenerator() {
+        return new Utf8JsonGenerator(new SegmentOutputStream(bufferPool), bufferPool);
+    }
+
+    /**
+     * Closes the elements generator and writes its output into current array.
+     *
+     * @param elements generator created by {@link #createElementsGenerator()}
+     * @return this generator
+     */
+    public JsonGenerator writeElements(Utf8JsonGenerator elements) {
+        if (!canWriteElements()) {
+            throw new JsonGenerationException(Messages.getMessage(MessageKeys.GENERATOR_ILLEGAL_METHOD, "writeElements()"));
+        }
+        elements.close();
+        final SegmentOutputStream segment = (SegmentOutputStream) elements.stream;
+        if (!segment.isEmpty()) {
+            writeValuePrefix();
+            segment.writeTo(this);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        writeKeyPrefix();
+        writeEscapedString(name);
+        writeByte(':');
+        writeKeySuffix();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        writeValuePrefix();
+        writeByte('{');
+        pushScope(SCOPE_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        writeKey(name);
+        return writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        writeValuePrefix();
+        writeByte('[');
+        pushScope(SCOPE_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        writeKey(name);
+        return writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        if (depth == baseDepth || keyWritten) {
+            throw new JsonGenerationException(Messages.getMessage(MessageKeys.GENERATOR_ILLEGAL_METHOD, "writeEnd()"));
+        }
+        depth--;
+        if (prettyPrinting) {
+            writeNewLine(depth);
+        }
+        writeByte(scopes[depth] == SCOPE_OBJECT ? '}' : ']');
+        first = false;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        writeKey(name);
+        return writeNull();
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        switch (value.getValueType()) {
+            case ARRAY:
+                writeStartArray();
+                for (JsonValue item : (JsonArray) value) {
+                    write(item);
+                }
+                return writeEnd();
+            case OBJECT:
+                writeStartObject();
+                for (Map.Entry<String, JsonValue> entry : ((JsonObject) value).entrySet()) {
+                    writeKey(entry.getKey());
+                    write(entry.getValue());
+                }
+                return writeEnd();
+            case STRING:
+                return write(((JsonString) value).getString());
+            case NUMBER:
+                return writeNumber(value.toString());
+            case TRUE:
+                return write(true);
+            case FALSE:
+                return write(false);
+            case NULL:
+                return writeNull();
+            default:
+                throw new JsonGenerationException(Messages.getMessage(MessageKeys.GENERATOR_ILLEGAL_METHOD, value.getValueType()));
+        }
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        writeValuePrefix();
+        writeEscapedString(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        return writeNumber(value.toString());
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        return writeNumber(value.toString());
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        writeValuePrefix();
+        writeLongValue(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        writeValuePrefix();
+        writeLongValue(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new NumberFormatException(Messages.getMessage(MessageKeys.GENERATOR_DOUBLE_INFINITE_NAN));
+        }
+        return writeNumber(String.valueOf(value));
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        writeValuePrefix();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        writeValuePrefix();
+        writeBytes(NULL);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (buffer == null) {
+            return;
+        }
+        final boolean incomplete = depth != baseDepth || !rootWritten && !multipleValues;
+        try {
+            if (multipleValues && rootWritten && !incomplete) {
+                writeByte('\n');
+            }
+            flushBuffer();
+            stream.close();
+        } catch (IOException e) {
+            throw new JsonException(Messages.getMessage(MessageKeys.GENERATOR_IO_ERROR), e);
+        } finally {
+            if (bufferPool != null) {
+                bufferPool.recycle(buffer);
+            }
+            buffer = null;
+        }
+        if (incomplete) {
+            throw new JsonGenerationException(Messages.getMessage(MessageKeys.GENERATOR_INCOMPLETE_JSON));
+        }
+    }
+
+    @Override
+    public void flush() {
+        flushBuffer();
+        try {
+            stream.flush();
+        } catch (IOException e) {
+            throw new JsonException(Messages.getMessage(MessageKeys.GENERATOR_IO_ERROR), e);
+        }
+    }
+
+    private JsonGenerator writeNumber(String value) {
+        writeValuePrefix();
+        writeAscii(value);
+        return this;
+    }
+
+    private void writeKeyPrefix() {
+        if (depth == 0 || scopes[depth - 1] != SCOPE_OBJECT || keyWritten) {
+            throw new JsonGenerationException(Messages.getMessage(MessageKeys.GENERATOR_ILLEGAL_METHOD, "writeKey()"));
+        }
+        if (!first) {
+            writeByte(',');
+        }
+        first = false;
+        if (prettyPrinting) {
+            writeNewLine(depth);
+        }
+    }
+
+    private void writeKeySuffix() {
+        if (prettyPrinting) {
+            writeByte(' ');
+        }
+        keyWritten = true;
+    }
+
+    /**
+     * Writes comma and indentation before a value, checks that value is allowed in current context.
+     */
+    private void writeValuePrefix() {
+        if (depth == 0) {
+            if (rootWritten) {
+                if (!multipleValues) {
+                    throw new JsonGenerationException(Messages.getMessage(MessageKeys.GENERATOR_ILLEGAL_METHOD, "write()"));
+                }
+                //terminates previous root value
+                writeByte('\n');
+            }
+            rootWritten = true;
+            if (prettyPrinting) {
+                writeNewLine(0);
+            }
+            return;
+        }
+        if (scopes[depth - 1] == SCOPE_OBJECT) {
+            if (!keyWritten) {
+                throw new JsonGenerationException(Messages.getMessage(MessageKeys.GENERATOR_ILLEGAL_METHOD, "write()"));
+            }
+            keyWritten = false;
+            return;
+        }
+        if (!first) {
+            writeByte(',');
+        }
+        first = false;
+        if (prettyPrinting) {
+            writeNewLine(depth);
+        }
+    }
+
+    private void pushScope(byte scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+        first = true;
+    }
+
+    private void writeNewLine(int indentLevel) {
+        writeByte('\n');
+        for (int i = 0; i < indentLevel; i++) {
+            writeAscii(INDENT);
+        }
+    }
+
+    private void writeLongValue(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        final int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            final byte digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+    }
+
+    private void writeEscapedString(String value) {
+        writeByte('"');
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (buffer.length - position < MAX_CHAR_BYTES) {
+                flushBuffer();
+            }
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buffer[position++] = (byte) c;
+                } else {
+                    writeEscapedChar(c);
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                //unpaired surrogate is replaced, as done by java encoder
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeEscapedChar(char c) {
+        buffer[position++] = '\\';
+        switch (c) {
+            case '"':
+            case '\\':
+                buffer[position++] = (byte) c;
+                break;
+            case '\b':
+                buffer[position++] = 'b';
+                break;
+            case '\f':
+                buffer[position++] = 'f';
+                break;
+            case '\n':
+                buffer[position++] = 'n';
+                break;
+            case '\r':
+                buffer[position++] = 'r';
+                break;
+            case '\t':
+                buffer[position++] = 't';
+                break;
+            default:
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xF];
+        }
+    }
+
+    private void writeAscii(String value) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        if (bytes.length > buffer.length) {
+            flushBuffer();
+            try {
+                stream.write(bytes);
+            } catch (IOException e) {
+                throw new JsonException(Messages.getMessage(MessageKeys.GENERATOR_IO_ERROR), e);
+            }
+            return;
+        }
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Writes bytes of already generated output.
+     */
+    void writeRaw(byte[] bytes, int length) {
+        if (buffer.length - position < length) {
+            flushBuffer();
+            if (length > buffer.length) {
+                try {
+                    stream.write(bytes, 0, length);
+                } catch (IOException e) {
+                    throw new JsonException(Messages.getMessage(MessageKeys.GENERATOR_IO_ERROR), e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, length);
+        position += length;
+    }
+
+    private void writeByte(char b) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    /**
+     * Flushes the buffer if there is less than required space left.
+     * Required length must not exceed buffer size.
+     */
+    private void ensureCapacity(int length) {
+        if (buffer.length - position < length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() {
+        if (position == 0) {
+            return;
+        }
+        try {
+            stream.write(buffer, 0, position);
+            position = 0;
+        } catch (IOException e) {
+            throw new JsonException(Messages.getMessage(MessageKeys.GENERATOR_IO_ERROR), e);
+        }
+    }
+}
@@ -0,0 +1,915 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.stream;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link JsonParser} reading UTF-8 encoded JSON directly from bytes.
+ * <p>
+ * Input is either a byte array, which is parsed in place, or an {@link InputStream} read into a pooled buffer.
+ * Strings are decoded only when requested. Key names found in {@link KeyDictionary} are returned
+ * as dictionary instances without decoding. Integral numbers are accumulated while scanning,
+ * so {@link #getInt()} and {@link #getLong()} don't create intermediate objects.
+ * </p>
+ * Not thread safe.
+ */
+public class Utf8JsonParser implements JsonParser {
+
+    private static final byte SCOPE_OBJECT = 1;
+
+    private static final byte SCOPE_ARRAY = 2;
+
+    /**
+     * Maximum number of decimal digits, which always fit into long.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Exponent value, above which following exponent digits are ignored, result is infinity or zero anyway.
+     */
+    private static final int MAX_EXPONENT = 100000;
+
+    /**
+     * Largest mantissa, which is converted to double exactly.
+     */
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+
+    /**
+     * Powers of ten, which are represented by double exactly.
+     */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream stream;
+
+    private final BufferPool bufferPool;
+
+    private final JsonProvider jsonProvider;
+
+    private final KeyDictionary keyDictionary;
+
+    /**
+     * Input is a sequence of whitespace separated root values, such as newline delimited JSON.
+     */
+    private final boolean multipleValues;
+
+    private byte[] buffer;
+
+    /**
+     * Buffer has been taken from the pool and is returned on close.
+     */
+    private boolean pooled;
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * Offset of the first buffer byte in the whole input.
+     */
+    private long bufferOffset;
+
+    /**
+     * Start of a token being read, bytes from this position are kept in the buffer when it is refilled.
+     * Negative if no token is being read.
+     */
+    private int tokenStart = -1;
+
+    private long lineNumber = 1;
+
+    private long lineStart;
+
+    /**
+     * Scopes of open structures, {@link #SCOPE_OBJECT} or {@link #SCOPE_ARRAY}.
+     */
+    private byte[] scopes = new byte[16];
+
+    private int depth;
+
+    private Event currentEvent;
+
+    private int valueStart;
+
+    private int valueEnd;
+
+    /**
+     * Current string contains escape sequences.
+     */
+    private boolean escaped;
+
+    private String stringValue;
+
+    private boolean negative;
+
+    /**
+     * Current number has no fraction and no exponent.
+     */
+    private boolean integral;
+
+    /**
+     * Current number is integral and its value is in {@link #longValue}.
+     */
+    private boolean longExact;
+
+    private long longValue;
+
+    /**
+     * Significant digits of current number without sign, value is mantissa * 10^decimalExponent.
+     */
+    private long mantissa;
+
+    private int decimalExponent;
+
+    /**
+     * No non zero digit is missing in {@link #mantissa}.
+     */
+    private boolean mantissaExact;
+
+    private BigDecimal bigDecimalValue;
+
+    /**
+     * Creates a parser reading a stream into a pooled buffer.
+     *
+     * @param stream stream to read from
+     * @param bufferPool pool to take buffer from, buffer is recycled on close
+     * @param jsonProvider provider used to build {@link JsonValue} instances
+     * @param keyDictionary dictionary of known key names, may be null
+     */
+    public Utf8JsonParser(InputStream stream, BufferPool bufferPool, JsonProvider jsonProvider, KeyDictionary keyDictionary) {
+        this(stream, bufferPool, jsonProvider, keyDictionary, false);
+    }
+
+    /**
+     * Creates a parser reading a stream into a pooled buffer.
+     * <p>
+     * If multiple values are allowed, root value may be followed by more whitespace separated root values,
+     * {@link #hasNext()} returns true until the whole input is read.
+     * </p>
+     *
+     * @param stream stream to read from
+     * @param bufferPool pool to take buffer from, buffer is recycled on close
+     * @param jsonProvider provider used to build {@link JsonValue} instances
+     * @param keyDictionary dictionary of known key names, may be null
+     * @param multipleValues allow a sequence of root values
+     */
+    public Utf8JsonParser(InputStream stream, BufferPool bufferPool, JsonProvider jsonProvider, KeyDictionary keyDictionary, boolean multipleValues) {
+        this.stream = stream;
+        this.bufferPool = bufferPool;
+        this.jsonProvider = jsonProvider;
+        this.keyDictionary = keyDictionary;
+        this.multipleValues = multipleValues;
+        this.buffer = bufferPool.take();
+        this.pooled = true;
+    }
+
+    /**
+     * Creates a parser over a byte array. Array is not copied and must not be changed while parsing.
+     *
+     * @param bytes bytes to parse
+     * @param offset offset of the JSON document in the array
+     * @param length length of the JSON document
+     * @param jsonProvider provider used to build {@link JsonValue} instances
+     * @param keyDictionary dictionary of known key names, may be null
+     */
+    public Utf8JsonParser(byte[] bytes, int offset, int length, JsonProvider jsonProvider, KeyDictionary keyDictionary) {
+        this.stream = null;
+        this.bufferPool = null;
+        this.jsonProvider = jsonProvider;
+        this.keyDictionary = keyDictionary;
+        this.multipleValues = false;
+        this.buffer = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+        this.bufferOffset = -offset;
+        this.lineStart = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (depth > 0 || currentEvent == null && !multipleValues) {
+            return true;
+        }
+        if (currentEvent == null) {
+            //sequence of values may be empty
+            skipByteOrderMark();
+        }
+        //keep root value readable
+        tokenStart = currentEvent == Event.VALUE_STRING || currentEvent == Event.VALUE_NUMBER ? valueStart : -1;
+        final int c = skipWhitespace();
+        tokenStart = -1;
+        if (c == -1) {
+            return false;
+        }
+        if (multipleValues) {
+            //next root value, read again by next()
+            position--;
+            return true;
+        }
+        throw unexpected(c);
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        stringValue = null;
+        bigDecimalValue = null;
+        final Event previous = currentEvent;
+        if (previous == null) {
+            skipByteOrderMark();
+            return currentEvent = readValue(skipWhitespace());
+        }
+        if (depth == 0) {
+            //next one of multiple root values
+            return currentEvent = readValue(skipWhitespace());
+        }
+        int c = skipWhitespace();
+        if (previous == Event.KEY_NAME) {
+            if (c != ':') {
+                throw unexpected(c);
+            }
+            return currentEvent = readValue(skipWhitespace());
+        }
+        final boolean object = scopes[depth - 1] == SCOPE_OBJECT;
+        if (c == (object ? '}' : ']')) {
+            depth--;
+            return currentEvent = object ? Event.END_OBJECT : Event.END_ARRAY;
+        }
+        if (previous != Event.START_OBJECT && previous != Event.START_ARRAY) {
+            if (c != ',') {
+                throw unexpected(c);
+            }
+            c = skipWhitespace();
+        }
+        return currentEvent = object ? readKey(c) : readValue(c);
+    }
+
+    @Override
+    public String getString() {
+        if (currentEvent != Event.KEY_NAME && currentEvent != Event.VALUE_STRING && currentEvent != Event.VALUE_NUMBER) {
+            throw illegalMethod("getString");
+        }
+        if (stringValue == null) {
+            stringValue = escaped ? decodeEscaped() : new String(buffer, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+        }
+        return stringValue;
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        checkNumber("isIntegralNumber");
+        return integral || getBigDecimal().scale() == 0;
+    }
+
+    @Override
+    public int getInt() {
+        checkNumber("getInt");
+        return longExact ? (int) longValue : getBigDecimal().intValue();
+    }
+
+    @Override
+    public long getLong() {
+        checkNumber("getLong");
+        return longExact ? longValue : getBigDecimal().longValue();
+    }
+
+    /**
+     * Checks if current number has no fraction and no exponent, and if its value is returned by {@link #getLong()} exactly.
+     * Numbers with more than 18 digits are not considered exact.
+     *
+     * @return true if number is read by {@link #getLong()} without loss
+     */
+    public boolean isExactLong() {
+        checkNumber("isExactLong");
+        return longExact;
+    }
+
+    /**
+     * Reads current number as double, with the same result as {@link Double#parseDouble(String)} of {@link #getString()}.
+     * Numbers with mantissa up to 2^53 and exponent up to 22 are converted without parsing the token.
+     *
+     * @return number value
+     */
+    public double getDouble() {
+        checkNumber("getDouble");
+        if (mantissaExact && mantissa <= MAX_EXACT_DOUBLE_MANTISSA
+                && decimalExponent >= -EXACT_POWERS_OF_TEN.length + 1 && decimalExponent < EXACT_POWERS_OF_TEN.length) {
+            final double value = decimalExponent < 0
+                    ? mantissa / EXACT_POWERS_OF_TEN[-decimalExponent]
+                    : mantissa * EXACT_POWERS_OF_TEN[decimalExponent];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(getString());
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        checkNumber("getBigDecimal");
+        if (bigDecimalValue == null) {
+            bigDecimalValue = longExact ? BigDecimal.valueOf(longValue) : new BigDecimal(getString());
+        }
+        return bigDecimalValue;
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        return new Location(lineNumber, bufferOffset + position - lineStart + 1, bufferOffset + position);
+    }
+
+    @Override
+    public JsonObject getObject() {
+        if (currentEvent != Event.START_OBJECT) {
+            throw illegalMethod("getObject");
+        }
+        final JsonObjectBuilder builder = jsonProvider.createObjectBuilder();
+        while (next() != Event.END_OBJECT) {
+            final String key = getString();
+            next();
+            builder.add(key, getValue());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        if (currentEvent != Event.START_ARRAY) {
+            throw illegalMethod("getArray");
+        }
+        final JsonArrayBuilder builder = jsonProvider.createArrayBuilder();
+        while (next() != Event.END_ARRAY) {
+            builder.add(getValue());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        if (currentEvent == null) {
+            throw illegalMethod("getValue");
+        }
+        switch (currentEvent) {
+            case START_OBJECT:
+                return getObject();
+            case START_ARRAY:
+                return getArray();
+            case KEY_NAME:
+            case VALUE_STRING:
+                return jsonProvider.createValue(getString());
+            case VALUE_NUMBER:
+                return longExact ? jsonProvider.createValue(longValue) : jsonProvider.createValue(getBigDecimal());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
+            default:
+                throw illegalMethod("getValue");
+        }
+    }
+
+    @Override
+    public Stream<JsonValue> getArrayStream() {
+        if (currentEvent != Event.START_ARRAY) {
+            throw illegalMethod("getArrayStream");
+        }
+        return stream(action -> {
+            if (next() == Event.END_ARRAY) {
+                return false;
+            }
+            action.accept(getValue());
+            return true;
+        });
+    }
+
+    @Override
+    public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+        if (currentEvent != Event.START_OBJECT) {
+            throw illegalMethod("getObjectStream");
+        }
+        return stream(action -> {
+            if (next() == Event.END_OBJECT) {
+                return false;
+            }
+            final String key = getString();
+            next();
+            action.accept(new AbstractMap.SimpleImmutableEntry<String, JsonValue>(key, getValue()));
+            return true;
+        });
+    }
+
+    @Override
+    public Stream<JsonValue> getValueStream() {
+        if (depth > 0) {
+            throw illegalMethod("getValueStream");
+        }
+        return stream(action -> {
+            if (!hasNext()) {
+                return false;
+            }
+            next();
+            action.accept(getValue());
+            return true;
+        });
+    }
+
+    @Override
+    public void skipArray() {
+        skipStructure(SCOPE_ARRAY);
+    }
+
+    @Override
+    public void skipObject() {
+        skipStructure(SCOPE_OBJECT);
+    }
+
+    @Override
+    public void close() {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            if (stream != null) {
+                stream.close();
+            }
+        } catch (IOException e) {
+            throw new JsonException(Messages.getMessage(MessageKeys.PARSER_IO_ERROR), e);
+        } finally {
+            if (pooled) {
+                bufferPool.recycle(buffer);
+            }
+            buffer = null;
+        }
+    }
+
+    private void skipStructure(byte scope) {
+        if (depth == 0 || scopes[depth - 1] != scope) {
+            return;
+        }
+        final int target = depth;
+        while (depth >= target) {
+            next();
+        }
+    }
+
+    private Event readValue(int c) {
+        switch (c) {
+            case '{':
+                pushScope(SCOPE_OBJECT);
+                return Event.START_OBJECT;
+            case '[':
+                pushScope(SCOPE_ARRAY);
+                return Event.START_ARRAY;
+            case '"':
+                readString();
+                return Event.VALUE_STRING;
+            case 't':
+                readLiteral("true");
+                return Event.VALUE_TRUE;
+            case 'f':
+                readLiteral("false");
+                return Event.VALUE_FALSE;
+            case 'n':
+                readLiteral("null");
+                return Event.VALUE_NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readNumber(c);
+                    return Event.VALUE_NUMBER;
+                }
+                throw unexpected(c);
+        }
+    }
+
+    private Event readKey(int c) {
+        if (c != '"') {
+            throw unexpected(c);
+        }
+        readString();
+        if (!escaped && keyDictionary != null) {
+            stringValue = keyDictionary.lookup(buffer, valueStart, valueEnd - valueStart);
+        }
+        return Event.KEY_NAME;
+    }
+
+    private void pushScope(byte scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    private void readLiteral(String literal) {
+        for (int i = 1; i < literal.length(); i++) {
+            final int c = read();
+            if (c != literal.charAt(i)) {
+                throw unexpected(c);
+            }
+        }
+    }
+
+    /**
+     * Reads a string after opening quote. Escape sequences are validated, but decoded only on {@link #getString()}.
+     */
+    private void readString() {
+        tokenStart = position;
+        escaped = false;
+        while (true) {
+            int p = position;
+            final int end = limit;
+            final byte[] buf = buffer;
+            while (p < end) {
+                final byte b = buf[p];
+                if (b == '"' || b == '\\' || (b >= 0 && b < 0x20)) {
+                    break;
+                }
+                p++;
+            }
+            position = p;
+            final int c = read();
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                escaped = true;
+                readEscape();
+            } else if (c == -1) {
+                throw unexpected(c);
+            } else if (c < 0x20) {
+                position--;
+                throw unexpectedChar(c);
+            }
+        }
+        valueStart = tokenStart;
+        valueEnd = position - 1;
+        tokenStart = -1;
+    }
+
+    private void readEscape() {
+        final int c = read();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return;
+            case 'u':
+                for (int i = 0; i < 4; i++) {
+                    final int h = read();
+                    if (hexValue(h) < 0) {
+                        throw unexpected(h);
+                    }
+                }
+                return;
+            default:
+                throw unexpected(c);
+        }
+    }
+
+    private String decodeEscaped() {
+        final StringBuilder builder = new StringBuilder(valueEnd - valueStart);
+        int runStart = valueStart;
+        int i = valueStart;
+        while (i < valueEnd) {
+            if (buffer[i] != '\\') {
+                i++;
+                continue;
+            }
+            builder.append(new String(buffer, runStart, i - runStart, StandardCharsets.UTF_8));
+            final byte escape = buffer[i + 1];
+            i += 2;
+            switch (escape) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append((char) (hexValue(buffer[i]) << 12 | hexValue(buffer[i + 1]) << 8
+                            | hexValue(buffer[i + 2]) << 4 | hexValue(buffer[i + 3])));
+                    i += 4;
+                    break;
+                default:
+                    builder.append((char) escape);
+                    break;
+            }
+            runStart = i;
+        }
+        builder.append(new String(buffer, runStart, valueEnd - runStart, StandardCharsets.UTF_8));
+        return builder.toString();
+    }
+
+    private static int hexValue(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a number starting with given char. Up to {@link #MAX_LONG_DIGITS} significant digits are accumulated
+     * into {@link #mantissa} with decimal exponent, other numbers are parsed from the token on request.
+     */
+    private void readNumber(int first) {
+        tokenStart = position - 1;
+        escaped = false;
+        negative = first == '-';
+        int c = negative ? read() : first;
+        long value = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        if (c == '0') {
+            c = read();
+        } else if (c >= '1' && c <= '9') {
+            do {
+                if (digits < MAX_LONG_DIGITS) {
+                    value = value * 10 + (c - '0');
+                    digits++;
+                } else {
+                    exponent++;
+                    exact &= c == '0';
+                }
+                c = read();
+            } while (c >= '0' && c <= '9');
+        } else {
+            throw unexpected(c);
+        }
+        integral = true;
+        if (c == '.') {
+            integral = false;
+            c = read();
+            if (c < '0' || c > '9') {
+                throw unexpected(c);
+            }
+            do {
+                if (digits < MAX_LONG_DIGITS) {
+                    value = value * 10 + (c - '0');
+                    exponent--;
+                    if (value != 0) {
+                        digits++;
+                    }
+                } else {
+                    exact &= c == '0';
+                }
+                c = read();
+            } while (c >= '0' && c <= '9');
+        }
+        if (c == 'e' || c == 'E') {
+            integral = false;
+            c = read();
+            final boolean negativeExponent = c == '-';
+            if (c == '+' || c == '-') {
+                c = read();
+            }
+            if (c < '0' || c > '9') {
+                throw unexpected(c);
+            }
+            int explicitExponent = 0;
+            do {
+                if (explicitExponent < MAX_EXPONENT) {
+                    explicitExponent = explicitExponent * 10 + (c - '0');
+                }
+                c = read();
+            } while (c >= '0' && c <= '9');
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (c != -1) {
+            position--;
+        }
+        valueStart = tokenStart;
+        valueEnd = position;
+        tokenStart = -1;
+        mantissa = value;
+        decimalExponent = exponent;
+        mantissaExact = exact;
+        longExact = integral && exponent == 0;
+        longValue = negative ? -value : value;
+    }
+
+    private void skipByteOrderMark() {
+        //only at the start of input
+        if (bufferOffset + position == 0 && ensureAvailable(3) && buffer[position] == (byte) 0xEF && buffer[position + 1] == (byte) 0xBB
+                && buffer[position + 2] == (byte) 0xBF) {
+            position += 3;
+            lineStart += 3;
+        }
+    }
+
+    private boolean ensureAvailable(int count) {
+        while (limit - position < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipWhitespace() {
+        while (true) {
+            final int c = read();
+            switch (c) {
+                case '\n':
+                    lineNumber++;
+                    lineStart = bufferOffset + position;
+                    break;
+                case ' ':
+                case '\t':
+                case '\r':
+                    break;
+                default:
+                    return c;
+            }
+        }
+    }
+
+    /**
+     * Reads next byte.
+     *
+     * @return unsigned byte value or -1 at the end of input
+     */
+    private int read() {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Reads more bytes from the stream. Bytes of a token being read are kept, buffer is grown if needed.
+     *
+     * @return false at the end of input
+     */
+    private boolean fill() {
+        if (stream == null) {
+            return false;
+        }
+        final int keep = tokenStart >= 0 ? tokenStart : position;
+        if (keep > 0) {
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            limit -= keep;
+            position -= keep;
+            tokenStart -= keep;
+            valueStart -= keep;
+            valueEnd -= keep;
+            bufferOffset += keep;
+        }
+        if (limit == buffer.length) {
+            final byte[] grown = Arrays.copyOf(buffer, buffer.length * 2);
+            if (pooled) {
+                bufferPool.recycle(buffer);
+                pooled = false;
+            }
+            buffer = grown;
+        }
+        try {
+            int read;
+            do {
+                read = stream.read(buffer, limit, buffer.length - limit);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new JsonException(Messages.getMessage(MessageKeys.PARSER_IO_ERROR), e);
+        }
+    }
+
+    private void checkNumber(String method) {
+        if (currentEvent != Event.VALUE_NUMBER) {
+            throw illegalMethod(method);
+        }
+    }
+
+    private IllegalStateException illegalMethod(String method) {
+        return new IllegalStateException(Messages.getMessage(MessageKeys.PARSER_ILLEGAL_METHOD, method, currentEvent));
+    }
+
+    private JsonParsingException unexpected(int c) {
+        if (c == -1) {
+            final JsonLocation location = getLocation();
+            return new JsonParsingException(Messages.getMessage(MessageKeys.PARSER_UNEXPECTED_EOF,
+                    String.valueOf(location.getLineNumber()), String.valueOf(location.getColumnNumber())), location);
+        }
+        position--;
+        return unexpectedChar(c);
+    }
+
+    /**
+     * Creates exception for a char, which has been read and is at position before the current one.
+     */
+    private JsonParsingException unexpectedChar(int c) {
+        final JsonLocation location = getLocation();
+        final String description = c >= 0x20 && c < 0x7F ? String.valueOf((char) c) : String.format("0x%02X", c);
+        return new JsonParsingException(Messages.getMessage(MessageKeys.PARSER_UNEXPECTED_CHAR, description,
+                String.valueOf(location.getLineNumber()), String.valueOf(location.getColumnNumber())), location);
+    }
+
+    private static <T> Stream<T> stream(Advance<T> advance) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                return advance.tryAdvance(action);
+            }
+        }, false);
+    }
+
+    @FunctionalInterface
+    private interface Advance<T> {
+        boolean tryAdvance(Consumer<? super T> action);
+    }
+
+    private static final class Location implements JsonLocation {
+
+        private final long lineNumber;
+
+        private final long columnNumber;
+
+        private final long streamOffset;
+
+        private Location(long lineNumber, long columnNumber, long streamOffset) {
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+            this.streamOffset = streamOffset;
+        }
+
+        @Override
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        @Override
+        public long getColumnNumber() {
+            return columnNumber;
+        }
+
+        @Override
+        public long getStreamOffset() {
+            return streamOffset;
+        }
+
+        @Override
+        public String toString() {
+            return "(line no=" + lineNumber + ", column no=" + columnNumber + ", offset=" + streamOffset + ")";
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.Test;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests lazy reading of top level JSON array elements with {@link YassonJsonb#fromJsonStream(InputStream, Class)}.
+ */
+public class ArrayStreamTest {
+
+    private final YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create();
+
+    @Test
+    public void testObjects() {
+        final InputStream stream = toStream("[{\"value\":\"first\"}, {\"value\":\"second\"}, null, {\"value\":\"third\"}]");
+        final List<String> values = jsonb.fromJsonStream(stream, SimpleTest.StringWrapper.class)
+                .map(wrapper -> wrapper == null ? null : wrapper.getValue())
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("first", "second", null, "third"), values);
+    }
+
+    @Test
+    public void testValuesAndArrays() {
+        final Type listType = new TestTypeToken<List<Integer>>(){}.getType();
+        final List<List<Integer>> lists = jsonb.<List<Integer>>fromJsonStream(new StringReader("[[1, 2], [], [3]]"), listType)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), new ArrayList<>(), Arrays.asList(3)), lists);
+        assertEquals(Arrays.asList(1L, 2L, 3L), jsonb.fromJsonStream(toStream("[1, 2, 3]"), Long.class).collect(Collectors.toList()));
+        assertEquals(0, jsonb.fromJsonStream(toStream("[]"), Map.class).count());
+    }
+
+    @Test
+    public void testElementsReadLazily() {
+        //the input ends in the middle of third element
+        final InputStream stream = new SequenceInputStream(toStream("[{\"value\":\"first\"}, {\"value\":\"second\"}, {\"val"),
+                new InputStream() {
+                    @Override
+                    public int read() {
+                        throw new IllegalStateException("Input read beyond second element");
+                    }
+                });
+        final Iterator<SimpleTest.StringWrapper> iterator = jsonb.fromJsonStream(stream, SimpleTest.StringWrapper.class).iterator();
+        assertEquals("first", iterator.next().getValue());
+        assertEquals("second", iterator.next().getValue());
+    }
+
+    @Test
+    public void testCloseClosesInput() {
+        final boolean[] closed = new boolean[1];
+        final InputStream stream = new ByteArrayInputStream("[\"a\", \"b\"]".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        try (Stream<String> strings = jsonb.fromJsonStream(stream, String.class)) {
+            assertEquals("a", strings.iterator().next());
+            assertFalse(closed[0]);
+        }
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    public void testNullString() {
+        final Iterator<String> iterator = jsonb.fromJsonStream(toStream("[null]"), String.class).iterator();
+        assertTrue(iterator.hasNext());
+        assertNull(iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testRootNotArray() {
+        try {
+            jsonb.fromJsonStream(toStream("{\"value\":\"first\"}"), SimpleTest.StringWrapper.class).count();
+            fail("Exception expected");
+        } catch (JsonbException e) {
+            assertTrue(e.getMessage().contains("START_OBJECT"));
+        }
+    }
+
+    @Test
+    public void testMalformedInput() {
+        for (String json : new String[] {"[1 2]", "[1, }", "[\"a", "[1,"}) {
+            try {
+                jsonb.fromJsonStream(toStream(json), Integer.class).count();
+                fail("Exception expected for " + json);
+            } catch (JsonbException e) {
+                //parser errors are reported as JsonbException
+            }
+        }
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests byte array, {@link ByteBuffer}, channel and file methods of {@link YassonJsonb}.
+ */
+public class ByteInputOutputTest {
+
+    private static final String JSON = "{\"value\":\"příliš žluťoučký 😀\"}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create();
+
+    @Test
+    public void testFromBytes() {
+        final SimpleTest.StringWrapper wrapper = jsonb.fromJson(JSON.getBytes(StandardCharsets.UTF_8), SimpleTest.StringWrapper.class);
+        assertEquals("příliš žluťoučký 😀", wrapper.getValue());
+    }
+
+    @Test
+    public void testFromDirectByteBuffer() {
+        final byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.put((byte) ' ').put(bytes).put((byte) ' ');
+        buffer.flip();
+        buffer.position(1);
+
+        final SimpleTest.StringWrapper wrapper = jsonb.fromJson(buffer, SimpleTest.StringWrapper.class);
+        assertEquals("příliš žluťoučký 😀", wrapper.getValue());
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void testToBytes() {
+        assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_8), jsonb.toJsonBytes(createWrapper()));
+    }
+
+    @Test
+    public void testToByteBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+        buffer.put((byte) ' ');
+        jsonb.toJson(createWrapper(), buffer);
+        buffer.flip();
+        buffer.get();
+        final byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_8), result);
+    }
+
+    @Test(expected = JsonbException.class)
+    public void testToByteBufferOverflow() {
+        jsonb.toJson(createWrapper(), ByteBuffer.allocate(8));
+    }
+
+    @Test
+    public void testToChannel() {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        jsonb.toJson(createWrapper(), Channels.newChannel(stream));
+        assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_8), stream.toByteArray());
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        final Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, "existing content longer than JSON document, which is truncated".getBytes(StandardCharsets.UTF_8));
+        jsonb.toJson(createWrapper(), file);
+        assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+        assertEquals("příliš žluťoučký 😀", jsonb.fromJson(file, SimpleTest.StringWrapper.class).getValue());
+    }
+
+    @Test
+    public void testFileStream() throws IOException {
+        final Path file = temporaryFolder.getRoot().toPath().resolve("array.json");
+        final List<Integer> values = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        jsonb.toJson(values, file);
+        try (Stream<Integer> stream = jsonb.fromJsonStream(file, Integer.class)) {
+            assertEquals(values, stream.collect(Collectors.toList()));
+        }
+    }
+
+    @Test(expected = JsonbException.class)
+    public void testMissingFile() {
+        jsonb.fromJson(temporaryFolder.getRoot().toPath().resolve("missing.json"), String.class);
+    }
+
+    private static SimpleTest.StringWrapper createWrapper() {
+        final SimpleTest.StringWrapper wrapper = new SimpleTest.StringWrapper();
+        wrapper.setValue("příliš žluťoučký 😀");
+        return wrapper;
+    }
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.eclipse.yasson.internal.ChunkPublisher;
+import org.eclipse.yasson.internal.stream.BufferPool;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests serialization into requested chunks with {@link YassonJsonb#toJsonChunks(Object, java.util.concurrent.Executor, java.util.function.Consumer)}.
+ */
+public class ChunkSubscriptionTest {
+
+    private final YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testChunksProducedOnDemand() throws Exception {
+        final List<String> values = IntStream.range(0, 10000).mapToObj(i -> "value " + i).collect(Collectors.toList());
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final List<Integer> chunkSizes = new ArrayList<>();
+        final Semaphore consumed = new Semaphore(0);
+        final ChunkSubscription subscription = jsonb.toJsonChunks(values, executor, chunk -> {
+            chunkSizes.add(chunk.remaining());
+            out.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            consumed.release();
+        });
+
+        subscription.request(2);
+        assertTrue(consumed.tryAcquire(2, 5, TimeUnit.SECONDS));
+        //serialization is suspended without demand
+        assertFalse(consumed.tryAcquire(200, TimeUnit.MILLISECONDS));
+        assertFalse(subscription.getCompletion().isDone());
+
+        subscription.request(Long.MAX_VALUE);
+        subscription.getCompletion().get(5, TimeUnit.SECONDS);
+        assertEquals(jsonb.toJson(values), new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(chunkSizes.size() > 2);
+        for (int i = 0; i < chunkSizes.size() - 1; i++) {
+            assertEquals(BufferPool.BUFFER_SIZE, (int) chunkSizes.get(i));
+        }
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final List<Integer> values = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+        final Semaphore consumed = new Semaphore(0);
+        final ChunkSubscription subscription = jsonb.toJsonChunks(values, executor, chunk -> consumed.release());
+        subscription.request(1);
+        assertTrue(consumed.tryAcquire(5, TimeUnit.SECONDS));
+        subscription.cancel();
+        try {
+            subscription.getCompletion().get(5, TimeUnit.SECONDS);
+            fail("Cancellation expected");
+        } catch (CancellationException e) {
+            assertTrue(subscription.getCompletion().isCancelled());
+        }
+        assertEquals(0, consumed.availablePermits());
+    }
+
+    @Test
+    public void testBufferRecycledOnCancel() throws Exception {
+        final List<byte[]> recycled = new CopyOnWriteArrayList<>();
+        final Semaphore consumed = new Semaphore(0);
+        final ChunkPublisher publisher = new ChunkPublisher(new RecordingBufferPool(recycled), chunk -> consumed.release());
+        final List<Integer> values = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+        executor.execute(() -> publisher.publish(stream -> jsonb.toJson(values, stream)));
+        publisher.request(1);
+        assertTrue(consumed.tryAcquire(5, TimeUnit.SECONDS));
+        publisher.cancel();
+        try {
+            publisher.getCompletion().get(5, TimeUnit.SECONDS);
+            fail("Cancellation expected");
+        } catch (CancellationException e) {
+            assertTrue(publisher.getCompletion().isCancelled());
+        }
+        //executor thread is no longer blocked by the publisher
+        executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+        assertEquals(1, recycled.size());
+    }
+
+    @Test
+    public void testBufferRecycledOnError() throws Exception {
+        final List<byte[]> recycled = new CopyOnWriteArrayList<>();
+        final ChunkPublisher publisher = new ChunkPublisher(new RecordingBufferPool(recycled), chunk -> {});
+        publisher.request(Long.MAX_VALUE);
+        publisher.publish(stream -> {
+            throw new JsonbException("Serialization failed");
+        });
+        assertTrue(publisher.getCompletion().isCompletedExceptionally());
+        assertFalse(publisher.getCompletion().isCancelled());
+        assertEquals(1, recycled.size());
+    }
+
+    @Test
+    public void testConsumerFailure() throws Exception {
+        final List<Integer> values = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+        final IllegalStateException failure = new IllegalStateException("Consumer failed");
+        final ChunkSubscription subscription = jsonb.toJsonChunks(values, executor, chunk -> {
+            throw failure;
+        });
+        subscription.request(1);
+        try {
+            subscription.getCompletion().get(5, TimeUnit.SECONDS);
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+        executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testSerializationError() throws Exception {
+        final List<byte[]> recycled = new CopyOnWriteArrayList<>();
+        final ChunkPublisher publisher = new ChunkPublisher(new RecordingBufferPool(recycled), chunk -> {});
+        publisher.request(1);
+        executor.execute(() -> publisher.publish(stream -> {
+            throw new StackOverflowError();
+        }));
+        try {
+            publisher.getCompletion().get(5, TimeUnit.SECONDS);
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof StackOverflowError);
+        }
+        assertEquals(1, recycled.size());
+    }
+
+    @Test
+    public void testSmallDocument() throws Exception {
+        final List<String> chunks = new ArrayList<>();
+        final ChunkSubscription subscription = jsonb.toJsonChunks(new int[]{1, 2}, executor,
+                chunk -> chunks.add(StandardCharsets.UTF_8.decode(chunk).toString()));
+        subscription.request(1);
+        subscription.getCompletion().get(5, TimeUnit.SECONDS);
+        assertEquals(1, chunks.size());
+        assertEquals("[1,2]", chunks.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveRequest() {
+        jsonb.toJsonChunks("value", executor, chunk -> {}).request(0);
+    }
+
+    private static final class RecordingBufferPool extends BufferPool {
+
+        private final List<byte[]> recycled;
+
+        private RecordingBufferPool(List<byte[]> recycled) {
+            this.recycled = recycled;
+        }
+
+        @Override
+        public void recycle(byte[] buffer) {
+            recycled.add(buffer);
+            super.recycle(buffer);
+        }
+    }
+}
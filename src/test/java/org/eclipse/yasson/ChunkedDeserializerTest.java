@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.Test;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests push style deserialization with {@link YassonJsonb#fromJsonChunks(Class)}
+ * and {@link YassonJsonb#fromJsonArrayChunks(Class, java.util.function.Consumer)}.
+ */
+public class ChunkedDeserializerTest {
+
+    private final YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create();
+
+    @Test
+    public void testValue() throws Exception {
+        final ChunkedDeserializer<SimpleTest.StringWrapper> deserializer = jsonb.fromJsonChunks(SimpleTest.StringWrapper.class);
+        feedByBytes(deserializer, "{\"value\":\"příliš\"}", StandardCharsets.UTF_8);
+        assertFalse(deserializer.getResult().isDone());
+        deserializer.complete();
+        assertEquals("příliš", deserializer.getResult().get().getValue());
+    }
+
+    @Test
+    public void testElementsEmittedWhenComplete() throws Exception {
+        final List<SimpleTest.StringWrapper> elements = new ArrayList<>();
+        final ChunkedDeserializer<Long> deserializer = jsonb.fromJsonArrayChunks(SimpleTest.StringWrapper.class, elements::add);
+        deserializer.feed(utf8("[{\"value\":\"fir"));
+        assertEquals(0, elements.size());
+        deserializer.feed(utf8("st\"}, {\"value\":\"sec"));
+        assertEquals(1, elements.size());
+        assertEquals("first", elements.get(0).getValue());
+        deserializer.feed(utf8("ond\"}, null]"));
+        assertEquals(3, elements.size());
+        assertEquals("second", elements.get(1).getValue());
+        assertNull(elements.get(2));
+        deserializer.complete();
+        assertEquals(Long.valueOf(3), deserializer.getResult().get());
+    }
+
+    @Test
+    public void testStructuralCharsInStrings() throws Exception {
+        final String json = "\uFEFF[\"a,]\\\"}\", \"[{ř}]\" , \"\\\\\",\"\"]";
+        final List<String> elements = new ArrayList<>();
+        final ChunkedDeserializer<Long> deserializer = jsonb.fromJsonArrayChunks(String.class, elements::add);
+        feedByBytes(deserializer, json, StandardCharsets.UTF_8);
+        deserializer.complete();
+        assertEquals(Arrays.asList("a,]\"}", "[{ř}]", "\\", ""), elements);
+        assertEquals(Long.valueOf(4), deserializer.getResult().get());
+    }
+
+    @Test
+    public void testNestedArrays() throws Exception {
+        final Type listType = new TestTypeToken<List<Integer>>(){}.getType();
+        final List<List<Integer>> elements = new ArrayList<>();
+        final ChunkedDeserializer<Long> deserializer = jsonb.<List<Integer>>fromJsonArrayChunks(listType, elements::add);
+        feedByBytes(deserializer, " [[1, 2] , [], [3]] ", StandardCharsets.UTF_8);
+        deserializer.complete();
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), new ArrayList<>(), Arrays.asList(3)), elements);
+
+        final ChunkedDeserializer<Long> empty = jsonb.fromJsonArrayChunks(Map.class, map -> fail("No element expected"));
+        feedByBytes(empty, "[ ]", StandardCharsets.UTF_8);
+        empty.complete();
+        assertEquals(Long.valueOf(0), empty.getResult().get());
+    }
+
+    @Test
+    public void testErrors() {
+        assertFails(jsonb.fromJsonArrayChunks(String.class, string -> {}), "{\"value\":\"a\"}", "START_OBJECT");
+        assertFails(jsonb.fromJsonArrayChunks(String.class, string -> {}), "[\"a\",]");
+        assertFails(jsonb.fromJsonArrayChunks(String.class, string -> {}), "[\"a\"] x", "x");
+        assertFails(jsonb.fromJsonArrayChunks(String.class, string -> {}), "[\"a\"");
+        assertFails(jsonb.fromJsonArrayChunks(String.class, string -> {}), "");
+        assertFails(jsonb.fromJsonChunks(SimpleTest.StringWrapper.class), "{\"value\":");
+    }
+
+    @Test
+    public void testMissingComma() {
+        assertFails(jsonb.fromJsonArrayChunks(Integer.class, value -> {}), "[1 2]", "Element 0");
+        assertFails(jsonb.fromJsonArrayChunks(Integer.class, value -> {}), "[1, 2 3, 4]", "Element 1");
+        assertFails(jsonb.fromJsonArrayChunks(SimpleTest.StringWrapper.class, value -> {}),
+                "[{\"value\":\"a\"} {\"value\":\"b\"}]", "Element 0");
+        assertFails(jsonb.fromJsonArrayChunks(String.class, value -> {}), "[\"a\" \"b\"]", "Element 0");
+        assertFails(jsonb.fromJsonArrayChunks(Integer.class, value -> {}), "[1,,2]");
+        assertFails(jsonb.fromJsonArrayChunks(Integer.class, value -> {}), "[,1]");
+    }
+
+    @Test
+    public void testByteOrderMark() throws Exception {
+        final List<Integer> elements = new ArrayList<>();
+        final ChunkedDeserializer<Long> deserializer = jsonb.fromJsonArrayChunks(Integer.class, elements::add);
+        feedByBytes(deserializer, "\u00EF\u00BB\u00BF[1]", StandardCharsets.ISO_8859_1);
+        deserializer.complete();
+        assertEquals(Arrays.asList(1), elements);
+
+        final ChunkedDeserializer<Long> outOfOrder = jsonb.fromJsonArrayChunks(Integer.class, elements::add);
+        feedByBytes(outOfOrder, "\u00BB\u00EF\u00BF[1]", StandardCharsets.ISO_8859_1);
+        outOfOrder.complete();
+        assertTrue(outOfOrder.getResult().isCompletedExceptionally());
+    }
+
+    @Test
+    public void testInputIgnoredAfterError() {
+        final List<Integer> elements = new ArrayList<>();
+        final ChunkedDeserializer<Long> deserializer = jsonb.fromJsonArrayChunks(Integer.class, elements::add);
+        deserializer.feed(utf8("[1, \"a\", 2"));
+        assertTrue(deserializer.getResult().isCompletedExceptionally());
+        deserializer.feed(utf8(", 3]"));
+        deserializer.complete();
+        assertEquals(Arrays.asList(1), elements);
+    }
+
+    @Test
+    public void testEncoding() throws Exception {
+        final YassonJsonb utf16 = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16"));
+        final List<String> elements = new ArrayList<>();
+        final ChunkedDeserializer<Long> deserializer = utf16.fromJsonArrayChunks(String.class, elements::add);
+        feedByBytes(deserializer, "[\"first\", \"příliš\"]", StandardCharsets.UTF_16);
+        deserializer.complete();
+        assertEquals(Arrays.asList("first", "příliš"), elements);
+        assertEquals(Long.valueOf(2), deserializer.getResult().get());
+    }
+
+    private static void assertFails(ChunkedDeserializer<?> deserializer, String json, String... messageParts) {
+        feedByBytes(deserializer, json, StandardCharsets.UTF_8);
+        deserializer.complete();
+        try {
+            deserializer.getResult().get();
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JsonbException);
+            for (String part : messageParts) {
+                assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains(part));
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void feedByBytes(ChunkedDeserializer<?> deserializer, String json, Charset charset) {
+        final ByteBuffer chunk = ByteBuffer.allocate(1);
+        for (byte b : json.getBytes(charset)) {
+            chunk.clear();
+            chunk.put(b).flip();
+            deserializer.feed(chunk);
+        }
+    }
+
+    private static ByteBuffer utf8(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.eclipse.yasson.internal.JsonLinesParser;
+import org.junit.Test;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests reading and writing of newline delimited JSON with {@link YassonJsonb#fromJsonLines(InputStream, Class)}
+ * and {@link YassonJsonb#toJsonLines(Iterable, java.io.OutputStream)}.
+ */
+public class JsonLinesTest {
+
+    private static final String LINES = "{\"value\":\"first\"}\n{\"value\":\"second\"}\nnull\n{\"value\":\"third\"}\n";
+
+    private final YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create();
+
+    @Test
+    public void testObjects() {
+        assertEquals(Arrays.asList("first", "second", null, "third"), readValues(jsonb, LINES));
+        assertEquals(Arrays.asList("first", "second"), readValues(jsonb, "\n{\"value\":\"first\"}\r\n\n  {\"value\":\"second\"}"));
+        assertEquals(0, jsonb.fromJsonLines(toStream(""), SimpleTest.StringWrapper.class).count());
+    }
+
+    @Test
+    public void testValuesAndArrays() {
+        final Type listType = new TestTypeToken<List<Integer>>(){}.getType();
+        final List<List<Integer>> lists = jsonb.<List<Integer>>fromJsonLines(toStream("[1, 2]\n[]\n[3]\n"), listType)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(), Arrays.asList(3)), lists);
+        assertEquals(Arrays.asList(1L, 2L, 3L), jsonb.fromJsonLines(toStream("1\n2\n3"), Long.class).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("a", null), jsonb.fromJsonLines(toStream("\"a\"\nnull\n"), String.class).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testLinesReadLazily() {
+        //the input ends in the middle of third line
+        final InputStream stream = new SequenceInputStream(toStream("{\"value\":\"first\"}\n{\"value\":\"second\"}\n{\"val"),
+                new InputStream() {
+                    @Override
+                    public int read() {
+                        throw new IllegalStateException("Input read beyond second line");
+                    }
+                });
+        final Iterator<SimpleTest.StringWrapper> iterator = jsonb.fromJsonLines(stream, SimpleTest.StringWrapper.class).iterator();
+        assertEquals("first", iterator.next().getValue());
+        assertEquals("second", iterator.next().getValue());
+    }
+
+    @Test
+    public void testWrite() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonb.toJsonLines(Arrays.asList(wrapper("first"), wrapper("second"), null, wrapper("third")), out);
+        assertEquals(LINES, new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        final ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
+        jsonb.toJsonLines(Stream.of(1, 2, 3), streamOut);
+        assertEquals("1\n2\n3\n", new String(streamOut.toByteArray(), StandardCharsets.UTF_8));
+
+        final ByteArrayOutputStream emptyOut = new ByteArrayOutputStream();
+        jsonb.toJsonLines(Stream.empty(), emptyOut);
+        assertEquals(0, emptyOut.size());
+    }
+
+    @Test
+    public void testWriteIgnoresFormatting() {
+        final YassonJsonb formatting = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withFormatting(true));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        formatting.toJsonLines(Arrays.asList(wrapper("first"), wrapper("second")), out);
+        assertEquals("{\"value\":\"first\"}\n{\"value\":\"second\"}\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testJsonpProvider() {
+        final YassonJsonb jsonpJsonb = (YassonJsonb) JsonbBuilder.newBuilder().withProvider(JsonProvider.provider()).build();
+        assertEquals(Arrays.asList("first", "second", null, "third"), readValues(jsonpJsonb, "\n" + LINES + "\n"));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonpJsonb.toJsonLines(Arrays.asList(wrapper("first"), wrapper("second"), null, wrapper("third")), out);
+        assertEquals(LINES, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLinesParserLocation() {
+        final JsonLinesParser parser = new JsonLinesParser(new BufferedReader(new StringReader("\n1\n\n[true]")),
+                JsonProvider.provider().createParserFactory(null));
+        assertEquals(1, parser.getLocation().getLineNumber());
+        assertEquals(1, parser.getLocation().getColumnNumber());
+        try {
+            parser.getString();
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            //no line has been read
+        }
+        assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+        assertEquals(1, parser.getInt());
+        assertEquals(2, parser.getLocation().getLineNumber());
+        assertEquals(JsonParser.Event.START_ARRAY, parser.next());
+        assertEquals(4, parser.getLocation().getLineNumber());
+        parser.close();
+    }
+
+    @Test
+    public void testEncoding() {
+        final YassonJsonb utf16 = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16"));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        utf16.toJsonLines(Arrays.asList(wrapper("příliš"), wrapper("second")), out);
+        final List<String> values = utf16.fromJsonLines(new ByteArrayInputStream(out.toByteArray()), SimpleTest.StringWrapper.class)
+                .map(SimpleTest.StringWrapper::getValue)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("příliš", "second"), values);
+    }
+
+    private static List<String> readValues(YassonJsonb jsonb, String lines) {
+        return jsonb.fromJsonLines(toStream(lines), SimpleTest.StringWrapper.class)
+                .map(wrapper -> wrapper == null ? null : wrapper.getValue())
+                .collect(Collectors.toList());
+    }
+
+    private static SimpleTest.StringWrapper wrapper(String value) {
+        final SimpleTest.StringWrapper wrapper = new SimpleTest.StringWrapper();
+        wrapper.setValue(value);
+        return wrapper;
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.Test;
+
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests parallel deserialization of top level arrays with {@link YassonJsonb#parallelFromJson(byte[], Class)}.
+ */
+public class ParallelFromJsonTest {
+
+    private final YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create();
+
+    @Test
+    public void testOrderPreserved() {
+        final List<SimpleTest.StringWrapper> values = IntStream.range(0, 10000).mapToObj(i -> {
+            final SimpleTest.StringWrapper wrapper = new SimpleTest.StringWrapper();
+            wrapper.setValue("value, [" + i + "] {\"}");
+            return wrapper;
+        }).collect(Collectors.toList());
+        final List<SimpleTest.StringWrapper> result = jsonb.parallelFromJson(jsonb.toJsonBytes(values), SimpleTest.StringWrapper.class);
+        assertEquals(values.size(), result.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i).getValue(), result.get(i).getValue());
+        }
+    }
+
+    @Test
+    public void testNestedArrays() {
+        final Type listType = new TestTypeToken<List<Integer>>(){}.getType();
+        final List<List<Integer>> result = jsonb.parallelFromJson(utf8("\uFEFF [[1, 2] , [], null, [3]] "), listType);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), new ArrayList<>(), null, Arrays.asList(3)), result);
+        assertEquals(0, jsonb.parallelFromJson(utf8("[ ]"), String.class).size());
+    }
+
+    @Test
+    public void testDirectBuffer() {
+        final byte[] bytes = utf8("[\"first\", \"příliš\"]");
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.put((byte) 'x').put(bytes).put((byte) 'x').flip();
+        buffer.position(1).limit(bytes.length + 1);
+        assertEquals(Arrays.asList("first", "příliš"), jsonb.parallelFromJson(buffer, String.class));
+    }
+
+    @Test
+    public void testEncoding() {
+        final YassonJsonb utf16 = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16"));
+        assertEquals(Arrays.asList("first", "příliš"),
+                utf16.parallelFromJson("[\"first\", \"příliš\"]".getBytes(StandardCharsets.UTF_16), String.class));
+    }
+
+    @Test
+    public void testErrors() {
+        assertFails("{\"value\":\"a\"}", "START_OBJECT");
+        assertFails("1", "VALUE_NUMBER");
+        assertFails("x", "x");
+        assertFails("[\"a\",]");
+        assertFails("[\"a\"] x", "x");
+        assertFails("[\"a\"");
+        assertFails("");
+        assertFails("[1, \"a\"]");
+    }
+
+    @Test
+    public void testMissingComma() {
+        assertFails("[1 true]", "Element 0");
+        assertFails("[1, 2 3, 4]", "Element 1");
+        assertFails("[1,,2]");
+        try {
+            jsonb.parallelFromJson(utf8("[{\"value\":\"a\"}\n{\"value\":\"b\"},{\"value\":\"c\"}]"), SimpleTest.StringWrapper.class);
+            fail("Exception expected");
+        } catch (JsonbException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Element 0"));
+        }
+    }
+
+    @Test
+    public void testByteOrderMark() {
+        assertEquals(Arrays.asList(1), jsonb.parallelFromJson(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', '1', ']'}, Integer.class));
+        try {
+            jsonb.parallelFromJson(new byte[] {(byte) 0xBB, (byte) 0xEF, (byte) 0xBF, '[', '1', ']'}, Integer.class);
+            fail("Exception expected");
+        } catch (JsonbException e) {
+            //bytes of byte order mark out of order
+        }
+        try {
+            jsonb.parallelFromJson(new byte[] {' ', (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '[', '1', ']'}, Integer.class);
+            fail("Exception expected");
+        } catch (JsonbException e) {
+            //byte order mark not at the start
+        }
+    }
+
+    private void assertFails(String json, String... messageParts) {
+        try {
+            jsonb.parallelFromJson(utf8(json), Integer.class);
+            fail("Exception expected");
+        } catch (JsonbException e) {
+            for (String part : messageParts) {
+                assertTrue(e.getMessage(), e.getMessage().contains(part));
+            }
+        }
+    }
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+
+public class PropertyAccessorStrategyTest {
+
+    public static class AccessorPojo {
+        private int intValue;
+        private String stringValue;
+        public Long publicField;
+        private boolean setterCalled;
+
+        public int getIntValue() {
+            return intValue;
+        }
+
+        public void setIntValue(int intValue) {
+            setterCalled = true;
+            this.intValue = intValue;
+        }
+
+        public String getStringValue() {
+            return stringValue;
+        }
+
+        public AccessorPojo setStringValue(String stringValue) {
+            this.stringValue = stringValue;
+            return this;
+        }
+    }
+
+    public static class FieldPojo {
+        private String value;
+    }
+
+    public static class ThrowingPojo {
+        public String getValue() {
+            return "value";
+        }
+
+        public void setValue(String value) {
+            throw new IllegalStateException("setter failed");
+        }
+    }
+
+    @Test
+    public void testRoundTripWithAllStrategies() {
+        for (PropertyAccessorStrategy strategy : PropertyAccessorStrategy.values()) {
+            Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, strategy));
+            AccessorPojo pojo = new AccessorPojo();
+            pojo.intValue = 10;
+            pojo.stringValue = "str";
+            pojo.publicField = 20L;
+
+            String expected = "{\"intValue\":10,\"publicField\":20,\"stringValue\":\"str\"}";
+            Assert.assertEquals(strategy.name(), expected, jsonb.toJson(pojo));
+
+            AccessorPojo result = jsonb.fromJson(expected, AccessorPojo.class);
+            Assert.assertEquals(10, result.intValue);
+            Assert.assertTrue(result.setterCalled);
+            Assert.assertEquals(Long.valueOf(20L), result.publicField);
+            Assert.assertEquals("str", result.stringValue);
+        }
+    }
+
+    @Test
+    public void testLambdaFallsBackToReflection() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, PropertyAccessorStrategy.LAMBDA.name())
+                .withPropertyVisibilityStrategy(new FieldAccessStrategy()));
+        FieldPojo pojo = new FieldPojo();
+        pojo.value = "str";
+
+        Assert.assertEquals("{\"value\":\"str\"}", jsonb.toJson(pojo));
+        Assert.assertEquals("str", jsonb.fromJson("{\"value\":\"str\"}", FieldPojo.class).value);
+    }
+
+    @Test
+    public void testLambdaSetterException() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig()
+                .setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, PropertyAccessorStrategy.LAMBDA));
+        try {
+            jsonb.fromJson("{\"value\":\"str\"}", ThrowingPojo.class);
+            Assert.fail("Exception should be thrown");
+        } catch (JsonbException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            Assert.assertTrue(cause instanceof IllegalStateException);
+        }
+    }
+
+    @Test(expected = JsonbException.class)
+    public void testInvalidStrategy() {
+        JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, "UNKNOWN"));
+    }
+}
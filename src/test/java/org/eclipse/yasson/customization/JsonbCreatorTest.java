@@ -221,6 +221,54 @@ public class JsonbCreatorTest {
 
     }
 
+    @Test
+    public void testCreatorWithInheritedProperties() {
+        final CreatorSubclass result = JsonbBuilder.create()
+                .fromJson("{\"childValue\":\"child\",\"parentValue\":\"parent\",\"overridden\":\"over\",\"id\":5}", CreatorSubclass.class);
+        assertEquals(5, result.id);
+        assertEquals("parent", result.parentValue);
+        assertEquals("child", result.childValue);
+        assertEquals("over", result.getOverridden());
+    }
+
+    @Test
+    public void testCreatorNullParameter() {
+        final CreatorConstructorPojo result = JsonbBuilder.create()
+                .fromJson("{\"str1\":null,\"str2\":\"def\"}", CreatorConstructorPojo.class);
+        assertNull(result.str1);
+        assertEquals("def", result.str2);
+    }
+
+    public static class CreatorParent {
+        public String parentValue;
+
+        private String overridden;
+
+        public String getOverridden() {
+            return overridden;
+        }
+
+        public void setOverridden(String overridden) {
+            this.overridden = overridden;
+        }
+    }
+
+    public static final class CreatorSubclass extends CreatorParent {
+        private final int id;
+
+        public String childValue;
+
+        @JsonbCreator
+        public CreatorSubclass(@JsonbProperty("id") int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void setOverridden(String overridden) {
+            super.setOverridden(overridden);
+        }
+    }
+
     public static final class FactoryNumberParamMergedWithProperty {
 
         @JsonbNumberFormat(value = "000.000", locale = "en-us")
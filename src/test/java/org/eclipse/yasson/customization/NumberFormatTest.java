@@ -22,7 +22,12 @@ import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.json.bind.JsonbConfig;
 
 import static org.junit.Assert.assertEquals;
@@ -98,4 +103,28 @@ public class NumberFormatTest {
         assertEquals(Double.valueOf(.005d), pojo.getDoubleSetterFormatted());
         assertEquals(Double.valueOf(.6d), pojo.getDoubleSetterAndPropertyFormatter());
     }
+
+    @Test
+    public void testConcurrentFormatting() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<NumberFormatPojo>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final int value = i;
+                results.add(executor.submit(() -> {
+                    NumberFormatPojo pojo = new NumberFormatPojo();
+                    pojo.aLong = (long) value;
+                    pojo.aDouble = value / 4d;
+                    return jsonb.fromJson(jsonb.toJson(pojo), NumberFormatPojo.class);
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                NumberFormatPojo result = results.get(i).get();
+                assertEquals(Long.valueOf(i), result.aLong);
+                assertEquals(Double.valueOf(i / 4d), result.aDouble);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
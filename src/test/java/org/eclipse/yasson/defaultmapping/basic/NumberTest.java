@@ -26,6 +26,7 @@ import javax.json.JsonObjectBuilder;
 import javax.json.JsonWriter;
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbException;
 import javax.json.stream.JsonGenerator;
 import java.io.StringWriter;
 import java.math.BigDecimal;
@@ -159,6 +160,61 @@ public class NumberTest {
         Assert.assertEquals(Long.valueOf("-9007199254740992"), deserialized);
     }
 
+    public static class LongProperties {
+        public long primitive;
+        public Long boxed;
+    }
+
+    @Test
+    public void testPrimitiveLongIEEE748() {
+        final LongProperties safe = new LongProperties();
+        safe.primitive = 9007199254740991L;
+        safe.boxed = -9007199254740991L;
+        Assert.assertEquals("{\"boxed\":-9007199254740991,\"primitive\":9007199254740991}", jsonb.toJson(safe));
+
+        final LongProperties unsafe = new LongProperties();
+        unsafe.primitive = 9007199254740992L;
+        unsafe.boxed = 9007199254740992L;
+        String json = jsonb.toJson(unsafe);
+        Assert.assertEquals("{\"boxed\":\"9007199254740992\",\"primitive\":\"9007199254740992\"}", json);
+        LongProperties deserialized = jsonb.fromJson(json, LongProperties.class);
+        Assert.assertEquals(9007199254740992L, deserialized.primitive);
+        Assert.assertEquals(Long.valueOf(9007199254740992L), deserialized.boxed);
+
+        unsafe.primitive = -9007199254740992L;
+        Assert.assertEquals("{\"boxed\":\"9007199254740992\",\"primitive\":\"-9007199254740992\"}", jsonb.toJson(unsafe));
+    }
+
+    @Test
+    public void testNumbersReadFromParser() {
+        Assert.assertEquals(Integer.valueOf(Integer.MIN_VALUE), jsonb.fromJson("-2147483648", Integer.class));
+        Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), jsonb.fromJson("9223372036854775807", Long.class));
+        Assert.assertEquals(Short.valueOf((short) -300), jsonb.fromJson("-300", Short.class));
+        Assert.assertEquals(Byte.valueOf((byte) 127), jsonb.fromJson("127", Byte.class));
+        Assert.assertEquals(Float.valueOf(16777216f), jsonb.fromJson("16777216", Float.class));
+        Assert.assertEquals(Float.valueOf(0.1f), jsonb.fromJson("0.1", Float.class));
+        Assert.assertEquals(Double.valueOf(0.30000000000000004), jsonb.fromJson("0.30000000000000004", Double.class));
+        Assert.assertEquals(Double.valueOf(-1.5e-300), jsonb.fromJson("-1.5e-300", Double.class));
+        Assert.assertEquals(new BigInteger("123456789012345678901234567890"), jsonb.fromJson("123456789012345678901234567890", BigInteger.class));
+        Assert.assertEquals(new BigDecimal("1.50"), jsonb.fromJson("1.50", BigDecimal.class));
+        Assert.assertEquals(new BigDecimal("10"), jsonb.fromJson("10", Number.class));
+    }
+
+    @Test(expected = JsonbException.class)
+    public void testFractionIntoInteger() {
+        jsonb.fromJson("1.5", Integer.class);
+    }
+
+    @Test(expected = JsonbException.class)
+    public void testIntegerOverflow() {
+        jsonb.fromJson("2147483648", Integer.class);
+    }
+
+    @Test(expected = JsonbException.class)
+    public void testByteOverflow() {
+        jsonb.fromJson("128", Byte.class);
+    }
+
     /**
      * Tests that JSON-P RI itself does no big number (out of IEEE 754 quotation).
      * This is why it is now must be done in Yasson to match the JSONB spec.
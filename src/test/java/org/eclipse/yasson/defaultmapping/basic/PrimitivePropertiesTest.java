@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+
+package org.eclipse.yasson.defaultmapping.basic;
+
+import org.eclipse.yasson.PropertyAccessorStrategy;
+import org.eclipse.yasson.YassonProperties;
+import org.eclipse.yasson.defaultmapping.basic.model.PrimitivesModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.JsonbException;
+
+/**
+ * Primitive properties are read and written without boxing.
+ */
+public class PrimitivePropertiesTest {
+
+    private static final String JSON = "{\"booleanField\":true,\"booleanProperty\":true,\"doubleField\":1.5,\"doubleProperty\":2.5,"
+            + "\"formattedInt\":\"1,234.00\",\"intField\":10,\"intProperty\":20,\"longField\":30,\"longProperty\":40}";
+
+    @Test
+    public void testRoundTrip() {
+        for (PropertyAccessorStrategy strategy : PropertyAccessorStrategy.values()) {
+            Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, strategy));
+
+            PrimitivesModel model = new PrimitivesModel();
+            model.intField = 10;
+            model.longField = 30L;
+            model.doubleField = 1.5;
+            model.booleanField = true;
+            model.setIntProperty(20);
+            model.setLongProperty(40L);
+            model.setDoubleProperty(2.5);
+            model.setBooleanProperty(true);
+            model.formattedInt = 1234;
+            Assert.assertEquals(strategy.name(), JSON, jsonb.toJson(model));
+
+            PrimitivesModel result = jsonb.fromJson(JSON, PrimitivesModel.class);
+            Assert.assertEquals(10, result.intField);
+            Assert.assertEquals(30L, result.longField);
+            Assert.assertEquals(1.5, result.doubleField, 0);
+            Assert.assertTrue(result.booleanField);
+            Assert.assertEquals(20, result.getIntProperty());
+            Assert.assertEquals(40L, result.getLongProperty());
+            Assert.assertEquals(2.5, result.getDoubleProperty(), 0);
+            Assert.assertTrue(result.isBooleanProperty());
+            Assert.assertEquals(1234, result.formattedInt);
+        }
+    }
+
+    @Test
+    public void testValuesInStrings() {
+        PrimitivesModel result = JsonbBuilder.create().fromJson("{\"intField\":\"10\",\"doubleProperty\":\"NaN\",\"booleanField\":\"true\"}", PrimitivesModel.class);
+        Assert.assertEquals(10, result.intField);
+        Assert.assertTrue(Double.isNaN(result.getDoubleProperty()));
+        Assert.assertTrue(result.booleanField);
+    }
+
+    @Test(expected = JsonbException.class)
+    public void testInvalidNumber() {
+        JsonbBuilder.create().fromJson("{\"intField\":\"ten\"}", PrimitivesModel.class);
+    }
+}
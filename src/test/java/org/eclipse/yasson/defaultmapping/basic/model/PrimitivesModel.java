@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+
+package org.eclipse.yasson.defaultmapping.basic.model;
+
+import javax.json.bind.annotation.JsonbNumberFormat;
+
+/**
+ * Primitive properties accessed with fields and with getters and setters.
+ */
+public class PrimitivesModel {
+
+    public int intField;
+
+    public long longField;
+
+    public double doubleField;
+
+    public boolean booleanField;
+
+    private int intProperty;
+
+    private long longProperty;
+
+    private double doubleProperty;
+
+    private boolean booleanProperty;
+
+    @JsonbNumberFormat("#,##0.00")
+    public int formattedInt;
+
+    public int getIntProperty() {
+        return intProperty;
+    }
+
+    public void setIntProperty(int intProperty) {
+        this.intProperty = intProperty;
+    }
+
+    public long getLongProperty() {
+        return longProperty;
+    }
+
+    public void setLongProperty(long longProperty) {
+        this.longProperty = longProperty;
+    }
+
+    public double getDoubleProperty() {
+        return doubleProperty;
+    }
+
+    public void setDoubleProperty(double doubleProperty) {
+        this.doubleProperty = doubleProperty;
+    }
+
+    public boolean isBooleanProperty() {
+        return booleanProperty;
+    }
+
+    public void setBooleanProperty(boolean booleanProperty) {
+        this.booleanProperty = booleanProperty;
+    }
+}
@@ -204,6 +204,30 @@ public class ArrayTest {
         assertArrayEquals(doubleArr, jsonb.fromJson("[-128.0, 127.0]", double[].class), 0d);
     }
 
+    @Test
+    public void testLargePrimitiveArrays() {
+        final int size = 1000;
+        int[] intArr = new int[size];
+        long[] longArr = new long[size];
+        double[] doubleArr = new double[size];
+        float[] floatArr = new float[size];
+        short[] shortArr = new short[size];
+        for (int i = 0; i < size; i++) {
+            intArr[i] = i * 1000003;
+            longArr[i] = i * 10000000019L;
+            doubleArr[i] = i / 7d;
+            floatArr[i] = i / 3f;
+            shortArr[i] = (short) (i - size / 2);
+        }
+        assertArrayEquals(intArr, jsonb.fromJson(jsonb.toJson(intArr), int[].class));
+        assertArrayEquals(longArr, jsonb.fromJson(jsonb.toJson(longArr), long[].class));
+        assertArrayEquals(doubleArr, jsonb.fromJson(jsonb.toJson(doubleArr), double[].class), 0d);
+        assertArrayEquals(floatArr, jsonb.fromJson(jsonb.toJson(floatArr), float[].class), 0f);
+        assertArrayEquals(shortArr, jsonb.fromJson(jsonb.toJson(shortArr), short[].class));
+        assertArrayEquals(new int[0], jsonb.fromJson("[]", int[].class));
+        assertArrayEquals(new double[]{Double.NaN, 1.5}, jsonb.fromJson("[\"NaN\", 1.5]", double[].class), 0d);
+    }
+
     public static class KeyValue {
         public String field;
 
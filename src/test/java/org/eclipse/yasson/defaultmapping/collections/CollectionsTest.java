@@ -13,6 +13,7 @@
 package org.eclipse.yasson.defaultmapping.collections;
 
 import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.YassonProperties;
 import org.eclipse.yasson.defaultmapping.generics.model.Circle;
 import org.eclipse.yasson.defaultmapping.generics.model.ScalarValueWrapper;
 import org.junit.Assert;
@@ -24,6 +25,8 @@ import javax.json.bind.JsonbConfig;
 import javax.json.bind.JsonbBuilder;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -273,4 +276,86 @@ public class CollectionsTest {
         Assert.assertEquals("def", result.get("second"));
     }
 
+    @Test
+    public void testMarshallStream() {
+        final boolean[] closed = new boolean[1];
+        final Stream<String> stream = Stream.of("first", null, "second").onClose(() -> closed[0] = true);
+        assertEquals("[\"first\",null,\"second\"]", jsonb.toJson(stream));
+        assertTrue(closed[0]);
+        assertEquals("[1,2,3]", jsonb.toJson(IntStream.rangeClosed(1, 3)));
+    }
+
+    @Test
+    public void testMarshallIterators() {
+        assertEquals("[1,2,3]", jsonb.toJson(Arrays.asList(1, 2, 3).iterator()));
+        assertEquals("[\"English\",\"Czech\"]", jsonb.toJson(Arrays.asList(Language.English, Language.Czech).spliterator()));
+    }
+
+    @Test
+    public void testMarshallStreamProperties() {
+        final StreamHolder holder = new StreamHolder();
+        holder.languages = Stream.of(Language.Slovak, Language.Czech);
+        holder.numbers = Arrays.asList(1L, 2L).iterator();
+        assertEquals("{\"languages\":[\"Slovak\",\"Czech\"],\"numbers\":[1,2]}", jsonb.toJson(holder));
+    }
+
+    @Test
+    public void testParallelSerialization() {
+        final Jsonb parallel = JsonbBuilder.create(new JsonbConfig().withNullValues(Boolean.TRUE)
+                .setProperty(YassonProperties.PARALLEL_SERIALIZATION_THRESHOLD, 100));
+        final List<Circle> circles = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            final Circle circle = new Circle();
+            circle.setRadius(i);
+            circle.setArea(i * 0.5);
+            circles.add(i % 100 == 0 ? null : circle);
+        }
+        final Set<Integer> numbers = new TreeSet<>();
+        IntStream.range(0, 1000).forEach(numbers::add);
+        final List<List<Circle>> nested = Arrays.asList(circles, new ArrayList<>(), circles.subList(0, 150));
+
+        assertEquals(jsonb.toJson(circles), parallel.toJson(circles));
+        assertEquals(jsonb.toJson(numbers), parallel.toJson(numbers));
+        assertEquals(jsonb.toJson(circles.toArray()), parallel.toJson(circles.toArray()));
+        assertEquals(jsonb.toJson(nested), parallel.toJson(nested));
+        assertEquals(jsonb.toJson(circles.subList(0, 99)), parallel.toJson(circles.subList(0, 99)));
+
+        final Jsonb formatted = JsonbBuilder.create(new JsonbConfig().withFormatting(true)
+                .setProperty(YassonProperties.PARALLEL_SERIALIZATION_THRESHOLD, 100));
+        assertEquals(JsonbBuilder.create(new JsonbConfig().withFormatting(true)).toJson(circles), formatted.toJson(circles));
+    }
+
+    @Test
+    public void testMarshallIteratorPojo() {
+        final CountdownIterator iterator = new CountdownIterator();
+        iterator.remaining = 2;
+        assertEquals("{\"remaining\":2}", jsonb.toJson(iterator));
+        final IteratorPojoHolder holder = new IteratorPojoHolder();
+        holder.countdown = iterator;
+        assertEquals("{\"countdown\":{\"remaining\":2}}", jsonb.toJson(holder));
+        assertEquals(2, iterator.remaining);
+    }
+
+    public static class CountdownIterator implements Iterator<Integer> {
+        public int remaining;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Integer next() {
+            return remaining--;
+        }
+    }
+
+    public static class IteratorPojoHolder {
+        public CountdownIterator countdown;
+    }
+
+    public static class StreamHolder {
+        public Stream<Language> languages;
+        public Iterator<Long> numbers;
+    }
 }
@@ -14,11 +14,16 @@
 package org.eclipse.yasson.defaultmapping.specific;
 
 import org.eclipse.yasson.defaultmapping.specific.model.Customer;
+import org.eclipse.yasson.defaultmapping.specific.model.ObjectHolder;
+import org.eclipse.yasson.defaultmapping.specific.model.Street;
 import org.eclipse.yasson.internal.JsonBindingBuilder;
 import org.junit.Test;
 
 import javax.json.bind.Jsonb;
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -53,4 +58,26 @@ public class ObjectGraphTest extends CustomerTest {
         assertCustomerValues(customer.getFriends().get("secondFriend"), "Jasons second friend");
     }
 
+    @Test
+    public void testPolymorphicPropertyValues() {
+        List<ObjectHolder> holders = Arrays.asList(
+                new ObjectHolder(new Street("Zoubkova", 111)),
+                new ObjectHolder(1),
+                new ObjectHolder("str"),
+                new ObjectHolder(Arrays.asList(1, 2)),
+                new ObjectHolder(new ObjectHolder(new Street("Na Prikope", 1))),
+                new ObjectHolder(true),
+                new ObjectHolder(BigDecimal.TEN),
+                new ObjectHolder(new Street("Vodickova", 2)));
+
+        String expected = "[{\"value\":{\"name\":\"Zoubkova\",\"number\":111}},{\"value\":1},{\"value\":\"str\"},{\"value\":[1,2]}," +
+                "{\"value\":{\"value\":{\"name\":\"Na Prikope\",\"number\":1}}},{\"value\":true},{\"value\":10}," +
+                "{\"value\":{\"name\":\"Vodickova\",\"number\":2}}]";
+
+        Jsonb jsonb = new JsonBindingBuilder().build();
+        //second run uses serializers cached for runtime classes of the property
+        assertEquals(expected, jsonb.toJson(holders));
+        assertEquals(expected, jsonb.toJson(holders));
+    }
+
 }
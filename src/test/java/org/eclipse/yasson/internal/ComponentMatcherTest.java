@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.internal.components.AdapterBinding;
+import org.eclipse.yasson.internal.components.SerializerBinding;
+import org.junit.Test;
+
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.adapter.JsonbAdapter;
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests lookups of user components in {@link ComponentMatcher}, which are cached per runtime type.
+ */
+public class ComponentMatcherTest {
+
+    @Test
+    public void testSupertypeSerializer() {
+        final ComponentMatcher matcher = createMatcher(new JsonbConfig().withSerializers(new AnimalSerializer()));
+
+        final Optional<SerializerBinding<?>> first = matcher.getSerializerBinding(Dog.class, null);
+        assertTrue(first.isPresent());
+        assertSame(Animal.class, first.get().getBindingType());
+        final Optional<SerializerBinding<?>> second = matcher.getSerializerBinding(Dog.class, null);
+        assertTrue(second.isPresent());
+        assertSame(first.get(), second.get());
+
+        assertFalse(matcher.getSerializerBinding(String.class, null).isPresent());
+        assertFalse(matcher.getSerializerBinding(String.class, null).isPresent());
+        assertFalse(matcher.getDeserializerBinding(Dog.class, null).isPresent());
+        assertFalse(matcher.getDeserializerBinding(Dog.class, null).isPresent());
+    }
+
+    @Test
+    public void testGenericAdapter() {
+        final ComponentMatcher matcher = createMatcher(new JsonbConfig().withAdapters(new StringBoxAdapter()));
+        final Type stringBox = new TestTypeToken<Box<String>>(){}.getType();
+        final Type stringSubBox = new TestTypeToken<SubBox<String>>(){}.getType();
+        final Type integerBox = new TestTypeToken<Box<Integer>>(){}.getType();
+
+        final Optional<AdapterBinding> first = matcher.getAdapterBinding(stringSubBox, null);
+        assertTrue(first.isPresent());
+        final Optional<AdapterBinding> second = matcher.getAdapterBinding(stringSubBox, null);
+        assertTrue(second.isPresent());
+        assertSame(first.get(), second.get());
+        assertSame(first.get(), matcher.getAdapterBinding(stringBox, null).get());
+
+        assertFalse(matcher.getAdapterBinding(integerBox, null).isPresent());
+        assertFalse(matcher.getAdapterBinding(integerBox, null).isPresent());
+    }
+
+    private static ComponentMatcher createMatcher(JsonbConfig config) {
+        return new JsonbContext(config, JsonProvider.provider()).getComponentMatcher();
+    }
+
+    public static class Animal {
+    }
+
+    public static class Dog extends Animal {
+    }
+
+    public static class Box<T> {
+        public List<T> values = new ArrayList<>();
+    }
+
+    public static class SubBox<T> extends Box<T> {
+    }
+
+    public static class AnimalSerializer implements JsonbSerializer<Animal> {
+        @Override
+        public void serialize(Animal obj, JsonGenerator generator, SerializationContext ctx) {
+            generator.writeStartObject().writeEnd();
+        }
+    }
+
+    public static class StringBoxAdapter implements JsonbAdapter<Box<String>, String> {
+        @Override
+        public String adaptToJson(Box<String> obj) {
+            return String.join(",", obj.values);
+        }
+
+        @Override
+        public Box<String> adaptFromJson(String obj) {
+            final Box<String> box = new Box<>();
+            box.values.add(obj);
+            return box;
+        }
+    }
+}
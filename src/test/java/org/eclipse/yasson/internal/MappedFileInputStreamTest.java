@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests reading of files through mapped windows by {@link MappedFileInputStream}.
+ */
+public class MappedFileInputStreamTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testWindowsRemapped() throws IOException {
+        final byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        final Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content);
+
+        try (InputStream stream = new MappedFileInputStream(file, 64)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(0, stream.read());
+            out.write(0);
+            final byte[] buffer = new byte[100];
+            int count;
+            while ((count = stream.read(buffer, 0, buffer.length)) != -1) {
+                //read never crosses window boundary
+                assertTrue(count <= 64);
+                out.write(buffer, 0, count);
+            }
+            assertEquals(-1, stream.read());
+            assertArrayEquals(content, out.toByteArray());
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        try (InputStream stream = new MappedFileInputStream(temporaryFolder.newFile().toPath(), 64)) {
+            assertEquals(-1, stream.read());
+            assertEquals(-1, stream.read(new byte[8], 0, 8));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import javax.json.bind.config.PropertyNamingStrategy;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests naming strategies.
@@ -101,6 +102,27 @@ public class PropertyNamingStrategyTest {
         assertResult(result);
     }
     
+    @Test
+    public void testCaseInsensitiveNonAscii() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.CASE_INSENSITIVE));
+        //dotless i, long s and kelvin sign are equal ignoring case to i, s and k only through upper case
+        NonAsciiPojo result = jsonb.fromJson("{\"\u0131D\":\"abc\",\"\u017FTATUS\":\"def\",\"\u212Aey\":\"ghi\"}", NonAsciiPojo.class);
+        assertEquals("abc", result.id);
+        assertEquals("def", result.status);
+        assertEquals("ghi", result.key);
+    }
+
+    @Test
+    public void testCaseInsensitiveDuplicateNames() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.CASE_INSENSITIVE));
+        DuplicateNamesPojo result = jsonb.fromJson("{\"NAME\":\"abc\",\"name\":\"def\"}", DuplicateNamesPojo.class);
+        assertEquals("abc", result.NAME);
+        assertEquals("def", result.name);
+
+        result = jsonb.fromJson("{\"Name\":\"ghi\"}", DuplicateNamesPojo.class);
+        assertTrue("ghi".equals(result.name) ^ "ghi".equals(result.NAME));
+    }
+
     @Test
     public void testIdentityCaseSensitive() {
         Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.IDENTITY));
@@ -120,6 +142,17 @@ public class PropertyNamingStrategyTest {
         assertResult(result);
     }
     
+    public static class NonAsciiPojo {
+        public String id;
+        public String status;
+        public String key;
+    }
+
+    public static class DuplicateNamesPojo {
+        public String name;
+        public String NAME;
+    }
+
     private void assertResult(NamingPojo result) {
         assertEquals("abc", result.upperCasedProperty);
         assertEquals("def", result._startingWithUnderscoreProperty);
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import org.junit.Test;
+
+import javax.json.JsonValue;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests lookups of {@link DefaultSerializers}, which are cached per class.
+ */
+public class DefaultSerializersTest {
+
+    private final DefaultSerializers serializers = DefaultSerializers.getInstance();
+
+    @Test
+    public void testSuperclassProvider() {
+        //no own entry, resolved by walking up to java.util.Date
+        assertSame(serializers.findValueSerializerProvider(Date.class).get(),
+                serializers.findValueSerializerProvider(CustomDate.class).get());
+        //second lookup is served from the cache
+        assertSame(serializers.findValueSerializerProvider(Date.class).get(),
+                serializers.findValueSerializerProvider(CustomDate.class).get());
+        assertTrue(serializers.isKnownType(CustomDate.class));
+        //own entry wins over the superclass one
+        assertNotSame(serializers.findValueSerializerProvider(Date.class).get(),
+                serializers.findValueSerializerProvider(Timestamp.class).get());
+    }
+
+    @Test
+    public void testConditionProviders() {
+        //constant with a body is a subclass of its enum
+        assertTrue(serializers.findValueSerializerProvider(Operation.NEGATE.getClass()).isPresent());
+        assertSame(serializers.findValueSerializerProvider(JsonValue.class).get(),
+                serializers.findValueSerializerProvider(JsonValue.TRUE.getClass()).get());
+        assertFalse(serializers.findValueSerializerProvider(JsonValue.EMPTY_JSON_OBJECT.getClass()).isPresent());
+    }
+
+    @Test
+    public void testUnknownType() {
+        assertFalse(serializers.findValueSerializerProvider(DefaultSerializersTest.class).isPresent());
+        assertFalse(serializers.isKnownType(DefaultSerializersTest.class));
+        assertFalse(serializers.isKnownType(DefaultSerializersTest.class));
+        assertTrue(serializers.isKnownType(ArrayList.class));
+        assertTrue(serializers.isKnownType(JsonValue.EMPTY_JSON_OBJECT.getClass()));
+        assertTrue(serializers.isKnownType(int[].class));
+    }
+
+    private static class CustomDate extends Date {
+    }
+
+    private enum Operation {
+        NEGATE {
+            @Override
+            int apply(int value) {
+                return -value;
+            }
+        };
+
+        abstract int apply(int value);
+    }
+}
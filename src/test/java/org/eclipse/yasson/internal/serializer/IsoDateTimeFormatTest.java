@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.serializer;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Compares output and parsing of {@link IsoDateTimeFormat} with {@link DateTimeFormatter}.
+ */
+public class IsoDateTimeFormatTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    private static final int[] NANOS = {0, 100000000, 120000000, 123000000, 123400000, 123456000, 123456789, 1000, 1};
+
+    private static final ZoneId[] ZONES = {ZoneOffset.UTC, ZoneOffset.ofHours(-5), ZoneOffset.ofHoursMinutes(5, 30),
+            ZoneOffset.ofHoursMinutesSeconds(1, 2, 3), UTC, ZoneId.of("Europe/Prague"), ZoneId.of("America/St_Johns")};
+
+    @Test
+    public void testMatchesFormatter() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            final long epochSecond = (long) (random.nextDouble() * 300_000_000_000L) - 65_000_000_000L;
+            final Instant instant = Instant.ofEpochSecond(epochSecond, NANOS[random.nextInt(NANOS.length)]);
+            final ZonedDateTime zoned = instant.atZone(ZONES[random.nextInt(ZONES.length)]);
+            final boolean supportedYear = zoned.getYear() >= 0 && zoned.getYear() <= 9999;
+
+            assertFormat(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(zoned), IsoDateTimeFormat.formatZonedDateTime(zoned), supportedYear);
+            final OffsetDateTime offsetDateTime = zoned.toOffsetDateTime();
+            assertFormat(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime), IsoDateTimeFormat.formatOffsetDateTime(offsetDateTime), supportedYear);
+            final LocalDateTime localDateTime = zoned.toLocalDateTime();
+            assertFormat(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(localDateTime), IsoDateTimeFormat.formatLocalDateTime(localDateTime), supportedYear);
+            assertFormat(DateTimeFormatter.ISO_LOCAL_DATE.format(localDateTime), IsoDateTimeFormat.formatLocalDate(localDateTime.toLocalDate()), supportedYear);
+
+            if (supportedYear) {
+                final String zonedJson = IsoDateTimeFormat.formatZonedDateTime(zoned);
+                final ZonedDateTime parsedZoned = IsoDateTimeFormat.parseZonedDateTime(zonedJson);
+                if (parsedZoned != null) {
+                    assertEquals(ZonedDateTime.parse(zonedJson), parsedZoned);
+                }
+                assertEquals(offsetDateTime, IsoDateTimeFormat.parseOffsetDateTime(IsoDateTimeFormat.formatOffsetDateTime(offsetDateTime)));
+                assertEquals(localDateTime, IsoDateTimeFormat.parseLocalDateTime(IsoDateTimeFormat.formatLocalDateTime(localDateTime)));
+                assertEquals(localDateTime.toLocalDate(), IsoDateTimeFormat.parseLocalDate(IsoDateTimeFormat.formatLocalDate(localDateTime.toLocalDate())));
+                if (offsetDateTime.getOffset().getTotalSeconds() % 60 == 0) {
+                    final String iJson = IsoDateTimeFormat.formatStrictIJson(zoned.getYear(), zoned.getMonthValue(), zoned.getDayOfMonth(),
+                            zoned.getHour(), zoned.getMinute(), zoned.getSecond(), zoned.getOffset());
+                    assertEquals(JsonbDateFormatter.IJSON_DATE_FORMATTER.format(zoned), iJson);
+                    assertEquals(OffsetDateTime.parse(iJson, JsonbDateFormatter.IJSON_DATE_FORMATTER), IsoDateTimeFormat.parseStrictIJson(iJson));
+                }
+            }
+
+            final boolean supportedInstant = instant.atZone(ZoneOffset.UTC).getYear() >= 0 && instant.atZone(ZoneOffset.UTC).getYear() <= 9999;
+            assertFormat(DateTimeFormatter.ISO_INSTANT.format(instant), IsoDateTimeFormat.formatInstant(instant), supportedInstant);
+            assertFormat(JsonbDateFormatter.IJSON_DATE_FORMATTER.withZone(UTC).format(instant), IsoDateTimeFormat.formatInstantStrictIJson(instant), supportedInstant);
+            if (supportedInstant) {
+                assertEquals(instant, IsoDateTimeFormat.parseInstant(IsoDateTimeFormat.formatInstant(instant)));
+            }
+        }
+    }
+
+    @Test
+    public void testShortFormsParsed() {
+        assertEquals(LocalDateTime.of(2015, 2, 16, 13, 21), IsoDateTimeFormat.parseLocalDateTime("2015-02-16T13:21"));
+        assertEquals(OffsetDateTime.of(2015, 2, 16, 13, 21, 0, 0, ZoneOffset.ofHours(6)), IsoDateTimeFormat.parseOffsetDateTime("2015-02-16T13:21+06:00"));
+        assertEquals(LocalDateTime.of(2015, 2, 16, 13, 21, 5, 500000000), IsoDateTimeFormat.parseLocalDateTime("2015-02-16T13:21:05.5"));
+    }
+
+    @Test
+    public void testNonCanonicalLeftToFormatter() {
+        assertNull(IsoDateTimeFormat.parseLocalDate("2018-02-30"));
+        assertNull(IsoDateTimeFormat.parseLocalDate("+2018-01-01"));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2018-01-01t10:00:00"));
+        assertNull(IsoDateTimeFormat.parseLocalDateTime("2018-01-01T10:00:00."));
+        assertNull(IsoDateTimeFormat.parseInstant("2018-01-01T10:00Z"));
+        assertNull(IsoDateTimeFormat.parseInstant("2018-01-01T23:59:60Z"));
+        assertNull(IsoDateTimeFormat.parseInstant("2018-01-01T24:00:00Z"));
+        assertNull(IsoDateTimeFormat.parseZonedDateTime("2018-01-01T10:00:00+05:00[Asia/Almaty]"));
+        assertNull(IsoDateTimeFormat.parseZonedDateTime("2018-01-01T10:00:00Z[UTC]"));
+        assertNull(IsoDateTimeFormat.parseZonedDateTime("2018-10-28T02:30:00+01:00[Europe/Prague]"));
+        assertNull(IsoDateTimeFormat.formatLocalDate(LocalDate.of(10000, 1, 1)));
+        assertNull(IsoDateTimeFormat.formatInstant(Instant.parse("-0001-12-31T23:59:59Z")));
+    }
+
+    private static void assertFormat(String expected, String actual, boolean supported) {
+        if (supported) {
+            assertEquals(expected, actual);
+        } else {
+            assertNull(actual);
+        }
+    }
+}
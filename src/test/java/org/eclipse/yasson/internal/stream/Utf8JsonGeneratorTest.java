@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.stream;
+
+import org.junit.Test;
+
+import javax.json.Json;
+import javax.json.stream.JsonGenerationException;
+import javax.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares output of {@link Utf8JsonGenerator} with JSONP generator.
+ */
+public class Utf8JsonGeneratorTest {
+
+    private static final Consumer<JsonGenerator> DOCUMENT = generator -> generator
+            .writeStartObject()
+            .write("string", "quote \" backslash \\ tab \t control \u0001 příliš 😀")
+            .write("int", Integer.MIN_VALUE)
+            .write("long", Long.MIN_VALUE)
+            .write("double", 1.5e-10)
+            .write("bigDecimal", new BigDecimal("123.456"))
+            .write("bigInteger", BigInteger.TEN.pow(30))
+            .write("boolean", true)
+            .writeNull("null")
+            .writeStartArray("array")
+            .write(1)
+            .writeStartObject()
+            .writeEnd()
+            .writeStartArray()
+            .writeEnd()
+            .write(Json.createObjectBuilder().add("nested", Json.createArrayBuilder().add(false)).build())
+            .writeEnd()
+            .writeKey("key")
+            .write(-42L)
+            .writeEnd();
+
+    @Test
+    public void testOutputMatchesJsonp() {
+        assertEquals(generateJsonp(false), generate(false));
+    }
+
+    @Test
+    public void testPrettyPrintingMatchesJsonp() {
+        assertEquals(generateJsonp(true), generate(true));
+    }
+
+    @Test
+    public void testEncodedKey() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = new Utf8JsonGenerator(out, false, new BufferPool());
+        generator.writeStartObject();
+        ((Utf8JsonGenerator) generator).writeKey(Utf8JsonGenerator.encodeKey("k\"ey")).write("value");
+        generator.writeEnd();
+        generator.close();
+        assertEquals("{\"k\\\"ey\":\"value\"}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = JsonGenerationException.class)
+    public void testValueWithoutKey() {
+        new Utf8JsonGenerator(new ByteArrayOutputStream(), false, new BufferPool())
+                .writeStartObject()
+                .write("value");
+    }
+
+    @Test(expected = JsonGenerationException.class)
+    public void testIncompleteDocument() {
+        JsonGenerator generator = new Utf8JsonGenerator(new ByteArrayOutputStream(), false, new BufferPool());
+        generator.writeStartArray();
+        generator.close();
+    }
+
+    @Test
+    public void testMultipleValues() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = new Utf8JsonGenerator(out, false, new BufferPool(), true);
+        generator.writeStartObject().write("a", 1).writeEnd();
+        generator.write("string");
+        generator.writeStartArray().writeEnd();
+        generator.close();
+        assertEquals("{\"a\":1}\n\"string\"\n[]\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        out = new ByteArrayOutputStream();
+        new Utf8JsonGenerator(out, false, new BufferPool(), true).close();
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void testWriteElements() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8JsonGenerator generator = new Utf8JsonGenerator(out, false, new BufferPool());
+        generator.writeStartArray().write(1);
+        Utf8JsonGenerator first = generator.createElementsGenerator();
+        first.writeStartObject().write("a", "příliš").writeEnd().writeNull();
+        Utf8JsonGenerator empty = generator.createElementsGenerator();
+        Utf8JsonGenerator large = generator.createElementsGenerator();
+        for (int i = 0; i < 10000; i++) {
+            large.write(i);
+        }
+        generator.writeElements(first);
+        generator.writeElements(empty);
+        generator.writeElements(large);
+        generator.write(true).writeEnd();
+        generator.close();
+
+        StringBuilder expected = new StringBuilder("[1,{\"a\":\"příliš\"},null");
+        for (int i = 0; i < 10000; i++) {
+            expected.append(',').append(i);
+        }
+        expected.append(",true]");
+        assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = JsonGenerationException.class)
+    public void testElementsGeneratorEnd() {
+        Utf8JsonGenerator generator = new Utf8JsonGenerator(new ByteArrayOutputStream(), false, new BufferPool());
+        generator.writeStartArray();
+        generator.createElementsGenerator().write(1).writeEnd();
+    }
+
+    private static String generate(boolean prettyPrinting) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = new Utf8JsonGenerator(out, prettyPrinting, new BufferPool());
+        DOCUMENT.accept(generator);
+        generator.close();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String generateJsonp(boolean prettyPrinting) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = Json.createGeneratorFactory(prettyPrinting
+                ? Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)
+                : Collections.emptyMap())
+                .createGenerator(out, StandardCharsets.UTF_8);
+        DOCUMENT.accept(generator);
+        generator.close();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
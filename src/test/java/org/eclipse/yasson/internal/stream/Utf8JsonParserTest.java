@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.internal.stream;
+
+import org.junit.Test;
+
+import javax.json.Json;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Compares events and values of {@link Utf8JsonParser} with JSONP parser.
+ */
+public class Utf8JsonParserTest {
+
+    private static final String JSON = "{\"string\" : \"quote \\\" backslash \\\\ slash \\/ \\b\\f\\n\\r\\t \\u00e9\\ud83d\\ude00 příliš 😀\",\n"
+            + "\t\"int\": -2147483648, \"long\": 9223372036854775807, \"big\": 123456789012345678901234567890,\n"
+            + "\"decimal\": -0.5, \"exponent\": 1E+2, \"integralExponent\": 10e0, \"zero\": -0,\r\n"
+            + "\"true\": true, \"false\": false, \"null\": null, \"empty\": {}, \"array\": [1, [], [{}], \"\", {\"nested\": [false]}]}";
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @Test
+    public void testByteArrayMatchesJsonp() {
+        final byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        assertEquals(trace(Json.createParser(new StringReader(JSON))), trace(new Utf8JsonParser(bytes, 0, bytes.length, PROVIDER, null)));
+    }
+
+    @Test
+    public void testStreamMatchesJsonp() {
+        final InputStream stream = new OneByteInputStream(JSON.getBytes(StandardCharsets.UTF_8));
+        assertEquals(trace(Json.createParser(new StringReader(JSON))), trace(new Utf8JsonParser(stream, new BufferPool(), PROVIDER, null)));
+    }
+
+    @Test
+    public void testTokenLongerThanBuffer() {
+        final char[] chars = new char[BufferPool.BUFFER_SIZE * 3];
+        Arrays.fill(chars, 'ř');
+        final String json = "[\"" + new String(chars) + "\", 12345]";
+        final InputStream stream = new OneByteInputStream(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(trace(Json.createParser(new StringReader(json))), trace(new Utf8JsonParser(stream, new BufferPool(), PROVIDER, null)));
+    }
+
+    @Test
+    public void testGetObjectMatchesJsonp() {
+        final byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        final JsonParser parser = new Utf8JsonParser(bytes, 0, bytes.length, PROVIDER, null);
+        parser.next();
+        assertEquals(Json.createReader(new StringReader(JSON)).readObject(), parser.getObject());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test
+    public void testDictionaryKey() {
+        final String name = new String("value".toCharArray());
+        final KeyDictionary dictionary = new KeyDictionary();
+        dictionary.addAll(Arrays.asList(name, "other"));
+        final byte[] bytes = "{\"value\":1,\"unknown\":2}".getBytes(StandardCharsets.UTF_8);
+        final JsonParser parser = new Utf8JsonParser(bytes, 0, bytes.length, PROVIDER, dictionary);
+        parser.next();
+        parser.next();
+        assertSame(name, parser.getString());
+        parser.next();
+        parser.next();
+        assertEquals("unknown", parser.getString());
+    }
+
+    @Test
+    public void testSkipObject() {
+        final byte[] bytes = "[{\"a\":[1,{\"b\":2}]},3]".getBytes(StandardCharsets.UTF_8);
+        final JsonParser parser = new Utf8JsonParser(bytes, 0, bytes.length, PROVIDER, null);
+        parser.next();
+        parser.next();
+        parser.skipObject();
+        assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+        assertEquals(3, parser.getInt());
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void testUnexpectedChar() {
+        parseAll("{\"a\" 1}");
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void testUnexpectedEnd() {
+        parseAll("[1, 2");
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void testTrailingContent() {
+        parseAll("{} {}");
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void testInvalidEscape() {
+        parseAll("[\"\\x\"]");
+    }
+
+    private static void parseAll(String json) {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        final JsonParser parser = new Utf8JsonParser(bytes, 0, bytes.length, PROVIDER, null);
+        while (parser.hasNext()) {
+            parser.next();
+        }
+    }
+
+    @Test
+    public void testMultipleValues() {
+        final String json = "\uFEFF{\"a\": [1]}\n\"string\"\n\n12 true\r\n[]\n";
+        final InputStream stream = new OneByteInputStream(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("START_OBJECT", "KEY_NAME a", "START_ARRAY", "VALUE_NUMBER 1 true 1 1 1", "END_ARRAY", "END_OBJECT",
+                "VALUE_STRING string", "VALUE_NUMBER 12 true 12 12 12", "VALUE_TRUE", "START_ARRAY", "END_ARRAY"),
+                trace(new Utf8JsonParser(stream, new BufferPool(), PROVIDER, null, true)));
+        assertEquals(new ArrayList<String>(), trace(new Utf8JsonParser(new ByteArrayInputStream(" \n".getBytes(StandardCharsets.UTF_8)),
+                new BufferPool(), PROVIDER, null, true)));
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void testMultipleValuesNotAllowed() {
+        final byte[] bytes = "{}\n{}".getBytes(StandardCharsets.UTF_8);
+        trace(new Utf8JsonParser(bytes, 0, bytes.length, PROVIDER, null));
+    }
+
+    private static List<String> trace(JsonParser parser) {
+        final List<String> trace = new ArrayList<>();
+        while (parser.hasNext()) {
+            final JsonParser.Event event = parser.next();
+            switch (event) {
+                case KEY_NAME:
+                case VALUE_STRING:
+                    trace.add(event + " " + parser.getString());
+                    break;
+                case VALUE_NUMBER:
+                    trace.add(event + " " + parser.getString() + " " + parser.isIntegralNumber() + " " + parser.getInt()
+                            + " " + parser.getLong() + " " + parser.getBigDecimal());
+                    break;
+                default:
+                    trace.add(event.toString());
+                    break;
+            }
+        }
+        parser.close();
+        return trace;
+    }
+
+    /**
+     * Returns one byte per read, so that every token is split between reads.
+     */
+    private static final class OneByteInputStream extends ByteArrayInputStream {
+
+        private OneByteInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
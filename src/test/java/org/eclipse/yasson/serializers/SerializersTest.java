@@ -35,6 +35,7 @@ import javax.json.bind.JsonbException;
 import javax.json.bind.config.PropertyOrderStrategy;
 
 import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.YassonProperties;
 import org.eclipse.yasson.internal.model.ReverseTreeMap;
 import org.eclipse.yasson.serializers.model.AnnotatedGenericWithSerializerType;
 import org.eclipse.yasson.serializers.model.AnnotatedWithSerializerType;
@@ -48,6 +49,8 @@ import org.eclipse.yasson.serializers.model.CrateInner;
 import org.eclipse.yasson.serializers.model.CrateJsonObjectDeserializer;
 import org.eclipse.yasson.serializers.model.CrateSerializer;
 import org.eclipse.yasson.serializers.model.CrateSerializerWithConversion;
+import org.eclipse.yasson.serializers.model.EqualNode;
+import org.eclipse.yasson.serializers.model.EqualNodeSerializer;
 import org.eclipse.yasson.serializers.model.GenericPropertyPojo;
 import org.eclipse.yasson.serializers.model.GenericPropertyPojoSerializer;
 import org.eclipse.yasson.serializers.model.NumberDeserializer;
@@ -334,6 +337,37 @@ public class SerializersTest {
         }
     }
 
+    @Test
+    public void testEqualObjectsNotRecursive() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withSerializers(new EqualNodeSerializer()));
+        EqualNode node = new EqualNode("parent", new EqualNode("child", null));
+        assertEquals("{\"name\":\"parent\",\"child\":{\"name\":\"child\"}}", jsonb.toJson(node));
+    }
+
+    @Test
+    public void testAcyclicMaxDepth() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withSerializers(new EqualNodeSerializer())
+                .setProperty(YassonProperties.ACYCLIC_MAX_DEPTH, 2));
+        EqualNode node = new EqualNode("parent", new EqualNode("child", null));
+        assertEquals("{\"name\":\"parent\",\"child\":{\"name\":\"child\"}}", jsonb.toJson(node));
+
+        try {
+            jsonb.toJson(new EqualNode("grandparent", node));
+            fail();
+        } catch (JsonbException ex) {
+        }
+
+        Jsonb recursive = JsonbBuilder.create(new JsonbConfig().withSerializers(new RecursiveSerializer())
+                .setProperty(YassonProperties.ACYCLIC_MAX_DEPTH, 10));
+        Box box = new Box();
+        box.boxStr = "Box to serialize";
+        try {
+            recursive.toJson(box);
+            fail();
+        } catch (JsonbException ex) {
+        }
+    }
+
     @Test
     public void testAuthor() {
         Author author = new Author("Sarah", "Connor");
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.serializers.model;
+
+/**
+ * Node equal to every other node, distinct instances must not be taken for a recursive reference.
+ */
+public class EqualNode {
+
+    public String name;
+
+    public EqualNode child;
+
+    public EqualNode() {
+    }
+
+    public EqualNode(String name, EqualNode child) {
+        this.name = name;
+        this.child = child;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EqualNode;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ ******************************************************************************/
+package org.eclipse.yasson.serializers.model;
+
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * Serializes child nodes with serialization context, so nested nodes are processed by the same serializer.
+ */
+public class EqualNodeSerializer implements JsonbSerializer<EqualNode> {
+    @Override
+    public void serialize(EqualNode node, JsonGenerator generator, SerializationContext ctx) {
+        generator.writeStartObject();
+        generator.write("name", node.name);
+        if (node.child != null) {
+            ctx.serialize("child", node.child, generator);
+        }
+        generator.writeEnd();
+    }
+}
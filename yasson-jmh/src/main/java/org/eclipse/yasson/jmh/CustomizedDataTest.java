@@ -0,0 +1,53 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.jmh.model.CustomizedData;
+import org.openjdk.jmh.annotations.*;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for creators, adapters, user serializers and {@link javax.json.JsonValue} properties.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomizedDataTest {
+
+    private static final Type LIST_TYPE = new ArrayList<CustomizedData>() { }.getClass().getGenericSuperclass();
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private Jsonb jsonb;
+
+    private List<CustomizedData> data;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonb = JsonbBuilder.create();
+        data = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            data.add(CustomizedData.create(i));
+        }
+        json = jsonb.toJson(data, LIST_TYPE);
+    }
+
+    @Benchmark
+    public String testSerialize() {
+        return jsonb.toJson(data, LIST_TYPE);
+    }
+
+    @Benchmark
+    public List<CustomizedData> testDeserialize() {
+        return jsonb.fromJson(json, LIST_TYPE);
+    }
+}
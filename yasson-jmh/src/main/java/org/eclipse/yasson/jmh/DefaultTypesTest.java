@@ -0,0 +1,53 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.jmh.model.DefaultTypesData;
+import org.openjdk.jmh.annotations.*;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for types handled by default serializers, one property of each type.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DefaultTypesTest {
+
+    private static final Type LIST_TYPE = new ArrayList<DefaultTypesData>() { }.getClass().getGenericSuperclass();
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private Jsonb jsonb;
+
+    private List<DefaultTypesData> data;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonb = JsonbBuilder.create();
+        data = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            data.add(DefaultTypesData.create(i));
+        }
+        json = jsonb.toJson(data, LIST_TYPE);
+    }
+
+    @Benchmark
+    public String testSerialize() {
+        return jsonb.toJson(data, LIST_TYPE);
+    }
+
+    @Benchmark
+    public List<DefaultTypesData> testDeserialize() {
+        return jsonb.fromJson(json, LIST_TYPE);
+    }
+}
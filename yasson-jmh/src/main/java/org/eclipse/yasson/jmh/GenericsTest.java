@@ -0,0 +1,45 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.jmh.model.GenericsData;
+import org.openjdk.jmh.annotations.*;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for maps and nested generic types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GenericsTest {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private Jsonb jsonb;
+
+    private GenericsData data;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonb = JsonbBuilder.create();
+        data = GenericsData.create(size);
+        json = jsonb.toJson(data);
+    }
+
+    @Benchmark
+    public String testSerialize() {
+        return jsonb.toJson(data);
+    }
+
+    @Benchmark
+    public GenericsData testDeserialize() {
+        return jsonb.fromJson(json, GenericsData.class);
+    }
+}
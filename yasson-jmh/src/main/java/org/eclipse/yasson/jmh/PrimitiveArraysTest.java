@@ -0,0 +1,45 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.jmh.model.PrimitiveArraysData;
+import org.openjdk.jmh.annotations.*;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for arrays of primitive types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveArraysTest {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private Jsonb jsonb;
+
+    private PrimitiveArraysData data;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonb = JsonbBuilder.create();
+        data = PrimitiveArraysData.create(size);
+        json = jsonb.toJson(data);
+    }
+
+    @Benchmark
+    public String testSerialize() {
+        return jsonb.toJson(data);
+    }
+
+    @Benchmark
+    public PrimitiveArraysData testDeserialize() {
+        return jsonb.fromJson(json, PrimitiveArraysData.class);
+    }
+}
@@ -0,0 +1,50 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.PropertyAccessorStrategy;
+import org.eclipse.yasson.YassonProperties;
+import org.eclipse.yasson.jmh.model.AccessorData;
+import org.openjdk.jmh.annotations.*;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares property accessor strategies on data accessed with getters and setters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropertyAccessorTest {
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "LAMBDA"})
+    private PropertyAccessorStrategy strategy;
+
+    private Jsonb jsonb;
+
+    private AccessorData data;
+
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.jsonb = JsonbBuilder.create(new JsonbConfig().setProperty(YassonProperties.PROPERTY_ACCESSOR_STRATEGY, strategy));
+        this.data = AccessorData.create();
+        this.json = jsonb.toJson(data);
+    }
+
+    @Benchmark
+    public String testSerialize() {
+        return jsonb.toJson(data);
+    }
+
+    @Benchmark
+    public AccessorData testDeserialize() {
+        return jsonb.fromJson(json, AccessorData.class);
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.eclipse.yasson.jmh.model;
+
+/**
+ * Data with properties accessed with getters and setters only.
+ */
+public class AccessorData {
+
+    private String stringValue;
+
+    private int intValue;
+
+    private long longValue;
+
+    private boolean booleanValue;
+
+    private Double doubleValue;
+
+    private String otherStringValue;
+
+    public AccessorData() {
+    }
+
+    public static AccessorData create() {
+        AccessorData data = new AccessorData();
+        data.stringValue = "Short string";
+        data.intValue = 10;
+        data.longValue = 1234567890123L;
+        data.booleanValue = true;
+        data.doubleValue = 3.14;
+        data.otherStringValue = "Other string";
+        return data;
+    }
+
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    public void setStringValue(String stringValue) {
+        this.stringValue = stringValue;
+    }
+
+    public int getIntValue() {
+        return intValue;
+    }
+
+    public void setIntValue(int intValue) {
+        this.intValue = intValue;
+    }
+
+    public long getLongValue() {
+        return longValue;
+    }
+
+    public void setLongValue(long longValue) {
+        this.longValue = longValue;
+    }
+
+    public boolean isBooleanValue() {
+        return booleanValue;
+    }
+
+    public void setBooleanValue(boolean booleanValue) {
+        this.booleanValue = booleanValue;
+    }
+
+    public Double getDoubleValue() {
+        return doubleValue;
+    }
+
+    public void setDoubleValue(Double doubleValue) {
+        this.doubleValue = doubleValue;
+    }
+
+    public String getOtherStringValue() {
+        return otherStringValue;
+    }
+
+    public void setOtherStringValue(String otherStringValue) {
+        this.otherStringValue = otherStringValue;
+    }
+}
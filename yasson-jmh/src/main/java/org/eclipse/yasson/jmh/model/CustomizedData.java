@@ -0,0 +1,145 @@
+package org.eclipse.yasson.jmh.model;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.bind.adapter.JsonbAdapter;
+import javax.json.bind.annotation.JsonbCreator;
+import javax.json.bind.annotation.JsonbProperty;
+import javax.json.bind.annotation.JsonbTypeAdapter;
+import javax.json.bind.annotation.JsonbTypeDeserializer;
+import javax.json.bind.annotation.JsonbTypeSerializer;
+import javax.json.bind.serializer.DeserializationContext;
+import javax.json.bind.serializer.JsonbDeserializer;
+import javax.json.bind.serializer.JsonbSerializer;
+import javax.json.bind.serializer.SerializationContext;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
+import java.lang.reflect.Type;
+
+/**
+ * Data created with {@link JsonbCreator}, with adapted, custom serialized and {@link JsonValue} properties.
+ */
+public class CustomizedData {
+
+    /**
+     * Adapts {@link ScalarData} to a string.
+     */
+    public static class ScalarDataAdapter implements JsonbAdapter<ScalarData, String> {
+
+        @Override
+        public String adaptToJson(ScalarData obj) {
+            return obj.getIntegerValue() + ":" + obj.getStringValue();
+        }
+
+        @Override
+        public ScalarData adaptFromJson(String obj) {
+            int separator = obj.indexOf(':');
+            return new ScalarData(obj.substring(separator + 1), Integer.valueOf(obj.substring(0, separator)));
+        }
+    }
+
+    /**
+     * Serializes {@link ScalarData} to an array.
+     */
+    public static class ScalarDataSerializer implements JsonbSerializer<ScalarData> {
+
+        @Override
+        public void serialize(ScalarData obj, JsonGenerator generator, SerializationContext ctx) {
+            generator.writeStartArray();
+            generator.write(obj.getIntegerValue());
+            generator.write(obj.getStringValue());
+            generator.writeEnd();
+        }
+    }
+
+    /**
+     * Deserializes {@link ScalarData} from an array.
+     */
+    public static class ScalarDataDeserializer implements JsonbDeserializer<ScalarData> {
+
+        @Override
+        public ScalarData deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+            parser.next();
+            int integerValue = parser.getInt();
+            parser.next();
+            String stringValue = parser.getString();
+            parser.next();
+            return new ScalarData(stringValue, integerValue);
+        }
+    }
+
+    private final String name;
+
+    private final long id;
+
+    @JsonbTypeAdapter(ScalarDataAdapter.class)
+    private ScalarData adapted;
+
+    @JsonbTypeSerializer(ScalarDataSerializer.class)
+    @JsonbTypeDeserializer(ScalarDataDeserializer.class)
+    private ScalarData serialized;
+
+    private JsonObject jsonObject;
+
+    private JsonValue jsonValue;
+
+    @JsonbCreator
+    public CustomizedData(@JsonbProperty("name") String name, @JsonbProperty("id") long id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    public static CustomizedData create(int seed) {
+        CustomizedData data = new CustomizedData("Name " + seed, seed);
+        data.adapted = new ScalarData("Adapted " + seed, seed);
+        data.serialized = new ScalarData("Serialized " + seed, seed);
+        data.jsonObject = Json.createObjectBuilder()
+                .add("string", "Object " + seed)
+                .add("number", seed)
+                .add("array", Json.createArrayBuilder().add(true).add(seed).addNull())
+                .build();
+        data.jsonValue = Json.createValue(seed);
+        return data;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public ScalarData getAdapted() {
+        return adapted;
+    }
+
+    public void setAdapted(ScalarData adapted) {
+        this.adapted = adapted;
+    }
+
+    public ScalarData getSerialized() {
+        return serialized;
+    }
+
+    public void setSerialized(ScalarData serialized) {
+        this.serialized = serialized;
+    }
+
+    public JsonObject getJsonObject() {
+        return jsonObject;
+    }
+
+    public void setJsonObject(JsonObject jsonObject) {
+        this.jsonObject = jsonObject;
+    }
+
+    public JsonValue getJsonValue() {
+        return jsonValue;
+    }
+
+    public void setJsonValue(JsonValue jsonValue) {
+        this.jsonValue = jsonValue;
+    }
+}
@@ -0,0 +1,163 @@
+package org.eclipse.yasson.jmh.model;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Data with a property of each type handled by default serializers.
+ */
+public class DefaultTypesData {
+
+    public enum Level {
+        LOW, MEDIUM, HIGH
+    }
+
+    public Boolean booleanValue;
+
+    public byte byteValue;
+
+    public char charValue;
+
+    public short shortValue;
+
+    public Integer integerValue;
+
+    public long longValue;
+
+    public float floatValue;
+
+    public Double doubleValue;
+
+    public Number numberValue;
+
+    public BigInteger bigInteger;
+
+    public BigDecimal bigDecimal;
+
+    public String string;
+
+    public Level level;
+
+    public URI uri;
+
+    public URL url;
+
+    public UUID uuid;
+
+    public Optional<String> optional;
+
+    public OptionalInt optionalInt;
+
+    public OptionalLong optionalLong;
+
+    public OptionalDouble optionalDouble;
+
+    public Calendar calendar;
+
+    public Date date;
+
+    public java.sql.Date sqlDate;
+
+    public Timestamp timestamp;
+
+    public TimeZone timeZone;
+
+    public XMLGregorianCalendar xmlGregorianCalendar;
+
+    public Instant instant;
+
+    public LocalDate localDate;
+
+    public LocalTime localTime;
+
+    public LocalDateTime localDateTime;
+
+    public OffsetTime offsetTime;
+
+    public OffsetDateTime offsetDateTime;
+
+    public ZonedDateTime zonedDateTime;
+
+    public Duration duration;
+
+    public Period period;
+
+    public ZoneId zoneId;
+
+    public ZoneOffset zoneOffset;
+
+    public static DefaultTypesData create(int seed) {
+        final ZonedDateTime dateTime = ZonedDateTime.of(2018, 11, 20, 10, 15, 30, 0, ZoneId.of("Europe/Prague")).plusMinutes(seed);
+        final GregorianCalendar calendar = GregorianCalendar.from(dateTime);
+        DefaultTypesData data = new DefaultTypesData();
+        data.booleanValue = seed % 2 == 0;
+        data.byteValue = (byte) seed;
+        data.charValue = (char) ('a' + seed % 26);
+        data.shortValue = (short) seed;
+        data.integerValue = seed;
+        data.longValue = 1234567890123L + seed;
+        data.floatValue = 1.5f + seed;
+        data.doubleValue = 3.14 * seed;
+        data.numberValue = seed;
+        data.bigInteger = BigInteger.TEN.pow(30).add(BigInteger.valueOf(seed));
+        data.bigDecimal = new BigDecimal("12345.6789").add(BigDecimal.valueOf(seed));
+        data.string = "String value " + seed;
+        data.level = Level.values()[seed % Level.values().length];
+        data.uri = URI.create("https://www.eclipse.org/yasson/" + seed);
+        try {
+            data.url = new URL("https://www.eclipse.org/yasson/" + seed);
+            data.xmlGregorianCalendar = DatatypeFactory.newInstance().newXMLGregorianCalendar(calendar);
+        } catch (MalformedURLException | DatatypeConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+        data.uuid = new UUID(seed, seed);
+        data.optional = Optional.of("Optional " + seed);
+        data.optionalInt = OptionalInt.of(seed);
+        data.optionalLong = OptionalLong.of(seed);
+        data.optionalDouble = OptionalDouble.of(seed / 3d);
+        data.calendar = calendar;
+        data.date = Date.from(dateTime.toInstant());
+        data.sqlDate = java.sql.Date.valueOf(dateTime.toLocalDate());
+        data.timestamp = Timestamp.from(dateTime.toInstant());
+        data.timeZone = TimeZone.getTimeZone(dateTime.getZone());
+        data.instant = dateTime.toInstant();
+        data.localDate = dateTime.toLocalDate();
+        data.localTime = dateTime.toLocalTime();
+        data.localDateTime = dateTime.toLocalDateTime();
+        data.offsetTime = dateTime.toOffsetDateTime().toOffsetTime();
+        data.offsetDateTime = dateTime.toOffsetDateTime();
+        data.zonedDateTime = dateTime;
+        data.duration = Duration.ofSeconds(seed, 500);
+        data.period = Period.of(1, 2, seed % 28);
+        data.zoneId = dateTime.getZone();
+        data.zoneOffset = dateTime.getOffset();
+        return data;
+    }
+}
@@ -0,0 +1,72 @@
+package org.eclipse.yasson.jmh.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Data with maps and nested generic types.
+ */
+public class GenericsData {
+
+    /**
+     * Generic wrapper, which type is resolved from the declaring property.
+     *
+     * @param <T> type of the wrapped value
+     */
+    public static class Wrapper<T> {
+
+        public T value;
+
+        public List<T> values;
+    }
+
+    public Map<String, ScalarData> scalarMap;
+
+    public Map<String, List<Integer>> listMap;
+
+    public List<Map<String, ScalarData>> mapList;
+
+    public TreeMap<String, Optional<String>> optionalMap;
+
+    public Wrapper<ScalarData> scalarWrapper;
+
+    public Wrapper<Wrapper<Long>> nestedWrapper;
+
+    public static GenericsData create(int size) {
+        GenericsData data = new GenericsData();
+        data.scalarMap = new HashMap<>();
+        data.listMap = new LinkedHashMap<>();
+        data.mapList = new ArrayList<>();
+        data.optionalMap = new TreeMap<>();
+        data.scalarWrapper = new Wrapper<>();
+        data.scalarWrapper.value = new ScalarData();
+        data.scalarWrapper.values = new ArrayList<>();
+        data.nestedWrapper = new Wrapper<>();
+        data.nestedWrapper.value = new Wrapper<>();
+        data.nestedWrapper.value.value = (long) size;
+        data.nestedWrapper.value.values = new ArrayList<>();
+        data.nestedWrapper.values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            data.scalarMap.put("key" + i, new ScalarData("strValue" + i, i));
+            List<Integer> list = new ArrayList<>();
+            list.add(i);
+            list.add(i + 1);
+            data.listMap.put("key" + i, list);
+            Map<String, ScalarData> map = new HashMap<>();
+            map.put("key" + i, new ScalarData("strValue" + i, i));
+            data.mapList.add(map);
+            data.optionalMap.put("key" + i, i % 2 == 0 ? Optional.of("strValue" + i) : Optional.empty());
+            data.scalarWrapper.values.add(new ScalarData("strValue" + i, i));
+            data.nestedWrapper.value.values.add((long) i);
+            Wrapper<Long> wrapper = new Wrapper<>();
+            wrapper.value = (long) i;
+            data.nestedWrapper.values.add(wrapper);
+        }
+        return data;
+    }
+}
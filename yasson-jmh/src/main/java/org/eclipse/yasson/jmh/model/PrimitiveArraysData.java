@@ -0,0 +1,46 @@
+package org.eclipse.yasson.jmh.model;
+
+/**
+ * Data with arrays of all primitive types.
+ */
+public class PrimitiveArraysData {
+
+    public boolean[] booleans;
+
+    public byte[] bytes;
+
+    public char[] chars;
+
+    public short[] shorts;
+
+    public int[] ints;
+
+    public long[] longs;
+
+    public float[] floats;
+
+    public double[] doubles;
+
+    public static PrimitiveArraysData create(int size) {
+        PrimitiveArraysData data = new PrimitiveArraysData();
+        data.booleans = new boolean[size];
+        data.bytes = new byte[size];
+        data.chars = new char[size];
+        data.shorts = new short[size];
+        data.ints = new int[size];
+        data.longs = new long[size];
+        data.floats = new float[size];
+        data.doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            data.booleans[i] = i % 2 == 0;
+            data.bytes[i] = (byte) i;
+            data.chars[i] = (char) ('a' + i % 26);
+            data.shorts[i] = (short) i;
+            data.ints[i] = i * 31;
+            data.longs[i] = i * 1234567890123L;
+            data.floats[i] = i / 7f;
+            data.doubles[i] = i / 3d;
+        }
+        return data;
+    }
+}